@@ -0,0 +1,74 @@
+package org.reactome.release.verifier.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reactome.release.verifier.FileUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extraction of a generated tar gzipped archive and decompression of a generated gzipped file.  Each invocation
+ * writes its output from scratch; clearing the previous output is not measured.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ArchiveBenchmark {
+    private static final int TAR_FILE_SIZE = 256 * 1024;
+    private static final long GZIP_UNCOMPRESSED_SIZE = 64L * 1024 * 1024;
+
+    @Param({"16", "256"})
+    public int tarFileCount;
+
+    private Path directory;
+    private Path tgzFilePath;
+    private Path gzFilePath;
+    private Path extractionDirectory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.directory = Fixtures.createTemporaryDirectory();
+        this.tgzFilePath = Fixtures.writeTarGz(this.directory.resolve("archive.tgz"), this.tarFileCount, TAR_FILE_SIZE);
+        this.gzFilePath = Fixtures.writeGzip(this.directory.resolve("file.txt.gz"), GZIP_UNCOMPRESSED_SIZE);
+        this.extractionDirectory = this.directory.resolve("extracted");
+    }
+
+    @Setup(Level.Invocation)
+    public void clearExtractionDirectory() throws IOException {
+        Fixtures.deleteTemporaryDirectory(this.extractionDirectory);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Fixtures.deleteTemporaryDirectory(this.directory);
+    }
+
+    @Benchmark
+    public void untarTgzFile() throws IOException {
+        FileUtils.untarTgzFile(this.tgzFilePath.toString(), this.extractionDirectory.toString());
+    }
+
+    @Benchmark
+    public void gunzipFile() throws IOException {
+        FileUtils.gunzipFile(this.gzFilePath);
+    }
+}
@@ -0,0 +1,42 @@
+package org.reactome.release.verifier.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar.  Accepts the standard JMH command line options, but writes results as JSON to
+ * "jmh-result.json" unless another format or file is given with -rf or -rff, so runs against different releases of
+ * the library can be compared.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class BenchmarkRunner {
+    private static final String DEFAULT_RESULT_FILE_NAME = "jmh-result.json";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+
+        OptionsBuilder optionsBuilder = new OptionsBuilder();
+        optionsBuilder.parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            optionsBuilder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            optionsBuilder.result(DEFAULT_RESULT_FILE_NAME);
+        }
+
+        Runner runner = new Runner(optionsBuilder.build());
+        if (commandLineOptions.shouldList()) {
+            runner.list();
+        } else {
+            runner.run();
+        }
+    }
+}
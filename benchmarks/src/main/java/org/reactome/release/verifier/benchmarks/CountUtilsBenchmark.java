@@ -0,0 +1,76 @@
+package org.reactome.release.verifier.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reactome.release.verifier.CountUtils;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drop detection over many pairs of counts, one pair per call and with the array-based batch methods.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CountUtilsBenchmark {
+    private static final int PERCENTAGE = 5;
+
+    @Param({"1000", "1000000"})
+    public int countPairs;
+
+    private long[] newCounts;
+    private long[] oldCounts;
+    private double[] percentChanges;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42L);
+        this.newCounts = new long[this.countPairs];
+        this.oldCounts = new long[this.countPairs];
+        this.percentChanges = new double[this.countPairs];
+        for (int i = 0; i < this.countPairs; i++) {
+            this.oldCounts[i] = random.nextInt(1000000);
+            // Mostly small changes either way, with an occasional drop beyond the tolerance
+            this.newCounts[i] = this.oldCounts[i] * (90 + random.nextInt(20)) / 100;
+        }
+    }
+
+    @Benchmark
+    public BitSet singlePairCalls() {
+        BitSet drops = new BitSet(this.countPairs);
+        for (int i = 0; i < this.countPairs; i++) {
+            if (CountUtils.greaterThanOrEqualToXPercentDrop(this.newCounts[i], this.oldCounts[i], PERCENTAGE)) {
+                drops.set(i);
+            }
+        }
+        return drops;
+    }
+
+    @Benchmark
+    public BitSet batch() {
+        return CountUtils.greaterThanOrEqualToXPercentDrops(this.newCounts, this.oldCounts, PERCENTAGE);
+    }
+
+    @Benchmark
+    public double[] batchPercentChanges() {
+        return CountUtils.percentChanges(this.newCounts, this.oldCounts, this.percentChanges);
+    }
+}
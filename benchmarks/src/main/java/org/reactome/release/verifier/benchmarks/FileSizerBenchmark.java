@@ -0,0 +1,73 @@
+package org.reactome.release.verifier.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactome.release.verifier.FileSizer;
+import org.reactome.release.verifier.FileVerificationEngine;
+import org.reactome.release.verifier.Manifest;
+import org.reactome.release.verifier.Results;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Size checks of every file of a generated output directory, one FileSizer at a time and through the
+ * FileVerificationEngine.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FileSizerBenchmark {
+    private static final int MAXIMUM_FILE_SIZE = 4096;
+    private static final int DROP_TOLERANCE_PERCENTAGE = 10;
+
+    @Param({"1000", "10000"})
+    public int fileCount;
+
+    private Path directory;
+    private Manifest manifest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.directory = Fixtures.createTemporaryDirectory();
+        this.manifest = Manifest.load(
+            Fixtures.writeFilesAndManifest(this.directory, this.fileCount, MAXIMUM_FILE_SIZE));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Fixtures.deleteTemporaryDirectory(this.directory);
+    }
+
+    @Benchmark
+    public void constructFileSizers(Blackhole blackhole) {
+        for (String fileName : this.manifest.getFileNames()) {
+            FileSizer fileSizer = new FileSizer(this.directory, this.directory.resolve(fileName), this.manifest);
+            blackhole.consume(fileSizer.currentFileTooSmall(DROP_TOLERANCE_PERCENTAGE));
+        }
+    }
+
+    @Benchmark
+    public Results verifyWithEngine() throws IOException {
+        return FileVerificationEngine.create(this.directory, this.manifest, DROP_TOLERANCE_PERCENTAGE, 1).verify();
+    }
+}
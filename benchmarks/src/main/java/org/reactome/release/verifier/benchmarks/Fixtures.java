@@ -0,0 +1,121 @@
+package org.reactome.release.verifier.benchmarks;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.reactome.release.verifier.FileUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Generates the files the benchmarks run against.  Content is pseudo-random but seeded, so every run (and every
+ * release of the library being compared) sees the same fixtures, and is made of text lines so it compresses about as
+ * well as real release files.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+final class Fixtures {
+    private static final long SEED = 42L;
+    private static final String[] WORDS = {
+        "R-HSA-", "Homo sapiens", "Pathway", "Reaction", "Complex", "UniProt", "ChEBI", "Ensembl", "participant",
+        "hasEvent", "input", "output", "catalystActivity", "regulatedBy", "species", "compartment"
+    };
+
+    private Fixtures() {
+    }
+
+    static Path createTemporaryDirectory() throws IOException {
+        return Files.createTempDirectory("verifier-benchmark");
+    }
+
+    static void deleteTemporaryDirectory(Path directory) throws IOException {
+        if (directory != null && Files.exists(directory)) {
+            FileUtils.deleteDirectory(directory);
+        }
+    }
+
+    static String getFileName(int index) {
+        return "file_" + index + ".txt";
+    }
+
+    /**
+     * Writes a files and sizes list naming files "file_0.txt", "file_1.txt", ...
+     */
+    static Path writeManifest(Path manifestFilePath, int entryCount) throws IOException {
+        Random random = new Random(SEED);
+        try (BufferedWriter writer = Files.newBufferedWriter(manifestFilePath, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < entryCount; i++) {
+                writer.write(random.nextInt(1 << 30) + "\t" + getFileName(i));
+                writer.newLine();
+            }
+        }
+        return manifestFilePath;
+    }
+
+    /**
+     * Creates files "file_0.txt", "file_1.txt", ... in a directory along with a files and sizes list of them
+     */
+    static Path writeFilesAndManifest(Path directory, int fileCount, int maximumFileSize) throws IOException {
+        Random random = new Random(SEED);
+        Path manifestFilePath = directory.resolve("files_and_sizes.txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(manifestFilePath, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < fileCount; i++) {
+                byte[] content = createContent(random, random.nextInt(maximumFileSize) + 1);
+                Files.write(directory.resolve(getFileName(i)), content);
+                writer.write(content.length + "\t" + getFileName(i));
+                writer.newLine();
+            }
+        }
+        return manifestFilePath;
+    }
+
+    static Path writeTarGz(Path tgzFilePath, int fileCount, int fileSize) throws IOException {
+        Random random = new Random(SEED);
+        try (TarArchiveOutputStream tarOutputStream = new TarArchiveOutputStream(new GzipCompressorOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(tgzFilePath))))) {
+
+            tarOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            for (int i = 0; i < fileCount; i++) {
+                byte[] content = createContent(random, fileSize);
+                TarArchiveEntry entry = new TarArchiveEntry("data/" + getFileName(i));
+                entry.setSize(content.length);
+                tarOutputStream.putArchiveEntry(entry);
+                tarOutputStream.write(content);
+                tarOutputStream.closeArchiveEntry();
+            }
+        }
+        return tgzFilePath;
+    }
+
+    static Path writeGzip(Path gzFilePath, long uncompressedSize) throws IOException {
+        Random random = new Random(SEED);
+        try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(gzFilePath), 64 * 1024)) {
+            long remaining = uncompressedSize;
+            while (remaining > 0) {
+                byte[] content = createContent(random, (int) Math.min(remaining, 1024 * 1024));
+                outputStream.write(content);
+                remaining -= content.length;
+            }
+        }
+        return gzFilePath;
+    }
+
+    private static byte[] createContent(Random random, int size) {
+        StringBuilder content = new StringBuilder(size + 32);
+        while (content.length() < size) {
+            content.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(100000));
+            content.append(random.nextInt(8) == 0 ? '\n' : '\t');
+        }
+        content.setLength(size);
+        return content.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+}
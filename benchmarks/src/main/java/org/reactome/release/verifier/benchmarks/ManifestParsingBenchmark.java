@@ -0,0 +1,59 @@
+package org.reactome.release.verifier.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reactome.release.verifier.Manifest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of the files and sizes list.  FileUtils.getExpectedFileNameToSizeMap() always reads the list from the
+ * working directory, so the same parsing is measured through Manifest.load on a generated list instead.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ManifestParsingBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int entryCount;
+
+    private Path directory;
+    private Path manifestFilePath;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.directory = Fixtures.createTemporaryDirectory();
+        this.manifestFilePath = Fixtures.writeManifest(this.directory.resolve("files_and_sizes.txt"), this.entryCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Fixtures.deleteTemporaryDirectory(this.directory);
+    }
+
+    @Benchmark
+    public Map<String, Long> parseFileNameToSizeMap() throws IOException {
+        return Manifest.load(this.manifestFilePath).getFileNameToSizeMap();
+    }
+}
@@ -0,0 +1,61 @@
+package org.reactome.release.verifier.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactome.release.verifier.ResultRecord;
+import org.reactome.release.verifier.Results;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accumulating the results of many passing file checks the way the file verification does (one Results per file,
+ * merged into the run's Results), with and without rendering their messages.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ResultsBenchmark {
+    private static final Path DIRECTORY = Paths.get("/data/release/step");
+    private static final ResultRecord.Formatter SIZE_FORMATTER = resultRecord -> String.format(
+        "%s (expected %d bytes and got %d bytes)",
+        resultRecord.getSubject(), resultRecord.getExpected(), resultRecord.getActual());
+
+    @Param({"10000", "100000"})
+    public int recordCount;
+
+    @Benchmark
+    public Results accumulate() {
+        Results results = new Results();
+        for (int i = 0; i < this.recordCount; i++) {
+            Results fileResults = new Results();
+            fileResults.add(ResultRecord.create("file-size", ResultRecord.Severity.INFO,
+                DIRECTORY.resolve(Fixtures.getFileName(i)), 1000L + i, 1000L + i, SIZE_FORMATTER));
+            results.mergeResults(fileResults);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public void accumulateAndRender(Blackhole blackhole) {
+        for (String infoMessage : accumulate().getInfoMessages()) {
+            blackhole.consume(infoMessage);
+        }
+    }
+}
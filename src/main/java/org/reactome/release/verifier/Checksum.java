@@ -0,0 +1,83 @@
+package org.reactome.release.verifier;
+
+import java.util.Objects;
+
+/**
+ * Content hash of a file, written in a manifest as "algorithm:hex" (e.g. "sha256:9f86d0...").
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class Checksum {
+    private final ChecksumAlgorithm algorithm;
+    private final String value;
+
+    private Checksum(ChecksumAlgorithm algorithm, String value) {
+        this.algorithm = algorithm;
+        this.value = value.toLowerCase();
+    }
+
+    /**
+     * Creates a checksum
+     *
+     * @param algorithm Algorithm which computed the checksum
+     * @param value Hexadecimal checksum value
+     * @return Checksum
+     */
+    public static Checksum create(ChecksumAlgorithm algorithm, String value) {
+        return new Checksum(algorithm, value);
+    }
+
+    /**
+     * Parses a checksum of the form "algorithm:hex"
+     *
+     * @param column Manifest column value
+     * @return Checksum or <code>null</code> if the column is not a checksum of a known algorithm
+     */
+    public static Checksum parse(String column) {
+        int separatorIndex = column.indexOf(':');
+        if (separatorIndex < 0) {
+            return null;
+        }
+
+        ChecksumAlgorithm algorithm = ChecksumAlgorithm.fromTag(column.substring(0, separatorIndex).trim());
+        String value = column.substring(separatorIndex + 1).trim();
+        return algorithm != null && !value.isEmpty() ? new Checksum(algorithm, value) : null;
+    }
+
+    /**
+     * @return Algorithm which computed the checksum
+     */
+    public ChecksumAlgorithm getAlgorithm() {
+        return this.algorithm;
+    }
+
+    /**
+     * @return Lower case hexadecimal checksum value
+     */
+    public String getValue() {
+        return this.value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Checksum)) {
+            return false;
+        }
+        Checksum checksum = (Checksum) o;
+        return this.algorithm == checksum.algorithm && this.value.equals(checksum.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.algorithm, this.value);
+    }
+
+    @Override
+    public String toString() {
+        return this.algorithm.getTag() + ":" + this.value;
+    }
+}
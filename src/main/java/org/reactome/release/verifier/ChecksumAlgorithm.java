@@ -0,0 +1,135 @@
+package org.reactome.release.verifier;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.CRC32;
+
+/**
+ * Content hash algorithms which may be listed in a manifest's checksum column.  SHA-256 detects deliberate or
+ * accidental corruption; CRC32 is a much cheaper non-cryptographic check for accidental corruption only.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public enum ChecksumAlgorithm {
+    SHA256("sha256", 64) {
+        @Override
+        Hasher newHasher() {
+            final MessageDigest messageDigest;
+            try {
+                messageDigest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+
+            return new Hasher() {
+                @Override
+                public void update(ByteBuffer byteBuffer) {
+                    messageDigest.update(byteBuffer);
+                }
+
+                @Override
+                public void update(byte[] bytes, int offset, int length) {
+                    messageDigest.update(bytes, offset, length);
+                }
+
+                @Override
+                public String finish() {
+                    return toHex(messageDigest.digest());
+                }
+            };
+        }
+    },
+    CRC32("crc32", 8) {
+        @Override
+        Hasher newHasher() {
+            final CRC32 crc32 = new CRC32();
+
+            return new Hasher() {
+                @Override
+                public void update(ByteBuffer byteBuffer) {
+                    crc32.update(byteBuffer);
+                }
+
+                @Override
+                public void update(byte[] bytes, int offset, int length) {
+                    crc32.update(bytes, offset, length);
+                }
+
+                @Override
+                public String finish() {
+                    return String.format("%08x", crc32.getValue());
+                }
+            };
+        }
+    };
+
+    private final String tag;
+    private final int hexLength;
+
+    ChecksumAlgorithm(String tag, int hexLength) {
+        this.tag = tag;
+        this.hexLength = hexLength;
+    }
+
+    /**
+     * @return Tag identifying the algorithm in a manifest checksum column (e.g. "sha256")
+     */
+    public String getTag() {
+        return this.tag;
+    }
+
+    /**
+     * Finds the algorithm identified by a manifest checksum column tag
+     *
+     * @param tag Tag of the algorithm (case-insensitive)
+     * @return Algorithm or <code>null</code> if no algorithm has the tag
+     */
+    public static ChecksumAlgorithm fromTag(String tag) {
+        for (ChecksumAlgorithm algorithm : values()) {
+            if (algorithm.getTag().equalsIgnoreCase(tag)) {
+                return algorithm;
+            }
+        }
+        return null;
+    }
+
+    abstract Hasher newHasher();
+
+    /**
+     * @param value Checksum value
+     * @return <code>true</code> if the value has as many hexadecimal digits as this algorithm produces and nothing
+     * else;<code>false</code> otherwise
+     */
+    boolean isWellFormed(String value) {
+        if (value.length() != this.hexLength) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.digit(value.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Incremental hash computation.  Instances are not thread-safe.
+     */
+    interface Hasher {
+        void update(ByteBuffer byteBuffer);
+
+        void update(byte[] bytes, int offset, int length);
+
+        String finish();
+    }
+}
@@ -0,0 +1,229 @@
+package org.reactome.release.verifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Verifies the content of the files in an output directory against the checksums listed in a manifest.  Files are
+ * hashed concurrently using {@link FileHasher}.  Size comparison alone misses files which were truncated and padded
+ * back out or otherwise corrupted without changing length.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class ChecksumVerifier {
+    private static final ResultRecord.Formatter CHECKSUM_MATCH_FORMATTER =
+        resultRecord -> resultRecord.getSubject() + " checksum matches (" + resultRecord.getActual() + ")";
+    private static final ResultRecord.Formatter CHECKSUM_MISMATCH_FORMATTER =
+        resultRecord -> resultRecord.getSubject() + " checksum mismatch (expected " + resultRecord.getExpected() +
+            " and got " + resultRecord.getActual() + ")";
+    private static final ResultRecord.Formatter CHECKSUM_COMPUTED_FORMATTER =
+        resultRecord -> resultRecord.getSubject() + " checksum computed (" + resultRecord.getActual() + ")";
+
+    private final Path outputDirectory;
+    private final Manifest manifest;
+    private final int parallelism;
+    private final VerificationCache verificationCache;
+    private final ErrorLimit errorLimit;
+    private final ResultsReporter reporter;
+
+    /**
+     * Creates a verifier for the files of an output directory
+     *
+     * @param outputDirectory Directory containing the files to verify
+     * @param manifest Manifest of expected file names and checksums
+     * @param parallelism Number of files to hash concurrently
+     */
+    public ChecksumVerifier(Path outputDirectory, Manifest manifest, int parallelism) {
+        this(outputDirectory, manifest, parallelism, null);
+    }
+
+    /**
+     * Creates a verifier for the files of an output directory which reuses checksums of unchanged files
+     *
+     * @param outputDirectory Directory containing the files to verify
+     * @param manifest Manifest of expected file names and checksums
+     * @param parallelism Number of files to hash concurrently
+     * @param verificationCache Cache of checksums from previous runs or <code>null</code> to hash every file
+     */
+    public ChecksumVerifier(
+        Path outputDirectory, Manifest manifest, int parallelism, VerificationCache verificationCache) {
+
+        this(outputDirectory, manifest, parallelism, verificationCache, ErrorLimit.unlimited());
+    }
+
+    /**
+     * Creates a verifier for the files of an output directory which stops hashing once an error limit is reached
+     *
+     * @param outputDirectory Directory containing the files to verify
+     * @param manifest Manifest of expected file names and checksums
+     * @param parallelism Number of files to hash concurrently
+     * @param verificationCache Cache of checksums from previous runs or <code>null</code> to hash every file
+     * @param errorLimit Number of errors after which files not yet hashed are skipped
+     */
+    public ChecksumVerifier(
+        Path outputDirectory, Manifest manifest, int parallelism, VerificationCache verificationCache,
+        ErrorLimit errorLimit) {
+
+        this(outputDirectory, manifest, parallelism, verificationCache, errorLimit, null);
+    }
+
+    private ChecksumVerifier(
+        Path outputDirectory, Manifest manifest, int parallelism, VerificationCache verificationCache,
+        ErrorLimit errorLimit, ResultsReporter reporter) {
+
+        this.outputDirectory = outputDirectory;
+        this.manifest = manifest;
+        this.parallelism = parallelism;
+        this.verificationCache = verificationCache;
+        this.errorLimit = errorLimit;
+        this.reporter = reporter;
+    }
+
+    /**
+     * @param reporter Reporter, such as a {@link ReportSink}, to receive each file's records as soon as the file is
+     * hashed
+     * @return Copy of this verifier which reports records while hashing runs.  Records reach the reporter in the
+     * order the files are hashed; the returned results still hold every record in manifest order.
+     */
+    public ChecksumVerifier withReporter(ResultsReporter reporter) {
+        return new ChecksumVerifier(this.outputDirectory, this.manifest, this.parallelism, this.verificationCache,
+            this.errorLimit, reporter);
+    }
+
+    /**
+     * Hashes every existing file which has a checksum in the manifest.  Missing files are skipped as they are
+     * reported by the existence checks.
+     *
+     * @return Results with an error for each checksum mismatch or unreadable file and an info message for each
+     * matching file, marked as truncated if the error limit stopped hashing early
+     * @throws IOException Thrown if interrupted while waiting for concurrent hashing to complete
+     */
+    public Results verify() throws IOException {
+        List<String> fileNamesWithChecksums = new ArrayList<>();
+        for (String fileName : this.manifest.getFileNames()) {
+            if (this.manifest.getExpectedChecksum(fileName) != null &&
+                Files.exists(this.outputDirectory.resolve(fileName))) {
+                fileNamesWithChecksums.add(fileName);
+            }
+        }
+
+        List<Results> fileResults = ParallelTasks.map(fileNamesWithChecksums, this.parallelism, "file-hasher",
+            fileName -> verifyFileWithinErrorLimit(fileName), this.errorLimit::isReached
+        );
+
+        Results results = new Results();
+        int skippedFiles = 0;
+        for (Results fileResult : fileResults) {
+            if (fileResult == null) {
+                skippedFiles++;
+            } else {
+                results.mergeResults(fileResult);
+            }
+        }
+
+        if (skippedFiles > 0) {
+            Results truncation = new Results();
+            truncation.markTruncated("Hashing stopped after reaching " + this.errorLimit.getMaxErrors() +
+                " error(s): " + skippedFiles + " of " + fileResults.size() + " file(s) were not checked");
+            truncation.reportTo(this.reporter);
+            results.mergeResults(truncation);
+        }
+        return results;
+    }
+
+    private Results verifyFileWithinErrorLimit(String fileName) {
+        Results results = verifyFile(this.outputDirectory.resolve(fileName),
+            this.manifest.getExpectedChecksum(fileName), this.verificationCache);
+        this.errorLimit.recordErrors(results.getErrorCount());
+        results.reportTo(this.reporter);
+        return results;
+    }
+
+    /**
+     * Hashes a file with the algorithm of its expected checksum and compares the two
+     *
+     * @param filePath Path to the file
+     * @param expectedChecksum Expected checksum of the file's content
+     * @param verificationCache Cache of checksums from previous runs or <code>null</code> to always hash the file
+     * @return Results with an error if the checksums differ or the file cannot be read and an info message otherwise
+     */
+    static Results verifyFile(Path filePath, Checksum expectedChecksum, VerificationCache verificationCache) {
+        try {
+            return verifyFile(filePath, expectedChecksum,
+                Files.readAttributes(filePath, BasicFileAttributes.class), verificationCache);
+        } catch (IOException e) {
+            Results results = new Results();
+            results.add(createUnhashableFileRecord(filePath, e));
+            return results;
+        }
+    }
+
+    /**
+     * Compares a file's checksum with its expected checksum, hashing the file unless the cache holds a checksum
+     * recorded since the file last changed
+     *
+     * @param filePath Path to the file
+     * @param expectedChecksum Expected checksum of the file's content
+     * @param fileAttributes Attributes of the file read before hashing
+     * @param verificationCache Cache of checksums from previous runs or <code>null</code> to always hash the file
+     * @return Results with an error if the checksums differ or the file cannot be read and an info message otherwise
+     */
+    static Results verifyFile(Path filePath, Checksum expectedChecksum, BasicFileAttributes fileAttributes,
+        VerificationCache verificationCache) {
+
+        Results results = new Results();
+        try {
+            Checksum actualChecksum = getChecksum(
+                filePath, expectedChecksum.getAlgorithm(), fileAttributes, verificationCache);
+            results.add(createChecksumRecord(filePath, expectedChecksum, actualChecksum));
+        } catch (IOException e) {
+            results.add(createUnhashableFileRecord(filePath, e));
+        }
+        return results;
+    }
+
+    /**
+     * Records the outcome of comparing a checksum with its expected value
+     *
+     * @param subject File or archive entry checked
+     * @param expectedChecksum Expected checksum or <code>null</code> if there is none to compare with
+     * @param actualChecksum Checksum computed
+     * @return Error record if the checksums differ and info record otherwise
+     */
+    static ResultRecord createChecksumRecord(Object subject, Checksum expectedChecksum, Checksum actualChecksum) {
+        if (expectedChecksum == null) {
+            return ResultRecord.create("checksum", ResultRecord.Severity.INFO,
+                subject, null, actualChecksum, CHECKSUM_COMPUTED_FORMATTER);
+        }
+        return actualChecksum.equals(expectedChecksum) ?
+            ResultRecord.create("checksum", ResultRecord.Severity.INFO,
+                subject, expectedChecksum, actualChecksum, CHECKSUM_MATCH_FORMATTER) :
+            ResultRecord.create("checksum", ResultRecord.Severity.ERROR,
+                subject, expectedChecksum, actualChecksum, CHECKSUM_MISMATCH_FORMATTER);
+    }
+
+    private static ResultRecord createUnhashableFileRecord(Path filePath, IOException e) {
+        return ResultRecord.create("checksum", ResultRecord.Severity.ERROR, filePath, null, e.getMessage(),
+            resultRecord -> "File " + resultRecord.getSubject() + " could not be hashed: " + resultRecord.getActual());
+    }
+
+    private static Checksum getChecksum(Path filePath, ChecksumAlgorithm algorithm,
+        BasicFileAttributes fileAttributes, VerificationCache verificationCache) throws IOException {
+
+        if (verificationCache == null) {
+            return FileHasher.hash(filePath, algorithm);
+        }
+
+        Checksum checksum = verificationCache.getChecksum(filePath, fileAttributes, algorithm);
+        if (checksum == null) {
+            checksum = FileHasher.hash(filePath, algorithm);
+            verificationCache.recordChecksum(filePath, fileAttributes, checksum);
+        }
+        return checksum;
+    }
+}
@@ -1,5 +1,7 @@
 package org.reactome.release.verifier;
 
+import com.martiansoftware.jsap.JSAP;
+
 /**
  * @author Joel Weiser (joel.weiser@oicr.on.ca)
  * Created 12/17/2025
@@ -15,6 +17,8 @@ public class CommandLineParameter {
 
 	public static final boolean IS_REQUIRED = true;
 	public static final boolean NOT_REQUIRED = false;
+	/** Short flag of an option which can only be given by its long flag */
+	public static final char NO_SHORT_FLAG = JSAP.NO_SHORTFLAG;
 
 	public static CommandLineParameter create(
 		String name, OptionType type, String defaultValue, boolean isRequired, char shortFlag, String longFlag,
@@ -1,5 +1,7 @@
 package org.reactome.release.verifier;
 
+import java.util.BitSet;
+
 /**
  * @author Joel Weiser (joel.weiser@oicr.on.ca)
  * Created 8/20/2024
@@ -58,4 +60,90 @@ public class CountUtils {
 
         return (percentChange < 0 && Math.abs(percentChange) >= percentage);
     }
+
+    /**
+     * Checks each pair of counts at the same index of two arrays for a reduction of "percentage" percent or more,
+     * with the same meaning as {@link #greaterThanOrEqualToXPercentDrop(long, long, int)}.  The check uses integer
+     * arithmetic only, so the boundary is exact, and an old count of 0 (or less) is never a drop.
+     *
+     * @param newCounts More recent counts
+     * @param oldCounts Less recent counts, at the same indices as the new counts
+     * @param percentage Percentage drop
+     * @return Set of the indices with "percentage" or more drop
+     * @throws IllegalArgumentException Thrown if the arrays differ in length
+     */
+    public static BitSet greaterThanOrEqualToXPercentDrops(long[] newCounts, long[] oldCounts, int percentage) {
+        checkSameLength(newCounts.length, oldCounts.length);
+
+        BitSet drops = new BitSet(newCounts.length);
+        for (int i = 0; i < newCounts.length; i++) {
+            if (isDrop(newCounts[i], oldCounts[i], percentage)) {
+                drops.set(i);
+            }
+        }
+        return drops;
+    }
+
+    /**
+     * Checks each pair of counts at the same index of two arrays for a reduction of the percentage at that index or
+     * more.  See {@link #greaterThanOrEqualToXPercentDrops(long[], long[], int)}.
+     *
+     * @param newCounts More recent counts
+     * @param oldCounts Less recent counts, at the same indices as the new counts
+     * @param percentages Percentage drop allowed for each index
+     * @return Set of the indices with their percentage or more drop
+     * @throws IllegalArgumentException Thrown if the arrays differ in length
+     */
+    public static BitSet greaterThanOrEqualToXPercentDrops(long[] newCounts, long[] oldCounts, int[] percentages) {
+        checkSameLength(newCounts.length, oldCounts.length);
+        checkSameLength(newCounts.length, percentages.length);
+
+        BitSet drops = new BitSet(newCounts.length);
+        for (int i = 0; i < newCounts.length; i++) {
+            if (isDrop(newCounts[i], oldCounts[i], percentages[i])) {
+                drops.set(i);
+            }
+        }
+        return drops;
+    }
+
+    /**
+     * Calculates the percentage change from each old count to the new count at the same index.  The change from an
+     * old count of 0 is 0 if the new count is also 0 and positive infinity otherwise.
+     *
+     * @param newCounts More recent counts
+     * @param oldCounts Less recent counts, at the same indices as the new counts
+     * @param percentChanges Array to fill with the percentage changes, so repeated calls need not allocate
+     * @return The filled percentage changes array
+     * @throws IllegalArgumentException Thrown if the arrays differ in length
+     */
+    public static double[] percentChanges(long[] newCounts, long[] oldCounts, double[] percentChanges) {
+        checkSameLength(newCounts.length, oldCounts.length);
+        checkSameLength(newCounts.length, percentChanges.length);
+
+        for (int i = 0; i < newCounts.length; i++) {
+            long oldCount = oldCounts[i];
+            long change = newCounts[i] - oldCount;
+            if (oldCount != 0) {
+                percentChanges[i] = change * 100.0d / oldCount;
+            } else {
+                percentChanges[i] = change == 0 ? 0.0d : Double.POSITIVE_INFINITY;
+            }
+        }
+        return percentChanges;
+    }
+
+    private static boolean isDrop(long newCount, long oldCount, int percentage) {
+        // (oldCount - newCount) / oldCount >= percentage / 100, multiplied out to avoid division
+        long drop = oldCount - newCount;
+        return oldCount > 0 && drop > 0 && drop * 100 >= (long) percentage * oldCount;
+    }
+
+    private static void checkSameLength(int expectedLength, int actualLength) {
+        if (expectedLength != actualLength) {
+            throw new IllegalArgumentException(
+                "Count arrays must have the same length (" + expectedLength + " and " + actualLength + ")"
+            );
+        }
+    }
 }
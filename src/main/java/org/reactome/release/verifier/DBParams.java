@@ -2,25 +2,57 @@ package org.reactome.release.verifier;
 
 import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Config;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.ResultCursor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author Joel Weiser (joel.weiser@oicr.on.ca)
  * Created 8/20/2024
  */
 public class DBParams {
+    public static final int DEFAULT_MAX_CONNECTION_POOL_SIZE = 100;
+    public static final long DEFAULT_CONNECTION_ACQUISITION_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(60);
+    public static final long DEFAULT_FETCH_SIZE = 1000;
+
+    private static final Map<DBParams, Driver> sharedDrivers = new ConcurrentHashMap<>();
+    private static final AtomicBoolean shutdownHookRegistered = new AtomicBoolean();
 
     private String userName;
     private String password;
     private String host;
     private long port;
+    private int maxConnectionPoolSize;
+    private long connectionAcquisitionTimeoutMillis;
+    private long fetchSize;
 
     private DBParams(String userName, String password, String host, long port) {
+        this(userName, password, host, port,
+            DEFAULT_MAX_CONNECTION_POOL_SIZE, DEFAULT_CONNECTION_ACQUISITION_TIMEOUT_MILLIS, DEFAULT_FETCH_SIZE);
+    }
+
+    private DBParams(String userName, String password, String host, long port, int maxConnectionPoolSize,
+        long connectionAcquisitionTimeoutMillis, long fetchSize) {
+
         this.userName = userName;
         this.password = password;
         this.host = host;
         this.port = port;
+        this.maxConnectionPoolSize = maxConnectionPoolSize;
+        this.connectionAcquisitionTimeoutMillis = connectionAcquisitionTimeoutMillis;
+        this.fetchSize = fetchSize;
     }
 
     /**
@@ -64,6 +96,60 @@ public class DBParams {
         return this.port;
     }
 
+    /**
+     * @return Maximum number of connections in the driver's connection pool
+     */
+    public int getMaxConnectionPoolSize() {
+        return this.maxConnectionPoolSize;
+    }
+
+    /**
+     * @return Maximum time in milliseconds to wait for a connection from the driver's connection pool
+     */
+    public long getConnectionAcquisitionTimeoutMillis() {
+        return this.connectionAcquisitionTimeoutMillis;
+    }
+
+    /**
+     * @return Number of records fetched from the database in each batch
+     */
+    public long getFetchSize() {
+        return this.fetchSize;
+    }
+
+    /**
+     * Creates a copy of these database parameters with a different connection pool size
+     *
+     * @param maxConnectionPoolSize Maximum number of connections in the driver's connection pool
+     * @return Object of database parameters
+     */
+    public DBParams withMaxConnectionPoolSize(int maxConnectionPoolSize) {
+        return new DBParams(getUserName(), getPassword(), getHost(), getPort(),
+            maxConnectionPoolSize, getConnectionAcquisitionTimeoutMillis(), getFetchSize());
+    }
+
+    /**
+     * Creates a copy of these database parameters with a different connection acquisition timeout
+     *
+     * @param connectionAcquisitionTimeoutMillis Maximum time in milliseconds to wait for a pooled connection
+     * @return Object of database parameters
+     */
+    public DBParams withConnectionAcquisitionTimeoutMillis(long connectionAcquisitionTimeoutMillis) {
+        return new DBParams(getUserName(), getPassword(), getHost(), getPort(),
+            getMaxConnectionPoolSize(), connectionAcquisitionTimeoutMillis, getFetchSize());
+    }
+
+    /**
+     * Creates a copy of these database parameters with a different fetch size
+     *
+     * @param fetchSize Number of records fetched from the database in each batch
+     * @return Object of database parameters
+     */
+    public DBParams withFetchSize(long fetchSize) {
+        return new DBParams(getUserName(), getPassword(), getHost(), getPort(),
+            getMaxConnectionPoolSize(), getConnectionAcquisitionTimeoutMillis(), fetchSize);
+    }
+
     /**
      * Gets GraphDB Connection URI of form bolt://hostname:port
      *
@@ -74,12 +160,105 @@ public class DBParams {
     }
 
     /**
-     * Get GraphDB Driver based on DB parameters in this object
+     * Get GraphDB Driver based on DB parameters in this object.  Each call creates a new driver, with its own
+     * connection pool, which the caller must close; {@link #getSharedGraphDBDriver()} should be preferred.
      *
      * @return GraphDB Driver
      */
     public Driver getGraphDBDriver() {
         AuthToken connectionCredentials = AuthTokens.basic(getUserName(), getPassword());
-        return GraphDatabase.driver(getGraphDBConnectionURI(), connectionCredentials);
+        return GraphDatabase.driver(getGraphDBConnectionURI(), connectionCredentials, getDriverConfig());
+    }
+
+    /**
+     * Get the GraphDB Driver shared by every caller using equal DB parameters, creating it on first use.  The
+     * driver must not be closed by the caller; shared drivers are closed when the JVM shuts down or by
+     * {@link #closeSharedGraphDBDrivers()}.
+     *
+     * @return Shared GraphDB Driver
+     */
+    public Driver getSharedGraphDBDriver() {
+        if (shutdownHookRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(
+                new Thread(DBParams::closeSharedGraphDBDrivers, "graph-db-driver-shutdown"));
+        }
+        return sharedDrivers.computeIfAbsent(this, DBParams::getGraphDBDriver);
+    }
+
+    /**
+     * Closes every shared GraphDB Driver.  A later call to {@link #getSharedGraphDBDriver()} creates a new driver.
+     */
+    public static void closeSharedGraphDBDrivers() {
+        for (DBParams dbParams : sharedDrivers.keySet()) {
+            Driver driver = sharedDrivers.remove(dbParams);
+            if (driver != null) {
+                driver.close();
+            }
+        }
+    }
+
+    /**
+     * Runs a query asynchronously in its own session on the shared GraphDB Driver, so many queries can run
+     * concurrently on one connection pool.  The session is closed once the records have been fetched.
+     *
+     * @param query Cypher query
+     * @param parameters Query parameters
+     * @return Stage completing with all records returned by the query
+     */
+    public CompletionStage<List<Record>> runAsync(String query, Map<String, Object> parameters) {
+        AsyncSession session = getSharedGraphDBDriver().asyncSession();
+        long queryStartTime = Metrics.getShared().startTimer();
+        CompletionStage<List<Record>> records = session.runAsync(query, parameters)
+            .thenCompose(ResultCursor::listAsync)
+            .whenComplete((result, e) ->
+                Metrics.getShared().recordDuration(Metrics.CYPHER_QUERY_SECONDS, queryStartTime));
+
+        return records
+            .handle((result, e) -> null)
+            .thenCompose(ignored -> session.closeAsync())
+            .thenCompose(ignored -> records);
+    }
+
+    /**
+     * Runs a query without parameters asynchronously on the shared GraphDB Driver
+     *
+     * @param query Cypher query
+     * @return Stage completing with all records returned by the query
+     * @see #runAsync(String, Map)
+     */
+    public CompletionStage<List<Record>> runAsync(String query) {
+        return runAsync(query, Collections.emptyMap());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DBParams)) {
+            return false;
+        }
+        DBParams dbParams = (DBParams) o;
+        return getPort() == dbParams.getPort() &&
+            getMaxConnectionPoolSize() == dbParams.getMaxConnectionPoolSize() &&
+            getConnectionAcquisitionTimeoutMillis() == dbParams.getConnectionAcquisitionTimeoutMillis() &&
+            getFetchSize() == dbParams.getFetchSize() &&
+            Objects.equals(getUserName(), dbParams.getUserName()) &&
+            Objects.equals(getPassword(), dbParams.getPassword()) &&
+            Objects.equals(getHost(), dbParams.getHost());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getUserName(), getPassword(), getHost(), getPort(),
+            getMaxConnectionPoolSize(), getConnectionAcquisitionTimeoutMillis(), getFetchSize());
+    }
+
+    private Config getDriverConfig() {
+        return Config.builder()
+            .withMaxConnectionPoolSize(getMaxConnectionPoolSize())
+            .withConnectionAcquisitionTimeout(getConnectionAcquisitionTimeoutMillis(), TimeUnit.MILLISECONDS)
+            .withFetchSize(getFetchSize())
+            .build();
     }
 }
@@ -0,0 +1,27 @@
+package org.reactome.release.verifier;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates named daemon threads so worker pools never keep the JVM alive after verification completes.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+class DaemonThreadFactory implements ThreadFactory {
+    private final String namePrefix;
+    private final AtomicInteger threadNumber;
+
+    DaemonThreadFactory(String namePrefix) {
+        this.namePrefix = namePrefix;
+        this.threadNumber = new AtomicInteger(1);
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, this.namePrefix + "-" + this.threadNumber.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
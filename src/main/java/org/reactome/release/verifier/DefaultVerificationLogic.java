@@ -7,15 +7,13 @@ import com.martiansoftware.jsap.SimpleJSAP;
 
 import java.io.IOException;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import static org.reactome.release.verifier.FileUtils.downloadFileFromS3;
-
 /**
  * @author Joel Weiser (joel.weiser@oicr.on.ca)
  * Created 12/17/2025
@@ -25,7 +23,18 @@ public class DefaultVerificationLogic {
 	private String outputDirectory;
 	private int releaseNumber;
 	private int fileSizePercentDropTolerance;
+	private int parallelism;
+	private boolean verifyChecksums;
+	private boolean useVerificationCache;
+	private int maxErrors;
+	private boolean walkOutputDirectory;
+	private boolean uploadManifest;
+	private List<String> lineCountPatterns;
+	private int keyColumn;
+	private int lineCountPercentDropTolerance;
+	private String reportOption;
 	private final String stepName;
+	private Manifest manifest;
 
 	public DefaultVerificationLogic(String stepName) {
 		this.stepName = stepName;
@@ -41,16 +50,86 @@ public class DefaultVerificationLogic {
 		this.releaseNumber = config.getInt("releaseNumber");
 		this.fileSizePercentDropTolerance = config.getInt("sizeDropTolerance");
 
+		// Steps may pass their own parameter list without the newer options, which then keep their old behaviour
+		Set<String> declared = parameters.stream().map(CommandLineParameter::getName).collect(Collectors.toSet());
+		this.parallelism = declared.contains("parallelism") ? config.getInt("parallelism") : 1;
+		this.verifyChecksums = declared.contains("checksums") && config.getBoolean("checksums");
+		this.useVerificationCache = declared.contains("cache") && config.getBoolean("cache");
+		if (this.useVerificationCache && !this.verifyChecksums) {
+			System.err.println("--cache has no effect without --checksums: no checksums are computed to cache");
+		}
+		this.maxErrors = declared.contains("failFast") ? config.getInt("failFast") : 0;
+		this.walkOutputDirectory = declared.contains("inventory") && config.getBoolean("inventory");
+		this.uploadManifest = declared.contains("uploadManifest") && config.getBoolean("uploadManifest");
+		this.lineCountPatterns = declared.contains("lineCounts") && config.getString("lineCounts") != null ?
+			Arrays.asList(config.getString("lineCounts").split(",")) :
+			null;
+		int keyColumnNumber = declared.contains("keyColumn") ? config.getInt("keyColumn") : 0;
+		if (keyColumnNumber < 0) {
+			throw new IllegalArgumentException("--keyColumn must be a column number (1 is the first column) or 0 " +
+				"to compare lines only, but was " + keyColumnNumber);
+		}
+		this.keyColumn = keyColumnNumber - 1;
+		this.lineCountPercentDropTolerance =
+			declared.contains("lineDropTolerance") ? config.getInt("lineDropTolerance") : 10;
+		this.reportOption = declared.contains("report") ? config.getString("report") : null;
+		if (declared.contains("metrics") && config.getString("metrics") != null) {
+			Metrics.getShared().enable(Paths.get(config.getString("metrics")));
+		}
+
 		return new JsapParsedArguments(config);
 	}
 
 	public Results verify() throws IOException {
 		Results finalResults = new Results();
 
-		finalResults.mergeResults(verifyStepFolderExists());
-		if (!finalResults.hasErrors()) {
-			finalResults.mergeResults(verifyStepFilesExist());
-			finalResults.mergeResults(verifyStepFileSizesComparedToPreviousRelease());
+		// Each verifier reports its records to the report as it produces them, so the report can be followed while
+		// verification runs and the records merged here are not reported a second time
+		try (ReportSink reportSink = openReportSink()) {
+			// One limit is shared by every phase, so once it is reached the later phases are skipped and truncated
+			ErrorLimit errorLimit = ErrorLimit.create(this.maxErrors);
+			long phaseStartTime = Metrics.getShared().startTimer();
+			try {
+				Results folderResults = verifyStepFolderExists();
+				folderResults.reportTo(reportSink);
+				finalResults.mergeResults(folderResults);
+			} finally {
+				Metrics.getShared().recordPhaseDuration("folder_check", phaseStartTime);
+			}
+			if (!finalResults.hasErrors()) {
+				phaseStartTime = Metrics.getShared().startTimer();
+				try {
+					loadManifest();
+				} finally {
+					Metrics.getShared().recordPhaseDuration("manifest_load", phaseStartTime);
+				}
+				phaseStartTime = Metrics.getShared().startTimer();
+				try {
+					finalResults.mergeResults(verifyStepFilesAndSizesComparedToPreviousRelease(
+						errorLimit, reportSink));
+				} finally {
+					Metrics.getShared().recordPhaseDuration("file_verification", phaseStartTime);
+				}
+				if (this.lineCountPatterns != null) {
+					phaseStartTime = Metrics.getShared().startTimer();
+					try {
+						finalResults.mergeResults(new LineCountVerifier(
+							Paths.get(this.outputDirectory), getManifest(), this.lineCountPatterns, this.keyColumn,
+							this.lineCountPercentDropTolerance, this.parallelism
+						).withErrorLimit(errorLimit).withReporter(reportSink).verify());
+					} finally {
+						Metrics.getShared().recordPhaseDuration("line_count_verification", phaseStartTime);
+					}
+				}
+				if (this.uploadManifest && !finalResults.hasErrors()) {
+					phaseStartTime = Metrics.getShared().startTimer();
+					try {
+						uploadCurrentManifest(finalResults);
+					} finally {
+						Metrics.getShared().recordPhaseDuration("manifest_upload", phaseStartTime);
+					}
+				}
+			}
 		}
 
 		return finalResults;
@@ -63,7 +142,33 @@ public class DefaultVerificationLogic {
 			CommandLineParameter.create("releaseNumber", OptionType.INTEGER, "", CommandLineParameter.IS_REQUIRED,
 				'r', "releaseNumber", "The most recent Reactome release version"),
 			CommandLineParameter.create("sizeDropTolerance", OptionType.INTEGER, "10", CommandLineParameter.NOT_REQUIRED,
-				'd', "sizeDropTolerance", "The percentage drop allowed")
+				'd', "sizeDropTolerance", "The percentage drop allowed"),
+			// Options added after the original three are long flag only so they cannot clash with a step's own flags
+			longOption("parallelism", OptionType.INTEGER, "1", "The number of files to verify concurrently"),
+			longOption("checksums", OptionType.BOOLEAN, "",
+				"Verify file contents against the checksums in the files and sizes list"),
+			longOption("cache", OptionType.BOOLEAN, "",
+				"With --checksums, reuse checksums from previous runs for files which have not changed " +
+					"(ignored otherwise)"),
+			longOption("failFast", OptionType.INTEGER, "0",
+				"Stop after this many errors, skipping the remaining checks (0 checks everything)"),
+			longOption("inventory", OptionType.BOOLEAN, "",
+				"Walk the whole output folder, also reporting files not in the files and sizes list"),
+			longOption("uploadManifest", OptionType.BOOLEAN, "",
+				"If verification passes, upload this release's files and sizes list to S3 " +
+					"(with checksums if they are verified)"),
+			longOption("lineCounts", OptionType.STRING, "",
+				"Comma separated file name patterns (e.g. *.tsv,*.gmt) of files whose line counts " +
+					"are compared with the previous release"),
+			longOption("keyColumn", OptionType.INTEGER, "0",
+				"Also compare the number of distinct values in this tab separated column " +
+					"(1 is the first column and 0 compares lines only)"),
+			longOption("lineDropTolerance", OptionType.INTEGER, "10", "The percentage drop in line counts allowed"),
+			longOption("report", OptionType.STRING, ReportSink.NO_REPORT,
+				"Write a report of every check to the output folder: none, jsonl, tsv, jsonl.gz or tsv.gz"),
+			longOption("metrics", OptionType.STRING, "",
+				"Write timing and I/O metrics of the run to this file (JSON if named *.json, " +
+					"Prometheus text otherwise)")
 		);
 	}
 
@@ -71,6 +176,13 @@ public class DefaultVerificationLogic {
 		return this.outputDirectory;
 	}
 
+	private static CommandLineParameter longOption(
+		String name, OptionType type, String defaultValue, String helpMessage) {
+
+		return CommandLineParameter.create(name, type, defaultValue, CommandLineParameter.NOT_REQUIRED,
+			CommandLineParameter.NO_SHORT_FLAG, name, helpMessage);
+	}
+
 	private JSAPResult getCommandLineArgumentsConfig(String[] args, List<CommandLineParameter> params) {
 		Parameter[] jsapParams = params.stream()
 			.map(JsapParameterMapper::toJsapParameter)
@@ -91,6 +203,14 @@ public class DefaultVerificationLogic {
 		}
 	}
 
+	private ReportSink openReportSink() throws IOException {
+		if (this.reportOption == null || !Files.isDirectory(Paths.get(this.outputDirectory))) {
+			// The missing folder is reported by verifyStepFolderExists; creating it here would hide that next run
+			return null;
+		}
+		return ReportSink.openInDirectory(Paths.get(this.outputDirectory), this.reportOption);
+	}
+
 	private Results verifyStepFolderExists() {
 		List<String> errorMessages = !Files.exists(Paths.get(this.outputDirectory)) ?
 			Arrays.asList(this.outputDirectory + " does not exist; " +
@@ -102,70 +222,73 @@ public class DefaultVerificationLogic {
 		return results;
 	}
 
-	private Results verifyStepFilesExist() throws IOException {
-		List<String> errorMessages = new ArrayList<>();
+	private Results verifyStepFilesAndSizesComparedToPreviousRelease(ErrorLimit errorLimit, ResultsReporter reporter)
+		throws IOException {
 
-		downloadFilesAndSizesListFromS3(getPreviousReleaseNumber());
-		for (String fileName : getFileNames()) {
-			Path filePath = Paths.get(this.outputDirectory, fileName);
-			if (!Files.exists(filePath)) {
-				errorMessages.add("File " + filePath + " does not exist");
-			}
+		if (!this.useVerificationCache || !this.verifyChecksums) {
+			return verifyFiles(null, errorLimit, reporter);
 		}
 
-		Results results = new Results();
-		results.addErrorMessages(errorMessages);
-		return results;
+		try (VerificationCache verificationCache = VerificationCache.open(Paths.get(this.outputDirectory))) {
+			return verifyFiles(verificationCache, errorLimit, reporter);
+		}
 	}
 
-	private Results verifyStepFileSizesComparedToPreviousRelease() throws IOException {
-		downloadFilesAndSizesListFromS3(getPreviousReleaseNumber());
+	private Results verifyFiles(VerificationCache verificationCache, ErrorLimit errorLimit, ResultsReporter reporter)
+		throws IOException {
 
-		Results results = new Results();
-		for (String fileName : getFileNames()) {
-			Path filePath = Paths.get(this.outputDirectory, fileName);
-
-			if (Files.exists(filePath)) {
-				FileSizer fileSizer = new FileSizer(filePath);
-				if (fileSizer.currentFileTooSmall(this.fileSizePercentDropTolerance)) {
-					results.addErrorMessage(fileSizer.toString());
-				} else {
-					results.addInfoMessage(fileSizer.toString());
-				}
-			}
+		if (!this.walkOutputDirectory) {
+			return getFileVerificationEngine(verificationCache, errorLimit).withReporter(reporter).verify();
 		}
 
+		Results results = DirectoryInventory.walk(Paths.get(this.outputDirectory), this.parallelism)
+			.compareTo(getManifest(), this.fileSizePercentDropTolerance, FileUtils::isGeneratedFile);
+		errorLimit.recordErrors(results.getErrorCount());
+		results.reportTo(reporter);
+		if (this.verifyChecksums) {
+			results.mergeResults(new ChecksumVerifier(
+				Paths.get(this.outputDirectory), getManifest(), this.parallelism, verificationCache, errorLimit
+			).withReporter(reporter).verify());
+		}
 		return results;
 	}
 
-	private List<String> getFileNames() throws IOException {
-		return Files.lines(Paths.get(getFilesAndSizesListName()))
-			.map(this::getFileName)
-			.collect(Collectors.toList());
-	}
+	private FileVerificationEngine getFileVerificationEngine(
+		VerificationCache verificationCache, ErrorLimit errorLimit) {
 
-	private String getFileName(String line) {
-		return line.split("\t")[1];
+		FileVerificationEngine fileVerificationEngine = FileVerificationEngine.create(
+			Paths.get(this.outputDirectory), getManifest(), this.fileSizePercentDropTolerance, this.parallelism
+		).withErrorLimit(errorLimit);
+		return this.verifyChecksums ?
+			fileVerificationEngine.withChecksums(verificationCache) :
+			fileVerificationEngine;
 	}
 
-	private int getPreviousReleaseNumber() {
-		return this.releaseNumber - 1;
+	private void uploadCurrentManifest(Results verificationResults) throws IOException {
+		// Files already hashed or counted during verification are not read again
+		ManifestGenerator manifestGenerator = ManifestGenerator.create(Paths.get(this.outputDirectory), this.parallelism)
+			.withVerifiedResults(verificationResults);
+		if (this.verifyChecksums) {
+			manifestGenerator = manifestGenerator.withChecksums(ChecksumAlgorithm.SHA256);
+		}
+		if (this.lineCountPatterns != null) {
+			manifestGenerator = manifestGenerator.withLineCounts(this.lineCountPatterns, this.keyColumn);
+		}
+		manifestGenerator.generateAndUpload(this.releaseNumber, getStepName());
 	}
 
-	private void downloadFilesAndSizesListFromS3(int versionNumber) {
-		if (Files.notExists(Paths.get(getFilesAndSizesListName()))) {
-			downloadFileFromS3("reactome", getFilesAndSizesListPathInS3(versionNumber));
+	private void loadManifest() throws IOException {
+		if (this.manifest == null) {
+			this.manifest = ManifestCache.getShared().load(getPreviousReleaseNumber(), getStepName());
 		}
 	}
 
-	private String getFilesAndSizesListPathInS3(int versionNumber) {
-		return String.format("private/releases/%d/%s/data/%s",
-			versionNumber, getStepName(), getFilesAndSizesListName()
-		);
+	private Manifest getManifest() {
+		return this.manifest;
 	}
 
-	private String getFilesAndSizesListName() {
-		return "files_and_sizes.txt";
+	private int getPreviousReleaseNumber() {
+		return this.releaseNumber - 1;
 	}
 
 	private String getStepName() {
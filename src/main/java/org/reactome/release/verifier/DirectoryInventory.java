@@ -0,0 +1,206 @@
+package org.reactome.release.verifier;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Inventory of every regular file under an output directory, including those in nested subdirectories, with their
+ * sizes in bytes.  Files are identified by their path relative to the directory, using "/" as the separator, as in
+ * the manifest (e.g. "interactors/human.txt").
+ * <p>
+ * The tree is walked one level at a time with each subdirectory of a level listed by its own task, so deep or wide
+ * trees on high latency (e.g. network) storage are listed concurrently.  Every entry is stat-ed exactly once.
+ * Symbolic links to files are inventoried as files; symbolic links to directories are not followed.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class DirectoryInventory {
+    private static final String SEPARATOR = "/";
+    private static final ResultRecord.Formatter MISSING_FILE_FORMATTER =
+        resultRecord -> "File " + resultRecord.getSubject() + " does not exist";
+    private static final ResultRecord.Formatter UNEXPECTED_FILE_FORMATTER =
+        resultRecord -> "File " + resultRecord.getSubject() + " (" + resultRecord.getActual() + " bytes) is not " +
+            "listed in the files and sizes list";
+
+    private final Path rootDirectory;
+    private final String[] relativePaths;
+    private final long[] fileSizes;
+
+    private DirectoryInventory(Path rootDirectory, String[] relativePaths, long[] fileSizes) {
+        this.rootDirectory = rootDirectory;
+        this.relativePaths = relativePaths;
+        this.fileSizes = fileSizes;
+    }
+
+    /**
+     * Walks a directory tree, listing up to the given number of subdirectories at a time
+     *
+     * @param rootDirectory Directory to inventory
+     * @param parallelism Number of subdirectories to list concurrently
+     * @return Inventory of the files under the directory, sorted by relative path
+     * @throws IOException Thrown if unable to list a directory or read the attributes of one of its entries
+     */
+    public static DirectoryInventory walk(Path rootDirectory, int parallelism) throws IOException {
+        List<InventoryEntry> entries = new ArrayList<>();
+        List<String> directories = Collections.singletonList("");
+        try {
+            while (!directories.isEmpty()) {
+                List<DirectoryListing> listings = ParallelTasks.map(directories, parallelism, "directory-walker",
+                    relativeDirectory -> list(rootDirectory, relativeDirectory));
+
+                directories = new ArrayList<>();
+                for (DirectoryListing listing : listings) {
+                    entries.addAll(listing.files);
+                    directories.addAll(listing.subdirectories);
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        InventoryEntry[] sortedEntries = entries.toArray(new InventoryEntry[0]);
+        Arrays.sort(sortedEntries, (entry1, entry2) -> entry1.relativePath.compareTo(entry2.relativePath));
+
+        String[] relativePaths = new String[sortedEntries.length];
+        long[] fileSizes = new long[sortedEntries.length];
+        for (int i = 0; i < sortedEntries.length; i++) {
+            relativePaths[i] = sortedEntries[i].relativePath;
+            fileSizes[i] = sortedEntries[i].fileSize;
+        }
+        return new DirectoryInventory(rootDirectory, relativePaths, fileSizes);
+    }
+
+    /**
+     * Compares the inventory with a manifest in a single merge of the two sorted lists of relative paths
+     *
+     * @param manifest Manifest of expected file names and sizes in bytes
+     * @param fileSizePercentDropTolerance Percentage drop in file size allowed
+     * @param ignoredFiles Files under the directory which are not expected to be in the manifest (e.g. reports
+     * written by the verifier itself), identified by relative path
+     * @return Results with an error for each missing, unexpected or too small file and an info message for each
+     * file of acceptable size, in relative path order
+     */
+    public Results compareTo(Manifest manifest, int fileSizePercentDropTolerance, Predicate<String> ignoredFiles) {
+        String[] expectedPaths = manifest.getFileNames().toArray(new String[0]);
+        Arrays.sort(expectedPaths);
+
+        Results results = new Results();
+        int expectedIndex = 0;
+        int actualIndex = 0;
+        while (expectedIndex < expectedPaths.length || actualIndex < this.relativePaths.length) {
+            int comparison =
+                expectedIndex == expectedPaths.length ? 1 :
+                actualIndex == this.relativePaths.length ? -1 :
+                expectedPaths[expectedIndex].compareTo(this.relativePaths[actualIndex]);
+
+            if (comparison < 0) {
+                results.add(ResultRecord.create("file-exists", ResultRecord.Severity.ERROR,
+                    this.rootDirectory.resolve(expectedPaths[expectedIndex]), null, null, MISSING_FILE_FORMATTER));
+                expectedIndex++;
+            } else if (comparison > 0) {
+                if (!ignoredFiles.test(this.relativePaths[actualIndex])) {
+                    results.add(ResultRecord.create("file-unexpected", ResultRecord.Severity.ERROR,
+                        this.rootDirectory.resolve(this.relativePaths[actualIndex]), null,
+                        this.fileSizes[actualIndex], UNEXPECTED_FILE_FORMATTER));
+                }
+                actualIndex++;
+            } else {
+                FileSizer fileSizer = new FileSizer(this.rootDirectory.resolve(this.relativePaths[actualIndex]),
+                    this.fileSizes[actualIndex], manifest.getExpectedFileSize(expectedPaths[expectedIndex]));
+                results.add(fileSizer.toResultRecord(fileSizePercentDropTolerance));
+                expectedIndex++;
+                actualIndex++;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @return Relative paths of the files, in sorted order
+     */
+    public List<String> getRelativePaths() {
+        return Collections.unmodifiableList(Arrays.asList(this.relativePaths));
+    }
+
+    /**
+     * Returns the size in bytes of a file, or -1 if the file is not in the inventory
+     *
+     * @param relativePath Path of the file relative to the inventoried directory
+     * @return Size in bytes
+     */
+    public long getFileSize(String relativePath) {
+        int index = Arrays.binarySearch(this.relativePaths, relativePath);
+        return index >= 0 ? this.fileSizes[index] : -1L;
+    }
+
+    /**
+     * @return Number of files in the inventory
+     */
+    public int size() {
+        return this.relativePaths.length;
+    }
+
+    private static DirectoryListing list(Path rootDirectory, String relativeDirectory) {
+        DirectoryListing listing = new DirectoryListing();
+        Path directory = relativeDirectory.isEmpty() ? rootDirectory : rootDirectory.resolve(relativeDirectory);
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory)) {
+            for (Path entry : directoryStream) {
+                String relativePath = relativeDirectory.isEmpty() ?
+                    entry.getFileName().toString() :
+                    relativeDirectory + SEPARATOR + entry.getFileName();
+
+                BasicFileAttributes attributes;
+                try {
+                    Metrics.getShared().increment(Metrics.FILESYSTEM_STATS, 1);
+                    attributes = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                    if (attributes.isSymbolicLink()) {
+                        Metrics.getShared().increment(Metrics.FILESYSTEM_STATS, 1);
+                        attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+                        if (attributes.isDirectory()) {
+                            continue;
+                        }
+                    }
+                } catch (NoSuchFileException e) {
+                    // Removed since the directory was listed or a dangling symbolic link
+                    continue;
+                }
+
+                if (attributes.isDirectory()) {
+                    listing.subdirectories.add(relativePath);
+                } else if (attributes.isRegularFile()) {
+                    listing.files.add(new InventoryEntry(relativePath, attributes.size()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return listing;
+    }
+
+    private static final class DirectoryListing {
+        private final List<InventoryEntry> files = new ArrayList<>();
+        private final List<String> subdirectories = new ArrayList<>();
+    }
+
+    private static final class InventoryEntry {
+        private final String relativePath;
+        private final long fileSize;
+
+        private InventoryEntry(String relativePath, long fileSize) {
+            this.relativePath = relativePath;
+            this.fileSize = fileSize;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.reactome.release.verifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Number of errors after which a verification stops early (fail-fast).  Checks running concurrently record their
+ * errors here and poll {@link #isReached()} before starting more work, so once the limit is reached outstanding
+ * checks are skipped rather than run to completion.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class ErrorLimit {
+    public static final int UNLIMITED = 0;
+
+    private final int maxErrors;
+    private final AtomicInteger errorCount;
+    private volatile boolean reached;
+
+    private ErrorLimit(int maxErrors) {
+        this.maxErrors = maxErrors;
+        this.errorCount = new AtomicInteger();
+    }
+
+    /**
+     * Creates an error limit
+     *
+     * @param maxErrors Number of errors after which to stop, or {@link #UNLIMITED} to never stop early
+     * @return Error limit
+     */
+    public static ErrorLimit create(int maxErrors) {
+        if (maxErrors < 0) {
+            throw new IllegalArgumentException("Maximum number of errors can not be negative");
+        }
+        return new ErrorLimit(maxErrors);
+    }
+
+    /**
+     * @return Error limit which is never reached
+     */
+    public static ErrorLimit unlimited() {
+        return new ErrorLimit(UNLIMITED);
+    }
+
+    /**
+     * Records errors found by a check
+     *
+     * @param errors Number of errors found
+     * @return <code>true</code> if the limit has been reached;<code>false</code> otherwise
+     */
+    public boolean recordErrors(int errors) {
+        if (errors > 0 && this.maxErrors != UNLIMITED && this.errorCount.addAndGet(errors) >= this.maxErrors) {
+            this.reached = true;
+        }
+        return this.reached;
+    }
+
+    /**
+     * @return <code>true</code> if the limit has been reached and remaining checks should be skipped;
+     * <code>false</code> otherwise
+     */
+    public boolean isReached() {
+        return this.reached;
+    }
+
+    /**
+     * @return Number of errors after which to stop, or {@link #UNLIMITED}
+     */
+    public int getMaxErrors() {
+        return this.maxErrors;
+    }
+}
@@ -0,0 +1,71 @@
+package org.reactome.release.verifier;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Computes file checksums.  Large files are hashed through memory-mapped regions so their content is never copied
+ * onto the Java heap; smaller files, where the cost of mapping outweighs the copy, are read through a direct buffer
+ * that each thread reuses.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class FileHasher {
+    static final long MEMORY_MAP_THRESHOLD_IN_BYTES = 4L * 1024 * 1024;
+    private static final long MAPPED_REGION_SIZE_IN_BYTES = 256L * 1024 * 1024;
+    private static final int DIRECT_BUFFER_SIZE_IN_BYTES = 256 * 1024;
+
+    private static final ThreadLocal<ByteBuffer> DIRECT_BUFFERS =
+        ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(DIRECT_BUFFER_SIZE_IN_BYTES));
+
+    private FileHasher() {
+    }
+
+    /**
+     * Computes the checksum of a file's content
+     *
+     * @param filePath Path to the file
+     * @param algorithm Algorithm with which to compute the checksum
+     * @return Checksum of the file's content
+     * @throws IOException Thrown if unable to read the file
+     */
+    public static Checksum hash(Path filePath, ChecksumAlgorithm algorithm) throws IOException {
+        ChecksumAlgorithm.Hasher hasher = algorithm.newHasher();
+
+        try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long fileSize = fileChannel.size();
+            if (fileSize >= MEMORY_MAP_THRESHOLD_IN_BYTES) {
+                hashMapped(fileChannel, fileSize, hasher);
+            } else {
+                hashBuffered(fileChannel, hasher);
+            }
+        }
+
+        return Checksum.create(algorithm, hasher.finish());
+    }
+
+    private static void hashMapped(FileChannel fileChannel, long fileSize, ChecksumAlgorithm.Hasher hasher)
+        throws IOException {
+
+        for (long position = 0; position < fileSize; position += MAPPED_REGION_SIZE_IN_BYTES) {
+            long regionSize = Math.min(MAPPED_REGION_SIZE_IN_BYTES, fileSize - position);
+            MappedByteBuffer region = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, regionSize);
+            hasher.update(region);
+        }
+    }
+
+    private static void hashBuffered(FileChannel fileChannel, ChecksumAlgorithm.Hasher hasher) throws IOException {
+        ByteBuffer buffer = DIRECT_BUFFERS.get();
+        buffer.clear();
+        while (fileChannel.read(buffer) != -1) {
+            buffer.flip();
+            hasher.update(buffer);
+            buffer.clear();
+        }
+    }
+}
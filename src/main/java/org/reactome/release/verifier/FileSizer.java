@@ -15,9 +15,38 @@ public class FileSizer {
     private long actualFileSizeInBytes;
 
     public FileSizer(Path currentFileNamePath) throws IOException {
+        this(currentFileNamePath, getExpectedFilesAndSizesManifest());
+    }
+
+    /**
+     * @deprecated The file is looked up in the manifest by its name alone, so a file in a subdirectory of the output
+     * directory is never found; use {@link #FileSizer(Path, Path, Manifest)}
+     */
+    @Deprecated
+    public FileSizer(Path currentFileNamePath, Manifest manifest) {
         this.currentFileNamePath = currentFileNamePath;
         this.actualFileSizeInBytes = getCurrentFileSize(currentFileNamePath);
-        this.expectedFileSizeInBytes = getExpectedFileSize(currentFileNamePath);
+        this.expectedFileSizeInBytes = manifest.getExpectedFileSize(currentFileNamePath.getFileName().toString());
+    }
+
+    /**
+     * Compares a file's size with its expected size in a manifest, looking the file up by its path relative to
+     * the output directory
+     *
+     * @param outputDirectory Directory whose files the manifest lists
+     * @param currentFileNamePath Path to the file within the output directory
+     * @param manifest Manifest of file names and sizes in bytes
+     */
+    public FileSizer(Path outputDirectory, Path currentFileNamePath, Manifest manifest) {
+        this.currentFileNamePath = currentFileNamePath;
+        this.actualFileSizeInBytes = getCurrentFileSize(currentFileNamePath);
+        this.expectedFileSizeInBytes = getExpectedFileSize(outputDirectory, currentFileNamePath, manifest);
+    }
+
+    FileSizer(Path currentFileNamePath, long actualFileSizeInBytes, long expectedFileSizeInBytes) {
+        this.currentFileNamePath = currentFileNamePath;
+        this.actualFileSizeInBytes = actualFileSizeInBytes;
+        this.expectedFileSizeInBytes = expectedFileSizeInBytes;
     }
 
     public boolean currentFileTooSmall(int dropTolerancePercentage) {
@@ -32,14 +61,40 @@ public class FileSizer {
         return actualFileSizeInBytes < minimumAcceptableFileSizeInBytes;
     }
 
-    @Override
-    public String toString() {
-        return String.format("%s (expected %d bytes and got %d bytes - difference of %d bytes (%.2f%%))",
+    /**
+     * Records the outcome of comparing the file's size with its expected size.  The message is the same as
+     * {@link #toString()} but is only formatted if the record is rendered.
+     *
+     * @param dropTolerancePercentage Percentage drop in size allowed
+     * @return Error record if the file is too small and info record otherwise
+     */
+    public ResultRecord toResultRecord(int dropTolerancePercentage) {
+        return ResultRecord.create(
+            "file-size",
+            currentFileTooSmall(dropTolerancePercentage) ? ResultRecord.Severity.ERROR : ResultRecord.Severity.INFO,
             getCurrentFileNamePath(),
             getExpectedFileSizeInBytes(),
             getActualFileSizeInBytes(),
-            getDifferenceInFileSize(),
-            getPercentDifferenceInFileSize()
+            resultRecord -> formatSizeComparison(
+                resultRecord.getSubject(), (Long) resultRecord.getExpected(), (Long) resultRecord.getActual())
+        );
+    }
+
+    @Override
+    public String toString() {
+        return formatSizeComparison(getCurrentFileNamePath(), getExpectedFileSizeInBytes(), getActualFileSizeInBytes());
+    }
+
+    private static String formatSizeComparison(Object fileNamePath, long expectedFileSizeInBytes,
+        long actualFileSizeInBytes) {
+
+        long differenceInFileSize = actualFileSizeInBytes - expectedFileSizeInBytes;
+        return String.format("%s (expected %d bytes and got %d bytes - difference of %d bytes (%.2f%%))",
+            fileNamePath,
+            expectedFileSizeInBytes,
+            actualFileSizeInBytes,
+            differenceInFileSize,
+            differenceInFileSize * 100d / expectedFileSizeInBytes
         );
     }
 
@@ -54,12 +109,4 @@ public class FileSizer {
     private long getActualFileSizeInBytes() {
         return this.actualFileSizeInBytes;
     }
-
-    private long getDifferenceInFileSize() {
-        return getActualFileSizeInBytes() - getExpectedFileSizeInBytes();
-    }
-
-    private double getPercentDifferenceInFileSize() {
-        return getDifferenceInFileSize() * 100d / getExpectedFileSizeInBytes();
-    }
 }
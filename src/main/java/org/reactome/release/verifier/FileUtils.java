@@ -3,24 +3,22 @@ package org.reactome.release.verifier;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
-import software.amazon.awssdk.core.sync.ResponseTransformer;
-import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import java.io.*;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.zip.GZIPInputStream;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * @author Joel Weiser (joel.weiser@oicr.on.ca)
  * Created 8/20/2024
  */
 public class FileUtils {
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
 
     /**
      * Deletes a directory and its contents.  If the directory does not exist, this method does nothing.
@@ -49,46 +47,100 @@ public class FileUtils {
     }
 
     /**
-     * Extracts a gzipped tar file to a given location.
+     * Creates an empty, uniquely named hidden file alongside a file, to be written and then moved over it.  Unlike
+     * {@link Files#createTempFile(Path, String, String, java.nio.file.attribute.FileAttribute[])}, which makes the
+     * file readable by its owner only, the file is created with the default permissions of a new file (as limited
+     * by the umask), so a file moved into place is as readable as one written in place.
+     *
+     * @param filePath File the temporary file will replace
+     * @return Path of the temporary file, named ".&lt;file name&gt;.&lt;random&gt;.tmp"
+     * @throws IOException Thrown if unable to create the temporary file
+     */
+    static Path createTemporarySibling(Path filePath) throws IOException {
+        while (true) {
+            Path temporaryFilePath = filePath.resolveSibling("." + filePath.getFileName() + "." +
+                Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36) + TEMPORARY_FILE_EXTENSION);
+            try {
+                Files.newByteChannel(temporaryFilePath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)
+                    .close();
+                return temporaryFilePath;
+            } catch (FileAlreadyExistsException e) {
+                // Another file took the name first, so try another
+            }
+        }
+    }
+
+    /**
+     * Checks if a file is a temporary file made by {@link #createTemporarySibling(Path)}, such as one left behind
+     * by an interrupted extraction or decompression
+     *
+     * @param relativePath Path of the file relative to the directory it is in
+     * @return <code>true</code> if the file is a temporary file;<code>false</code> otherwise
+     */
+    public static boolean isTemporaryFile(String relativePath) {
+        String fileName = relativePath.substring(relativePath.lastIndexOf('/') + 1);
+        return fileName.startsWith(".") && fileName.endsWith(TEMPORARY_FILE_EXTENSION);
+    }
+
+    /**
+     * Checks if a file in an output directory was written by verification rather than by the release step: a
+     * verification report, the files and sizes list or a temporary file still being written.  Such files are
+     * neither listed in a manifest nor reported as unexpected.
+     *
+     * @param relativePath Path of the file relative to the output directory
+     * @return <code>true</code> if the file was written by verification;<code>false</code> otherwise
+     */
+    public static boolean isGeneratedFile(String relativePath) {
+        return ReportSink.isReportFile(relativePath) ||
+            relativePath.equals(getFilesAndSizesListFileName()) ||
+            isTemporaryFile(relativePath);
+    }
+
+    /**
+     * Extracts a gzipped tar file to a given location.  Decompression and file writes are overlapped using a
+     * {@link TarGzExtractor} with the default number of writer threads.
      *
      * @param tgzFilePath Path to the tar gzipped file to extract
      * @param outputDir Path to the location of where to extract
      * @throws IOException Thrown if unable to gunzip or extract the tar file
      */
     public static void untarTgzFile(String tgzFilePath, String outputDir) throws IOException {
-        try (FileInputStream fis = new FileInputStream(tgzFilePath);
-             GzipCompressorInputStream gis = new GzipCompressorInputStream(fis);
-             TarArchiveInputStream tis = new TarArchiveInputStream(gis)) {
-
-            TarArchiveEntry entry;
-            while ((entry = tis.getNextTarEntry()) != null) {
-                File outputFile = new File(outputDir, entry.getName());
-
-                if (entry.isDirectory()) {
-                    if (!outputFile.exists() && !outputFile.mkdirs()) {
-                        throw new IOException("Failed to create directory: " + outputFile);
-                    }
-                } else {
-                    File parent = outputFile.getParentFile();
-                    if (!parent.exists() && !parent.mkdirs()) {
-                        throw new IOException("Failed to create directory: " + parent);
-                    }
-
-                    try (FileOutputStream fos = new FileOutputStream(outputFile)) {
-                        byte[] buffer = new byte[1024];
-                        int len;
-                        while ((len = tis.read(buffer)) > 0) {
-                            fos.write(buffer, 0, len);
-                        }
-                    }
-                }
-            }
+        long phaseStartTime = Metrics.getShared().startTimer();
+        try {
+            TransferStatistics statistics = new TarGzExtractor(TarGzExtractor.DEFAULT_WRITER_THREADS)
+                .extract(Paths.get(tgzFilePath), Paths.get(outputDir));
+            Metrics.getShared().increment(Metrics.BYTES_EXTRACTED, statistics.getByteCount());
+        } finally {
+            Metrics.getShared().recordPhaseDuration("extract", phaseStartTime);
+        }
+    }
+
+    /**
+     * Reads a gzipped tar stream entry by entry, passing each entry and its payload to a consumer without writing
+     * anything to disk.  The stream is not closed by this method.
+     *
+     * @param tgzInputStream Stream of the tar gzipped content
+     * @param entryConsumer Consumer of each entry in the archive
+     * @throws IOException Thrown if unable to gunzip or read the tar stream or if thrown by the consumer
+     */
+    public static void forEachTarGzEntry(InputStream tgzInputStream, TarEntryConsumer entryConsumer)
+        throws IOException {
+
+        GzipCompressorInputStream gis = new GzipCompressorInputStream(
+            new BufferedInputStream(tgzInputStream, STREAM_BUFFER_SIZE));
+        TarArchiveInputStream tis = new TarArchiveInputStream(gis);
+
+        TarArchiveEntry entry;
+        while ((entry = tis.getNextTarEntry()) != null) {
+            entryConsumer.accept(entry, tis);
         }
     }
 
     /**
      * Decompresses a gzipped file by writing its contents to a new file of the same name without the .gz extension.
-     * If a null value is passed, the method does nothing.
+     * The new file only appears under its final name once it is complete.  If a null value is passed, the method
+     * does nothing.  To check a gzipped file's content without writing a decompressed copy use
+     * {@link GzipInspector} instead.
      *
      * @param filePath Path to gzipped file
      * @throws IOException Thrown if unable to read or write files
@@ -98,68 +150,75 @@ public class FileUtils {
             return;
         }
 
-        String outputFilePath = filePath.toString().replace(".gz","");
-
-        try (
-            GZIPInputStream gzipInputStream =
-                new GZIPInputStream(new BufferedInputStream(new FileInputStream(filePath.toString())));
-            BufferedOutputStream bufferedOutputStream =
-                new BufferedOutputStream(new FileOutputStream(outputFilePath));
-        ) {
-            byte[] buffer = new byte[1024];
-            int bytesRead;
-            while ((bytesRead = gzipInputStream.read(buffer)) != -1) {
-                bufferedOutputStream.write(buffer, 0, bytesRead);
-            }
-        }
+        new GzipBatchDecompressor(1, GzipBatchDecompressor.FsyncPolicy.NONE).decompress(filePath);
     }
 
     /**
-     * Downloads a folder's contents from S3 bucket to a folder named according to the folder key's name
+     * Decompresses every gzipped file under a directory, including those in subdirectories, alongside itself.  Files
+     * are decompressed concurrently on up to {@link GzipBatchDecompressor#DEFAULT_THREADS} threads.
+     *
+     * @param directory Directory containing the gzipped files
+     * @return Statistics describing the files and bytes decompressed and the aggregate throughput
+     * @throws IOException Thrown if unable to walk the directory or decompress a file
+     * @see GzipBatchDecompressor#decompressAll(Path, List)
+     */
+    public static TransferStatistics gunzipFiles(Path directory) throws IOException {
+        return new GzipBatchDecompressor(GzipBatchDecompressor.DEFAULT_THREADS, GzipBatchDecompressor.FsyncPolicy.NONE)
+            .decompressAll(directory)
+            .getTotalStatistics();
+    }
+
+    /**
+     * Downloads a folder's contents from S3 bucket to a folder named according to the folder key's name.  Objects
+     * are downloaded concurrently through the shared {@link S3TransferService}.
      *
      * @param bucketName Name of S3 bucket
      * @param folderKey Path to folder
+     * @see #downloadFolderFromS3WithStatistics(String, String)
      */
     public static void downloadFolderFromS3(String bucketName, String folderKey) {
-        S3Client s3 = S3Client.builder()
-            .region(Region.US_EAST_1)
-            .build();
-
-        ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
-            .bucket(bucketName)
-            .prefix(folderKey)
-            .build();
-
-        ListObjectsV2Response listResponse;
-        do {
-            listResponse = s3.listObjectsV2(listRequest);
-            List<S3Object> objects = listResponse.contents();
-
-            List<S3Object> filteredObjects = objects.stream()
-                .filter(s3Object -> !s3Object.key().endsWith("/"))
-                .collect(Collectors.toList());
-
-            for (S3Object s3Object : filteredObjects) {
-                downloadFile(s3, bucketName, s3Object.key(), folderKey);
-            }
+        downloadFolderFromS3WithStatistics(bucketName, folderKey);
+    }
 
-            listRequest = listRequest.toBuilder()
-                .continuationToken(listResponse.nextContinuationToken())
-                .build();
-        } while (listResponse.isTruncated());
+    /**
+     * Downloads a folder's contents from S3 bucket to a folder named according to the folder key's name, as
+     * {@link #downloadFolderFromS3(String, String)} does
+     *
+     * @param bucketName Name of S3 bucket
+     * @param folderKey Path to folder
+     * @return Statistics describing the files downloaded and the aggregate throughput
+     */
+    public static TransferStatistics downloadFolderFromS3WithStatistics(String bucketName, String folderKey) {
+        Path folderName = Paths.get(folderKey).getFileName();
+        return S3TransferService.getShared().downloadFolder(bucketName, folderKey, folderName);
     }
 
     /**
-     * Downloads list of files from S3 bucket and saved as local files of the same names
+     * Downloads list of files from S3 bucket and saved as local files of the same names.  Files are downloaded
+     * concurrently through the shared {@link S3TransferService}.
      *
      * @param bucketName Name of S3 bucket
      * @param fileKeys List of paths to files
      * @throws S3Exception Thrown if problem accessing S3 files
+     * @see #downloadFilesFromS3WithStatistics(String, List)
      */
     public static void downloadFilesFromS3(String bucketName, List<String> fileKeys) throws S3Exception {
-        for (String fileKey : fileKeys) {
-            downloadFileFromS3(bucketName, fileKey);
-        }
+        downloadFilesFromS3WithStatistics(bucketName, fileKeys);
+    }
+
+    /**
+     * Downloads list of files from S3 bucket and saved as local files of the same names, as
+     * {@link #downloadFilesFromS3(String, List)} does
+     *
+     * @param bucketName Name of S3 bucket
+     * @param fileKeys List of paths to files
+     * @return Statistics describing the files downloaded and the aggregate throughput
+     * @throws S3Exception Thrown if problem accessing S3 files
+     */
+    public static TransferStatistics downloadFilesFromS3WithStatistics(String bucketName, List<String> fileKeys)
+        throws S3Exception {
+
+        return S3TransferService.getShared().downloadFiles(bucketName, fileKeys, Paths.get(""));
     }
 
     /**
@@ -170,26 +229,38 @@ public class FileUtils {
      * @throws S3Exception Thrown if problem accessing S3 files
      */
     public static void downloadFileFromS3(String bucketName, String fileKey) throws S3Exception {
-        S3Client s3 = S3Client.builder().region(Region.US_EAST_1).build();
-
-        Path fileKeyPath = Paths.get(fileKey);
-        s3.getObject(
-            GetObjectRequest.builder().bucket(bucketName).key(fileKey).build(),
-            ResponseTransformer.toFile(fileKeyPath.getFileName())
-        );
-        s3.close();
+        S3TransferService.getShared().downloadFile(bucketName, fileKey, Paths.get(fileKey).getFileName());
+    }
+
+    /**
+     * Downloads a large file from S3 bucket as parallel byte ranges and saves it as a local file of the same name
+     *
+     * @param bucketName Name of S3 bucket
+     * @param fileKey Path to file
+     * @throws IOException Thrown if unable to write the local file or the downloaded file is incomplete
+     * @throws S3Exception Thrown if problem accessing S3 files
+     * @see S3TransferService#downloadFileInParts(String, String, Path, long, long)
+     */
+    public static void downloadLargeFileFromS3(String bucketName, String fileKey) throws IOException, S3Exception {
+        S3TransferService.getShared().downloadFileInParts(bucketName, fileKey, Paths.get(fileKey).getFileName());
     }
 
     /**
      * Downloads a meta-data file describing the name and size in bytes of files created for a particular Reactome
-     * version and release step.  The file is saved as "files_and_sizes.txt".
+     * version and release step.  The file is saved as "files_and_sizes.txt".  The file is fetched through the shared
+     * {@link ManifestCache}, so it is only downloaded again if it has changed in S3, and the local copy always
+     * belongs to the requested version and release step.
      *
      * @param versionNumber Number of the Reactome version
      * @param folderName Name of the sub-folder containing stored data for a release step
+     * @throws UncheckedIOException Thrown if unable to write the meta-data file
      */
     public static void downloadFilesAndSizesListFromS3(int versionNumber, String folderName) {
-        if (Files.notExists(Paths.get(getFilesAndSizesListFileName()))) {
-            downloadFileFromS3("reactome", getFilesAndSizesListPathInS3(versionNumber, folderName));
+        try {
+            Path cachedFilePath = ManifestCache.getShared().fetch(versionNumber, folderName);
+            Files.copy(cachedFilePath, Paths.get(getFilesAndSizesListFileName()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -210,15 +281,23 @@ public class FileUtils {
      * @see #downloadFilesAndSizesListFromS3
      */
     public static Map<String, Long> getExpectedFileNameToSizeMap() throws IOException {
-        return Files.lines(Paths.get(getFilesAndSizesListFileName()))
-            .map(line -> line.split("\t"))
-            .collect(Collectors.toMap(
-                FileUtils::getFileName,
-                FileUtils::getFileSizeInBytes
-            ));
+        return getExpectedFilesAndSizesManifest().getFileNameToSizeMap();
+    }
+
+    /**
+     * Reads the meta-data file describing a release step's created files into an indexed manifest.  The manifest
+     * should be loaded once and shared rather than re-reading the meta-data file for each file being checked.
+     *
+     * @return Manifest of file names and sizes in bytes
+     * @throws IOException Thrown if unable to read the lines of the meta-data file
+     * @see #downloadFilesAndSizesListFromS3
+     */
+    public static Manifest getExpectedFilesAndSizesManifest() throws IOException {
+        return Manifest.load(Paths.get(getFilesAndSizesListFileName()));
     }
 
     public static long getCurrentFileSize(Path currentFileNamePath) {
+        Metrics.getShared().increment(Metrics.FILESYSTEM_STATS, 1);
         try {
             return Files.size(currentFileNamePath);
         } catch (IOException e) {
@@ -227,41 +306,45 @@ public class FileUtils {
         }
     }
 
+    /**
+     * Returns the expected size in bytes of a file.  This re-reads the meta-data file on every call so
+     * {@link #getExpectedFileSize(Path, Manifest)} should be preferred when checking more than one file.
+     *
+     * @param currentFileNamePath Path to the file
+     * @return Expected size in bytes or 0 if the file is not listed in the meta-data file
+     * @throws IOException Thrown if unable to read the lines of the meta-data file
+     */
     public static long getExpectedFileSize(Path currentFileNamePath) throws IOException {
-        long expectedFileSize = getExpectedFileNameToSizeMap().computeIfAbsent(
-            currentFileNamePath.getFileName().toString(), k -> 0L);
-        //System.out.println(currentFileNamePath + "\t" + expectedFileSize);
-        return expectedFileSize;
-    }
-
-    private static String getFileName(String[] columns) {
-        return columns[1];
+        return getExpectedFilesAndSizesManifest().getExpectedFileSize(currentFileNamePath.getFileName().toString());
     }
 
-    private static long getFileSizeInBytes(String[] columns) {
-        return Long.parseLong(columns[0]);
-    }
-
-    private static String getFilesAndSizesListPathInS3(int versionNumber, String folderName) {
-        return String.format("private/releases/%d/%s/downloads/data/%s",
-            versionNumber ,getFilesAndSizesListFileName()
-        );
+    /**
+     * Returns the expected size in bytes of a file as listed in an already loaded manifest.
+     *
+     * @param currentFileNamePath Path to the file
+     * @param manifest Manifest of file names and sizes in bytes
+     * @return Expected size in bytes or 0 if the file is not listed in the manifest
+     * @deprecated The file is looked up by its name alone, so a file in a subdirectory of the output directory is
+     * never found and has an expected size of 0; use {@link #getExpectedFileSize(Path, Path, Manifest)}
+     */
+    @Deprecated
+    public static long getExpectedFileSize(Path currentFileNamePath, Manifest manifest) {
+        return manifest.getExpectedFileSize(currentFileNamePath.getFileName().toString());
     }
 
-    private static void downloadFile(S3Client s3, String bucketName, String key, String folderKey) {
-        try {
-            String folderName = Paths.get(folderKey).getFileName().toString();
-            Path localFilePath = Paths.get(folderName, key.substring(folderKey.length()));
-
-            localFilePath.getParent().toFile().mkdirs();
-
-            s3.getObject(
-                GetObjectRequest.builder().bucket(bucketName).key(key).build(),
-                ResponseTransformer.toFile(localFilePath)
-            );
-        } catch (Exception e) {
-            System.err.println("Failed to download file: " + key);
-            e.printStackTrace();
-        }
+    /**
+     * Returns the expected size in bytes of a file in an output directory as listed in an already loaded manifest.
+     * The file is looked up by its path relative to the output directory, as manifests list files in
+     * subdirectories (e.g. "interactors/human.txt").
+     *
+     * @param outputDirectory Directory whose files the manifest lists
+     * @param currentFileNamePath Path to the file within the output directory
+     * @param manifest Manifest of file names and sizes in bytes
+     * @return Expected size in bytes or 0 if the file is not listed in the manifest
+     */
+    public static long getExpectedFileSize(Path outputDirectory, Path currentFileNamePath, Manifest manifest) {
+        Path relativePath = outputDirectory.toAbsolutePath().normalize()
+            .relativize(currentFileNamePath.toAbsolutePath().normalize());
+        return manifest.getExpectedFileSize(relativePath.toString().replace(File.separatorChar, '/'));
     }
 }
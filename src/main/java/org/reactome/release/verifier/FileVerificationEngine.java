@@ -0,0 +1,176 @@
+package org.reactome.release.verifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verifies the files listed in a manifest exist in an output directory and have not shrunk beyond a tolerance
+ * compared to their expected sizes.  Each file is stat-ed exactly once, with existence and size checked in the same
+ * pass, and files may be checked concurrently when verifying outputs on high latency (e.g. network) storage.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class FileVerificationEngine {
+    private static final ResultRecord.Formatter MISSING_FILE_FORMATTER =
+        resultRecord -> "File " + resultRecord.getSubject() + " does not exist";
+    private static final ResultRecord.Formatter UNREADABLE_FILE_FORMATTER =
+        resultRecord -> "File " + resultRecord.getSubject() + " could not be read: " + resultRecord.getActual();
+
+    private final Path outputDirectory;
+    private final Manifest manifest;
+    private final int fileSizePercentDropTolerance;
+    private final int parallelism;
+    private final boolean verifyChecksums;
+    private final VerificationCache verificationCache;
+    private final ErrorLimit errorLimit;
+    private final ResultsReporter reporter;
+
+    private FileVerificationEngine(
+        Path outputDirectory, Manifest manifest, int fileSizePercentDropTolerance, int parallelism,
+        boolean verifyChecksums, VerificationCache verificationCache, ErrorLimit errorLimit,
+        ResultsReporter reporter) {
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+
+        this.outputDirectory = outputDirectory;
+        this.manifest = manifest;
+        this.fileSizePercentDropTolerance = fileSizePercentDropTolerance;
+        this.parallelism = parallelism;
+        this.verifyChecksums = verifyChecksums;
+        this.verificationCache = verificationCache;
+        this.errorLimit = errorLimit;
+        this.reporter = reporter;
+    }
+
+    /**
+     * Creates an engine to verify the existence and sizes of the files in an output directory against a manifest
+     *
+     * @param outputDirectory Directory containing the files to verify
+     * @param manifest Manifest of expected file names and sizes in bytes
+     * @param fileSizePercentDropTolerance Percentage drop in file size allowed
+     * @param parallelism Number of files to check concurrently (1 checks files one at a time on the calling thread)
+     * @return File verification engine
+     */
+    public static FileVerificationEngine create(
+        Path outputDirectory, Manifest manifest, int fileSizePercentDropTolerance, int parallelism) {
+
+        return new FileVerificationEngine(outputDirectory, manifest, fileSizePercentDropTolerance, parallelism,
+            false, null, ErrorLimit.unlimited(), null);
+    }
+
+    /**
+     * @param verificationCache Cache of checksums from previous runs or <code>null</code> to hash every file
+     * @return Copy of this engine which also compares the content of each file with a checksum in the manifest
+     * against that checksum
+     */
+    public FileVerificationEngine withChecksums(VerificationCache verificationCache) {
+        return new FileVerificationEngine(this.outputDirectory, this.manifest, this.fileSizePercentDropTolerance,
+            this.parallelism, true, verificationCache, this.errorLimit, this.reporter);
+    }
+
+    /**
+     * @param errorLimit Number of errors after which remaining checks are skipped
+     * @return Copy of this engine which stops early once the error limit is reached.  Files not yet stat-ed or
+     * hashed when the limit is reached are skipped and the results are marked as truncated.
+     */
+    public FileVerificationEngine withErrorLimit(ErrorLimit errorLimit) {
+        return new FileVerificationEngine(this.outputDirectory, this.manifest, this.fileSizePercentDropTolerance,
+            this.parallelism, this.verifyChecksums, this.verificationCache, errorLimit, this.reporter);
+    }
+
+    /**
+     * @param reporter Reporter, such as a {@link ReportSink}, to receive each file's records as soon as the file is
+     * checked
+     * @return Copy of this engine which reports records while verification runs.  Records reach the reporter in the
+     * order the checks complete; the returned results still hold every record in manifest order.
+     */
+    public FileVerificationEngine withReporter(ResultsReporter reporter) {
+        return new FileVerificationEngine(this.outputDirectory, this.manifest, this.fileSizePercentDropTolerance,
+            this.parallelism, this.verifyChecksums, this.verificationCache, this.errorLimit, reporter);
+    }
+
+    /**
+     * Checks every file in the manifest.  Results are returned in manifest order regardless of the order in which
+     * the checks complete.
+     *
+     * @return Results with an error for each missing, unreadable or too small file and an info message for each
+     * file of acceptable size, marked as truncated if the error limit stopped verification early
+     * @throws IOException Thrown if interrupted while waiting for concurrent checks to complete
+     */
+    public Results verify() throws IOException {
+        AtomicInteger skippedChecksums = new AtomicInteger();
+        List<Results> fileResults = ParallelTasks.map(
+            this.manifest.getFileNames(), this.parallelism, "file-verifier",
+            fileName -> verifyFileWithinErrorLimit(fileName, skippedChecksums), this.errorLimit::isReached);
+
+        Results results = new Results();
+        int skippedFiles = 0;
+        for (Results fileResult : fileResults) {
+            if (fileResult == null) {
+                skippedFiles++;
+            } else {
+                results.mergeResults(fileResult);
+            }
+        }
+
+        if (skippedFiles > 0 || skippedChecksums.get() > 0) {
+            Results truncation = new Results();
+            truncation.markTruncated("Verification stopped after reaching " + this.errorLimit.getMaxErrors() +
+                " error(s): " + skippedFiles + " of " + fileResults.size() + " file(s) and " + skippedChecksums.get() +
+                " checksum(s) were not checked");
+            truncation.reportTo(this.reporter);
+            results.mergeResults(truncation);
+        }
+        return results;
+    }
+
+    private Results verifyFileWithinErrorLimit(String fileName, AtomicInteger skippedChecksums) {
+        Results results = verifyFile(fileName, skippedChecksums);
+        this.errorLimit.recordErrors(results.getErrorCount());
+        results.reportTo(this.reporter);
+        return results;
+    }
+
+    private Results verifyFile(String fileName, AtomicInteger skippedChecksums) {
+        Path filePath = this.outputDirectory.resolve(fileName);
+        Results results = new Results();
+
+        BasicFileAttributes fileAttributes;
+        Metrics.getShared().increment(Metrics.FILESYSTEM_STATS, 1);
+        try {
+            fileAttributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            results.add(ResultRecord.create(
+                "file-exists", ResultRecord.Severity.ERROR, filePath, null, null, MISSING_FILE_FORMATTER));
+            return results;
+        } catch (IOException e) {
+            results.add(ResultRecord.create(
+                "file-exists", ResultRecord.Severity.ERROR, filePath, null, e.getMessage(), UNREADABLE_FILE_FORMATTER));
+            return results;
+        }
+
+        FileSizer fileSizer = new FileSizer(
+            filePath, fileAttributes.size(), this.manifest.getExpectedFileSize(fileName));
+        results.add(fileSizer.toResultRecord(this.fileSizePercentDropTolerance));
+
+        Checksum expectedChecksum = this.manifest.getExpectedChecksum(fileName);
+        if (this.verifyChecksums && expectedChecksum != null) {
+            if (this.errorLimit.isReached()) {
+                // Hashing is the slowest check, so it is skipped once other files have used up the error limit
+                skippedChecksums.incrementAndGet();
+                return results;
+            }
+            results.mergeResults(
+                ChecksumVerifier.verifyFile(filePath, expectedChecksum, fileAttributes, this.verificationCache));
+        }
+        return results;
+    }
+}
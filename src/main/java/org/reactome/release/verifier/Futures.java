@@ -0,0 +1,85 @@
+package org.reactome.release.verifier;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Helpers for blocking on {@link CompletableFuture}s which rethrow the original failure rather than the
+ * {@link ExecutionException} or {@link CompletionException} wrapping it.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+final class Futures {
+
+    private Futures() {
+    }
+
+    static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            throw asRuntimeException(e.getCause());
+        }
+    }
+
+    static <T> void awaitAll(List<CompletableFuture<T>> futures) {
+        RuntimeException firstFailure = null;
+        for (CompletableFuture<T> future : futures) {
+            try {
+                await(future);
+            } catch (RuntimeException e) {
+                if (firstFailure == null) {
+                    firstFailure = e;
+                }
+            }
+        }
+
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+    }
+
+    /**
+     * Waits for every future, cancelling the others as soon as one fails.  The first failure is rethrown rather than
+     * the cancellations it caused.
+     */
+    static <T> void awaitAllOrCancel(List<CompletableFuture<T>> futures) {
+        AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+        for (CompletableFuture<T> future : futures) {
+            future.whenComplete((result, e) -> {
+                if (e != null && firstFailure.compareAndSet(null, e)) {
+                    for (CompletableFuture<T> otherFuture : futures) {
+                        otherFuture.cancel(true);
+                    }
+                }
+            });
+        }
+
+        try {
+            awaitAll(futures);
+        } catch (RuntimeException e) {
+            throw firstFailure.get() != null ? asRuntimeException(firstFailure.get()) : e;
+        }
+    }
+
+    static Throwable unwrap(Throwable throwable) {
+        while ((throwable instanceof CompletionException || throwable instanceof ExecutionException) &&
+            throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private static RuntimeException asRuntimeException(Throwable throwable) {
+        Throwable cause = unwrap(throwable);
+        return cause instanceof RuntimeException ? (RuntimeException) cause : new CompletionException(cause);
+    }
+}
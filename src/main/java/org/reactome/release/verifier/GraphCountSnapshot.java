@@ -0,0 +1,142 @@
+package org.reactome.release.verifier;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads and writes graph counts as a small snapshot file, so a release's counts can be compared against by later
+ * runs without keeping its graph database available.
+ * <p>
+ * The snapshot is a tab separated text file starting with a version header.  Each following line is one count:
+ * <pre>
+ * label              &lt;label&gt;              &lt;count&gt;
+ * relationship       &lt;relationship type&gt;  &lt;count&gt;
+ * species            &lt;label&gt;              &lt;species name&gt;  &lt;count&gt;
+ * </pre>
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class GraphCountSnapshot {
+    private static final String HEADER = "#graph-count-snapshot\tv1";
+    private static final String LABEL_LINE_TYPE = "label";
+    private static final String RELATIONSHIP_TYPE_LINE_TYPE = "relationship";
+    private static final String SPECIES_LINE_TYPE = "species";
+
+    /**
+     * Counts every label and relationship type in a graph database, and optionally some labels per species, and
+     * writes the counts to a snapshot file
+     *
+     * @param dbParams Parameters of the graph database
+     * @param speciesLabels Node labels to also count per species (may be empty)
+     * @param snapshotFilePath Path of the snapshot file to write
+     * @return Graph counts written
+     * @throws IOException Thrown if unable to write the snapshot file
+     */
+    public static GraphCounts export(DBParams dbParams, Collection<String> speciesLabels, Path snapshotFilePath)
+        throws IOException {
+
+        GraphCounts graphCounts = GraphCounts.queryAll(dbParams.getSharedGraphDBDriver());
+        if (!speciesLabels.isEmpty()) {
+            graphCounts = graphCounts.withSpeciesCounts(dbParams.getSharedGraphDBDriver(), speciesLabels);
+        }
+        write(graphCounts, snapshotFilePath);
+        return graphCounts;
+    }
+
+    /**
+     * Writes graph counts to a snapshot file.  The file is written under a temporary name and moved into place so
+     * an interrupted write never leaves a partial snapshot.
+     *
+     * @param graphCounts Graph counts to write
+     * @param snapshotFilePath Path of the snapshot file to write
+     * @throws IOException Thrown if unable to write the snapshot file
+     */
+    public static void write(GraphCounts graphCounts, Path snapshotFilePath) throws IOException {
+        Path temporaryFilePath = snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temporaryFilePath, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (Map.Entry<String, Long> labelCount : graphCounts.getLabelCounts().entrySet()) {
+                writeLine(writer, LABEL_LINE_TYPE, labelCount.getKey(), labelCount.getValue().toString());
+            }
+            for (Map.Entry<String, Long> relationshipTypeCount : graphCounts.getRelationshipTypeCounts().entrySet()) {
+                writeLine(writer, RELATIONSHIP_TYPE_LINE_TYPE,
+                    relationshipTypeCount.getKey(), relationshipTypeCount.getValue().toString());
+            }
+            for (Map.Entry<String, Map<String, Long>> labelSpeciesCounts : graphCounts.getSpeciesCounts().entrySet()) {
+                for (Map.Entry<String, Long> speciesCount : labelSpeciesCounts.getValue().entrySet()) {
+                    writeLine(writer, SPECIES_LINE_TYPE,
+                        labelSpeciesCounts.getKey(), speciesCount.getKey(), speciesCount.getValue().toString());
+                }
+            }
+        }
+        Files.move(temporaryFilePath, snapshotFilePath,
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads graph counts from a snapshot file
+     *
+     * @param snapshotFilePath Path of the snapshot file to read
+     * @return Graph counts in the snapshot
+     * @throws IOException Thrown if unable to read the snapshot file or it is not a valid snapshot
+     */
+    public static GraphCounts read(Path snapshotFilePath) throws IOException {
+        Map<String, Long> labelCounts = new LinkedHashMap<>();
+        Map<String, Long> relationshipTypeCounts = new LinkedHashMap<>();
+        Map<String, Map<String, Long>> speciesCounts = new LinkedHashMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(snapshotFilePath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (!HEADER.equals(header)) {
+                throw new IOException(snapshotFilePath + " is not a graph count snapshot (unrecognized header " +
+                    header + ")");
+            }
+
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+
+                String[] columns = line.split("\t");
+                try {
+                    if (columns[0].equals(LABEL_LINE_TYPE) && columns.length == 3) {
+                        labelCounts.put(columns[1], Long.parseLong(columns[2]));
+                    } else if (columns[0].equals(RELATIONSHIP_TYPE_LINE_TYPE) && columns.length == 3) {
+                        relationshipTypeCounts.put(columns[1], Long.parseLong(columns[2]));
+                    } else if (columns[0].equals(SPECIES_LINE_TYPE) && columns.length == 4) {
+                        speciesCounts.computeIfAbsent(columns[1], label -> new LinkedHashMap<>())
+                            .put(columns[2], Long.parseLong(columns[3]));
+                    } else {
+                        throw new IOException("Malformed line " + lineNumber + " in " + snapshotFilePath + ": " + line);
+                    }
+                } catch (NumberFormatException e) {
+                    throw new IOException("Invalid count on line " + lineNumber + " in " + snapshotFilePath, e);
+                }
+            }
+        }
+        return GraphCounts.create(labelCounts, relationshipTypeCounts, speciesCounts);
+    }
+
+    private static void writeLine(BufferedWriter writer, String... columns) throws IOException {
+        for (String column : columns) {
+            if (column.indexOf('\t') != -1 || column.indexOf('\n') != -1 || column.indexOf('\r') != -1) {
+                throw new IOException("Can not write name containing a tab or line break to snapshot: " + column);
+            }
+        }
+        writer.write(String.join("\t", columns));
+        writer.newLine();
+    }
+}
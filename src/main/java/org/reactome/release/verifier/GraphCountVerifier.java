@@ -0,0 +1,169 @@
+package org.reactome.release.verifier;
+
+import org.neo4j.driver.Driver;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Compares node counts per label and relationship counts per type between the current and previous release's graph
+ * databases.  Both databases are queried concurrently with batched count queries, and every count is then checked
+ * for a drop beyond the tolerance in one pass.  The previous release's counts can instead be given from a
+ * {@link GraphCountSnapshot}, in which case only the current database is queried.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class GraphCountVerifier {
+    private final DBParams currentDBParams;
+    private final DBParams previousDBParams;
+    private final GraphCounts previousCounts;
+    private final int percentDropTolerance;
+
+    /**
+     * Creates a verifier comparing two graph databases
+     *
+     * @param currentDBParams Parameters of the current release's graph database
+     * @param previousDBParams Parameters of the previous release's graph database
+     * @param percentDropTolerance Percentage drop in a count allowed
+     */
+    public GraphCountVerifier(DBParams currentDBParams, DBParams previousDBParams, int percentDropTolerance) {
+        this.currentDBParams = currentDBParams;
+        this.previousDBParams = previousDBParams;
+        this.previousCounts = null;
+        this.percentDropTolerance = percentDropTolerance;
+    }
+
+    /**
+     * Creates a verifier comparing a graph database with previously recorded counts, for example those read from a
+     * {@link GraphCountSnapshot}
+     *
+     * @param currentDBParams Parameters of the current release's graph database
+     * @param previousCounts Counts of the previous release
+     * @param percentDropTolerance Percentage drop in a count allowed
+     */
+    public GraphCountVerifier(DBParams currentDBParams, GraphCounts previousCounts, int percentDropTolerance) {
+        this.currentDBParams = currentDBParams;
+        this.previousDBParams = null;
+        this.previousCounts = previousCounts;
+        this.percentDropTolerance = percentDropTolerance;
+    }
+
+    /**
+     * Compares the counts of the given labels and relationship types
+     *
+     * @param labels Node labels to compare
+     * @param relationshipTypes Relationship types to compare
+     * @return Results with an error for each count which dropped by the tolerance or more and an info message for
+     * each other count
+     */
+    public Results verify(Collection<String> labels, Collection<String> relationshipTypes) {
+        if (this.previousCounts != null) {
+            return verifyAgainstPreviousCounts(this.previousCounts.select(labels, relationshipTypes));
+        }
+        return verify(driver -> GraphCounts.query(driver, labels, relationshipTypes));
+    }
+
+    /**
+     * Compares the counts of every label and relationship type in either database or, when comparing with
+     * previously recorded counts, every recorded label, relationship type and per-species count
+     *
+     * @return Results with an error for each count which dropped by the tolerance or more and an info message for
+     * each other count
+     */
+    public Results verifyAll() {
+        if (this.previousCounts != null) {
+            return verifyAgainstPreviousCounts(this.previousCounts);
+        }
+        return verify(GraphCounts::queryAll);
+    }
+
+    /**
+     * Checks each count in the previous release against the same count in the current release.  A label,
+     * relationship type or species missing from the current release counts as 0.
+     *
+     * @param currentCounts Counts of the current release
+     * @param previousCounts Counts of the previous release
+     * @param percentDropTolerance Percentage drop in a count allowed
+     * @return Results with an error for each count which dropped by the tolerance or more and an info message for
+     * each other count
+     */
+    public static Results compare(GraphCounts currentCounts, GraphCounts previousCounts, int percentDropTolerance) {
+        Results results = new Results();
+        compareCounts(results, "Label", currentCounts.getLabelCounts(), previousCounts.getLabelCounts(),
+            percentDropTolerance);
+        compareCounts(results, "Relationship type", currentCounts.getRelationshipTypeCounts(),
+            previousCounts.getRelationshipTypeCounts(), percentDropTolerance);
+        for (Map.Entry<String, Map<String, Long>> labelSpeciesCounts : previousCounts.getSpeciesCounts().entrySet()) {
+            String label = labelSpeciesCounts.getKey();
+            compareCounts(results, "Label " + label + " in species",
+                currentCounts.getSpeciesCounts().getOrDefault(label, Collections.emptyMap()),
+                labelSpeciesCounts.getValue(), percentDropTolerance);
+        }
+        return results;
+    }
+
+    private Results verifyAgainstPreviousCounts(GraphCounts previousCounts) {
+        Driver driver = this.currentDBParams.getSharedGraphDBDriver();
+        GraphCounts currentCounts =
+            GraphCounts.query(driver, previousCounts.getLabels(), previousCounts.getRelationshipTypes());
+        if (!previousCounts.getSpeciesLabels().isEmpty()) {
+            currentCounts = currentCounts.withSpeciesCounts(driver, previousCounts.getSpeciesLabels());
+        }
+        return compare(currentCounts, previousCounts, this.percentDropTolerance);
+    }
+
+    private Results verify(Function<Driver, GraphCounts> countQuery) {
+        ExecutorService executorService = Executors.newFixedThreadPool(2, new DaemonThreadFactory("graph-counter"));
+        try {
+            CompletableFuture<GraphCounts> currentCounts =
+                CompletableFuture.supplyAsync(() -> queryCounts(this.currentDBParams, countQuery), executorService);
+            CompletableFuture<GraphCounts> previousCounts =
+                CompletableFuture.supplyAsync(() -> queryCounts(this.previousDBParams, countQuery), executorService);
+
+            return compare(
+                Futures.await(currentCounts),
+                Futures.await(previousCounts),
+                this.percentDropTolerance
+            );
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static GraphCounts queryCounts(DBParams dbParams, Function<Driver, GraphCounts> countQuery) {
+        return countQuery.apply(dbParams.getSharedGraphDBDriver());
+    }
+
+    private static void compareCounts(Results results, String countType, Map<String, Long> currentCounts,
+        Map<String, Long> previousCounts, int percentDropTolerance) {
+
+        String[] names = previousCounts.keySet().toArray(new String[0]);
+        long[] oldCounts = new long[names.length];
+        long[] newCounts = new long[names.length];
+        for (int i = 0; i < names.length; i++) {
+            oldCounts[i] = previousCounts.get(names[i]);
+            newCounts[i] = currentCounts.getOrDefault(names[i], 0L);
+        }
+
+        BitSet drops = CountUtils.greaterThanOrEqualToXPercentDrops(newCounts, oldCounts, percentDropTolerance);
+        ResultRecord.Formatter formatter = resultRecord -> String.format("%s %s count went from %d to %d",
+            countType, resultRecord.getSubject(), resultRecord.getExpected(), resultRecord.getActual());
+        for (int i = 0; i < names.length; i++) {
+            results.add(ResultRecord.create(
+                "graph-count",
+                drops.get(i) ? ResultRecord.Severity.ERROR : ResultRecord.Severity.INFO,
+                names[i],
+                oldCounts[i],
+                newCounts[i],
+                formatter
+            ));
+        }
+    }
+}
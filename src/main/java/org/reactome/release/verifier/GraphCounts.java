@@ -0,0 +1,299 @@
+package org.reactome.release.verifier;
+
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Session;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Node counts per label and relationship counts per type in a graph database.  Counts are collected with batched
+ * queries of many labels or types at a time (each part of which is answered from Neo4j's count store), rather than
+ * one round-trip per schema class.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class GraphCounts {
+    public static final int MAX_COUNTS_PER_QUERY = 100;
+
+    private static final String LABEL_COUNT_QUERY_PART = "MATCH (n:%s) RETURN $%s AS name, count(n) AS count";
+    private static final String RELATIONSHIP_TYPE_COUNT_QUERY_PART =
+        "MATCH ()-[r:%s]->() RETURN $%s AS name, count(r) AS count";
+
+    private final Map<String, Long> labelCounts;
+    private final Map<String, Long> relationshipTypeCounts;
+    private final Map<String, Map<String, Long>> speciesCounts;
+
+    private GraphCounts(Map<String, Long> labelCounts, Map<String, Long> relationshipTypeCounts,
+        Map<String, Map<String, Long>> speciesCounts) {
+
+        this.labelCounts = Collections.unmodifiableMap(labelCounts);
+        this.relationshipTypeCounts = Collections.unmodifiableMap(relationshipTypeCounts);
+        this.speciesCounts = Collections.unmodifiableMap(speciesCounts);
+    }
+
+    /**
+     * Creates counts from already known values
+     *
+     * @param labelCounts Map of node label to node count
+     * @param relationshipTypeCounts Map of relationship type to relationship count
+     * @return Graph counts
+     */
+    public static GraphCounts create(Map<String, Long> labelCounts, Map<String, Long> relationshipTypeCounts) {
+        return create(labelCounts, relationshipTypeCounts, Collections.emptyMap());
+    }
+
+    /**
+     * Creates counts, including per-species node counts, from already known values
+     *
+     * @param labelCounts Map of node label to node count
+     * @param relationshipTypeCounts Map of relationship type to relationship count
+     * @param speciesCounts Map of node label to a map of species name to node count
+     * @return Graph counts
+     */
+    public static GraphCounts create(Map<String, Long> labelCounts, Map<String, Long> relationshipTypeCounts,
+        Map<String, Map<String, Long>> speciesCounts) {
+
+        Map<String, Map<String, Long>> speciesCountsCopy = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, Long>> labelSpeciesCounts : speciesCounts.entrySet()) {
+            speciesCountsCopy.put(labelSpeciesCounts.getKey(),
+                Collections.unmodifiableMap(new LinkedHashMap<>(labelSpeciesCounts.getValue())));
+        }
+        return new GraphCounts(
+            new LinkedHashMap<>(labelCounts), new LinkedHashMap<>(relationshipTypeCounts), speciesCountsCopy
+        );
+    }
+
+    /**
+     * Counts the nodes with each label and the relationships of each type in a graph database.  Labels and types
+     * which do not exist in the database have a count of 0.
+     *
+     * @param driver Driver for the graph database
+     * @param labels Node labels to count
+     * @param relationshipTypes Relationship types to count
+     * @return Graph counts
+     */
+    public static GraphCounts query(Driver driver, Collection<String> labels, Collection<String> relationshipTypes) {
+        try (Session session = driver.session()) {
+            return new GraphCounts(
+                queryCounts(session, labels, createLabelCountQueries(labels)),
+                queryCounts(session, relationshipTypes, createRelationshipTypeCountQueries(relationshipTypes)),
+                Collections.emptyMap()
+            );
+        }
+    }
+
+    /**
+     * Counts every node label and relationship type present in a graph database
+     *
+     * @param driver Driver for the graph database
+     * @return Graph counts
+     */
+    public static GraphCounts queryAll(Driver driver) {
+        List<String> labels;
+        List<String> relationshipTypes;
+        try (Session session = driver.session()) {
+            labels = session.run("CALL db.labels() YIELD label RETURN label")
+                .list(record -> record.get("label").asString());
+            relationshipTypes = session.run(
+                "CALL db.relationshipTypes() YIELD relationshipType RETURN relationshipType")
+                .list(record -> record.get("relationshipType").asString());
+        }
+        return query(driver, labels, relationshipTypes);
+    }
+
+    /**
+     * Returns a copy of these counts with the nodes of each given label also counted per species, using the
+     * "speciesName" property of the nodes.  Unlike the totals, these counts are not held in the count store so each
+     * label requires a scan of its nodes.
+     *
+     * @param driver Driver for the graph database
+     * @param speciesLabels Node labels to count per species
+     * @return Graph counts with per-species counts of the labels
+     */
+    public GraphCounts withSpeciesCounts(Driver driver, Collection<String> speciesLabels) {
+        Map<String, Map<String, Long>> speciesCounts = new LinkedHashMap<>(this.speciesCounts);
+        try (Session session = driver.session()) {
+            for (String label : speciesLabels) {
+                Map<String, Long> labelSpeciesCounts = new LinkedHashMap<>();
+                String query = String.format("MATCH (n:%s) WHERE n.speciesName IS NOT NULL " +
+                    "RETURN n.speciesName AS species, count(n) AS count ORDER BY species", escape(label));
+                long queryStartTime = Metrics.getShared().startTimer();
+                for (Record record : session.run(query).list()) {
+                    labelSpeciesCounts.put(record.get("species").asString(), record.get("count").asLong());
+                }
+                Metrics.getShared().recordDuration(Metrics.CYPHER_QUERY_SECONDS, queryStartTime);
+                speciesCounts.put(label, Collections.unmodifiableMap(labelSpeciesCounts));
+            }
+        }
+        return new GraphCounts(
+            new LinkedHashMap<>(this.labelCounts), new LinkedHashMap<>(this.relationshipTypeCounts), speciesCounts
+        );
+    }
+
+    /**
+     * Returns a copy of these counts restricted to the given labels and relationship types.  Names not counted here
+     * are left out rather than given a count.
+     *
+     * @param labels Node labels to keep
+     * @param relationshipTypes Relationship types to keep
+     * @return Graph counts of the labels and relationship types
+     */
+    public GraphCounts select(Collection<String> labels, Collection<String> relationshipTypes) {
+        Map<String, Long> selectedLabelCounts = new LinkedHashMap<>();
+        Map<String, Map<String, Long>> selectedSpeciesCounts = new LinkedHashMap<>();
+        for (String label : labels) {
+            if (this.labelCounts.containsKey(label)) {
+                selectedLabelCounts.put(label, this.labelCounts.get(label));
+            }
+            if (this.speciesCounts.containsKey(label)) {
+                selectedSpeciesCounts.put(label, this.speciesCounts.get(label));
+            }
+        }
+
+        Map<String, Long> selectedRelationshipTypeCounts = new LinkedHashMap<>();
+        for (String relationshipType : relationshipTypes) {
+            if (this.relationshipTypeCounts.containsKey(relationshipType)) {
+                selectedRelationshipTypeCounts.put(relationshipType, this.relationshipTypeCounts.get(relationshipType));
+            }
+        }
+        return new GraphCounts(selectedLabelCounts, selectedRelationshipTypeCounts, selectedSpeciesCounts);
+    }
+
+    /**
+     * @return Unmodifiable map of node label to node count
+     */
+    public Map<String, Long> getLabelCounts() {
+        return this.labelCounts;
+    }
+
+    /**
+     * @return Unmodifiable map of relationship type to relationship count
+     */
+    public Map<String, Long> getRelationshipTypeCounts() {
+        return this.relationshipTypeCounts;
+    }
+
+    /**
+     * @param label Node label
+     * @return Number of nodes with the label or 0 if it was not counted
+     */
+    public long getLabelCount(String label) {
+        return this.labelCounts.getOrDefault(label, 0L);
+    }
+
+    /**
+     * @param relationshipType Relationship type
+     * @return Number of relationships of the type or 0 if it was not counted
+     */
+    public long getRelationshipTypeCount(String relationshipType) {
+        return this.relationshipTypeCounts.getOrDefault(relationshipType, 0L);
+    }
+
+    /**
+     * @return Unmodifiable map of node label to a map of species name to node count, for the labels counted per
+     * species
+     */
+    public Map<String, Map<String, Long>> getSpeciesCounts() {
+        return this.speciesCounts;
+    }
+
+    /**
+     * @return Node labels counted per species
+     */
+    public Set<String> getSpeciesLabels() {
+        return this.speciesCounts.keySet();
+    }
+
+    /**
+     * @return Counted node labels
+     */
+    public Set<String> getLabels() {
+        return this.labelCounts.keySet();
+    }
+
+    /**
+     * @return Counted relationship types
+     */
+    public Set<String> getRelationshipTypes() {
+        return this.relationshipTypeCounts.keySet();
+    }
+
+    /**
+     * Builds the queries counting the nodes with each label, at most {@link #MAX_COUNTS_PER_QUERY} labels per query.
+     * Each query returns one record per label with the label as "name" and its node count as "count".
+     *
+     * @param labels Node labels to count
+     * @return Count queries, in the order of the labels
+     */
+    public static List<Query> createLabelCountQueries(Collection<String> labels) {
+        return createCountQueries(labels, LABEL_COUNT_QUERY_PART);
+    }
+
+    /**
+     * Builds the queries counting the relationships of each type, at most {@link #MAX_COUNTS_PER_QUERY} types per
+     * query.  Each query returns one record per type with the type as "name" and its relationship count as "count".
+     *
+     * @param relationshipTypes Relationship types to count
+     * @return Count queries, in the order of the relationship types
+     */
+    public static List<Query> createRelationshipTypeCountQueries(Collection<String> relationshipTypes) {
+        return createCountQueries(relationshipTypes, RELATIONSHIP_TYPE_COUNT_QUERY_PART);
+    }
+
+    private static Map<String, Long> queryCounts(Session session, Collection<String> names, List<Query> queries) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (String name : names) {
+            counts.put(name, 0L);
+        }
+        for (Query query : queries) {
+            long queryStartTime = Metrics.getShared().startTimer();
+            for (Record record : session.run(query).list()) {
+                counts.put(record.get("name").asString(), record.get("count").asLong());
+            }
+            Metrics.getShared().recordDuration(Metrics.CYPHER_QUERY_SECONDS, queryStartTime);
+        }
+        return counts;
+    }
+
+    private static List<Query> createCountQueries(Collection<String> names, String countQueryPart) {
+        List<Query> queries = new ArrayList<>();
+        List<String> batch = new ArrayList<>(MAX_COUNTS_PER_QUERY);
+        for (String name : names) {
+            batch.add(name);
+            if (batch.size() == MAX_COUNTS_PER_QUERY) {
+                queries.add(createBatchQuery(batch, countQueryPart));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            queries.add(createBatchQuery(batch, countQueryPart));
+        }
+        return queries;
+    }
+
+    private static Query createBatchQuery(List<String> names, String countQueryPart) {
+        // One UNION ALL part per name: each part is a simple count that Neo4j answers from its count store
+        List<String> queryParts = new ArrayList<>(names.size());
+        Map<String, Object> parameters = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String parameterName = "name" + i;
+            queryParts.add(String.format(countQueryPart, escape(names.get(i)), parameterName));
+            parameters.put(parameterName, names.get(i));
+        }
+        return new Query(String.join(" UNION ALL ", queryParts), parameters);
+    }
+
+    private static String escape(String name) {
+        return "`" + name.replace("`", "``") + "`";
+    }
+}
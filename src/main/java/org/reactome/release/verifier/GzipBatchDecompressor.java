@@ -0,0 +1,237 @@
+package org.reactome.release.verifier;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Decompresses gzipped files alongside themselves, one file per worker thread, with the number of workers bounded.
+ * Each worker inflates through its own reusable buffer into a hidden temporary file in the same directory, which is
+ * renamed to the final name (the gzipped file's name without ".gz") only once it is complete, so a partially
+ * written output never looks complete.
+ * <p>
+ * How hard outputs are pushed to disk before they are considered done is set by an {@link FsyncPolicy}.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class GzipBatchDecompressor {
+    public static final int DEFAULT_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+    private static final int BUFFER_SIZE_IN_BYTES = 1024 * 1024;
+    private static final String GZIP_EXTENSION = ".gz";
+
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE_IN_BYTES]);
+
+    private final int threads;
+    private final FsyncPolicy fsyncPolicy;
+
+    /**
+     * When decompressed files are flushed to stable storage
+     */
+    public enum FsyncPolicy {
+        /**
+         * Leave flushing to the operating system (fastest; outputs may be lost on a crash)
+         */
+        NONE,
+        /**
+         * Flush each output's content before it is renamed to its final name
+         */
+        FILE,
+        /**
+         * Flush each output's content before it is renamed and the directory after, so the rename itself is durable
+         */
+        FILE_AND_DIRECTORY
+    }
+
+    /**
+     * Outcome of decompressing a batch of files
+     */
+    public static final class Result {
+        private final Map<Path, TransferStatistics> fileStatistics;
+        private final TransferStatistics totalStatistics;
+
+        private Result(Map<Path, TransferStatistics> fileStatistics, TransferStatistics totalStatistics) {
+            this.fileStatistics = Collections.unmodifiableMap(fileStatistics);
+            this.totalStatistics = totalStatistics;
+        }
+
+        /**
+         * @return Map of each decompressed file's path to the bytes written and time taken to decompress it, in the
+         * order of the gzipped files' relative paths
+         */
+        public Map<Path, TransferStatistics> getFileStatistics() {
+            return this.fileStatistics;
+        }
+
+        /**
+         * @return Number of files and bytes decompressed and the wall time of the whole batch
+         */
+        public TransferStatistics getTotalStatistics() {
+            return this.totalStatistics;
+        }
+    }
+
+    /**
+     * Creates a decompressor
+     *
+     * @param threads Maximum number of files decompressed at once
+     * @param fsyncPolicy When decompressed files are flushed to stable storage
+     */
+    public GzipBatchDecompressor(int threads, FsyncPolicy fsyncPolicy) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of threads must be at least 1");
+        }
+        this.threads = threads;
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    /**
+     * Decompresses every gzipped file under a directory, including those in subdirectories
+     *
+     * @param directory Directory to search for files ending in ".gz"
+     * @return Per-file and aggregate statistics of the decompressed files
+     * @throws IOException Thrown if unable to walk the directory or decompress a file
+     */
+    public Result decompressAll(Path directory) throws IOException {
+        return decompressAll(directory, Collections.singletonList("*" + GZIP_EXTENSION));
+    }
+
+    /**
+     * Decompresses the gzipped files under a directory matched by glob patterns.  A pattern without a "/" is matched
+     * against the file's name alone and a pattern with one against its path relative to the directory.  Matching
+     * files without the ".gz" extension are skipped.
+     *
+     * @param directory Directory to search for files
+     * @param filePatterns Glob patterns (e.g. "*.txt.gz" or "interactors/*.gz") selecting the files to decompress
+     * @return Per-file and aggregate statistics of the decompressed files
+     * @throws IOException Thrown if unable to walk the directory or decompress a file
+     */
+    public Result decompressAll(Path directory, List<String> filePatterns) throws IOException {
+        long startTime = System.nanoTime();
+        Predicate<String> fileMatcher = LineCountVerifier.toFileMatcher(filePatterns);
+
+        List<Path> gzFilePaths = new ArrayList<>();
+        for (String relativePath : DirectoryInventory.walk(directory, this.threads).getRelativePaths()) {
+            if (relativePath.endsWith(GZIP_EXTENSION) && fileMatcher.test(relativePath)) {
+                gzFilePaths.add(directory.resolve(relativePath));
+            }
+        }
+
+        List<TransferStatistics> statistics;
+        long phaseStartTime = Metrics.getShared().startTimer();
+        try {
+            statistics = ParallelTasks.map(gzFilePaths, this.threads, "gunzip", gzFilePath -> {
+                try {
+                    return decompressFile(gzFilePath);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            Metrics.getShared().recordPhaseDuration("gunzip", phaseStartTime);
+        }
+
+        Map<Path, TransferStatistics> fileStatistics = new LinkedHashMap<>();
+        TransferStatistics totalStatistics = new TransferStatistics();
+        for (int i = 0; i < gzFilePaths.size(); i++) {
+            fileStatistics.put(getOutputFilePath(gzFilePaths.get(i)), statistics.get(i));
+            totalStatistics.recordFile(statistics.get(i).getByteCount());
+        }
+        totalStatistics.recordElapsedTime(System.nanoTime() - startTime);
+        return new Result(fileStatistics, totalStatistics);
+    }
+
+    /**
+     * Decompresses a single gzipped file alongside itself
+     *
+     * @param gzFilePath Path to the gzipped file
+     * @return Bytes written and time taken
+     * @throws IOException Thrown if unable to read, inflate or write the file
+     * @throws IllegalArgumentException Thrown if the file's name does not have the ".gz" extension
+     */
+    public TransferStatistics decompress(Path gzFilePath) throws IOException {
+        long phaseStartTime = Metrics.getShared().startTimer();
+        try {
+            return decompressFile(gzFilePath);
+        } finally {
+            Metrics.getShared().recordPhaseDuration("gunzip", phaseStartTime);
+        }
+    }
+
+    /**
+     * Returns the path a gzipped file is decompressed to: its path without the ".gz" extension
+     *
+     * @param gzFilePath Path to the gzipped file
+     * @return Path of the decompressed file
+     * @throws IllegalArgumentException Thrown if the file's name does not have the ".gz" extension
+     */
+    public static Path getOutputFilePath(Path gzFilePath) {
+        String fileName = gzFilePath.getFileName().toString();
+        if (!fileName.endsWith(GZIP_EXTENSION) || fileName.length() == GZIP_EXTENSION.length()) {
+            throw new IllegalArgumentException(gzFilePath + " does not have the " + GZIP_EXTENSION + " extension");
+        }
+        return gzFilePath.resolveSibling(fileName.substring(0, fileName.length() - GZIP_EXTENSION.length()));
+    }
+
+    private TransferStatistics decompressFile(Path gzFilePath) throws IOException {
+        TransferStatistics statistics = new TransferStatistics();
+        long startTime = System.nanoTime();
+
+        Path outputFilePath = getOutputFilePath(gzFilePath);
+        Path temporaryFilePath = FileUtils.createTemporarySibling(outputFilePath.toAbsolutePath());
+        byte[] buffer = BUFFERS.get();
+        long bytesWritten = 0;
+        try {
+            try (InputStream rawInputStream = Files.newInputStream(gzFilePath);
+                 InputStream inputStream = new GZIPInputStream(rawInputStream, buffer.length);
+                 FileOutputStream outputStream = new FileOutputStream(temporaryFilePath.toFile())) {
+                int bytesRead;
+                while ((bytesRead = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, bytesRead);
+                    bytesWritten += bytesRead;
+                }
+                if (this.fsyncPolicy != FsyncPolicy.NONE) {
+                    outputStream.getFD().sync();
+                }
+            }
+
+            Files.move(temporaryFilePath, outputFilePath,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (this.fsyncPolicy == FsyncPolicy.FILE_AND_DIRECTORY) {
+                syncDirectory(outputFilePath.toAbsolutePath().getParent());
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFilePath);
+        }
+
+        Metrics.getShared().increment(Metrics.BYTES_EXTRACTED, bytesWritten);
+        statistics.recordFile(bytesWritten);
+        statistics.recordElapsedTime(System.nanoTime() - startTime);
+        return statistics;
+    }
+
+    private static void syncDirectory(Path directory) throws IOException {
+        if (System.getProperty("os.name").startsWith("Windows")) {
+            // Directories can not be opened for syncing on Windows, where NTFS journals the rename itself
+            return;
+        }
+        try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            directoryChannel.force(true);
+        }
+    }
+}
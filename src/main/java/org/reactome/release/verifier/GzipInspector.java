@@ -0,0 +1,157 @@
+package org.reactome.release.verifier;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Inspects gzipped files in a single streaming pass without writing a decompressed copy: the uncompressed size, the
+ * number of lines of the uncompressed content, whether every member's CRC-32 and length trailer is intact and,
+ * optionally, a checksum of the uncompressed content.
+ * <p>
+ * Content is inflated through {@link GZIPInputStream}, which checks each member's trailer as it is reached, with
+ * large input and output buffers so inflating rather than I/O sets the pace.  Newlines are counted eight bytes at a
+ * time as for {@link LineCounter}.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class GzipInspector {
+    private static final int BUFFER_SIZE_IN_BYTES = 256 * 1024;
+    private static final byte NEWLINE = '\n';
+
+    private static final ThreadLocal<byte[]> OUTPUT_BUFFERS =
+        ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE_IN_BYTES]);
+
+    private GzipInspector() {
+    }
+
+    /**
+     * Outcome of inspecting a gzipped file
+     */
+    public static final class Inspection {
+        private final Path filePath;
+        private final long uncompressedSize;
+        private final long lineCount;
+        private final String corruption;
+        private final Checksum checksum;
+
+        private Inspection(Path filePath, long uncompressedSize, long lineCount, String corruption, Checksum checksum) {
+            this.filePath = filePath;
+            this.uncompressedSize = uncompressedSize;
+            this.lineCount = lineCount;
+            this.corruption = corruption;
+            this.checksum = checksum;
+        }
+
+        /**
+         * @return Path to the gzipped file
+         */
+        public Path getFilePath() {
+            return this.filePath;
+        }
+
+        /**
+         * @return Number of bytes of uncompressed content (up to the corruption, if the file is not valid)
+         */
+        public long getUncompressedSize() {
+            return this.uncompressedSize;
+        }
+
+        /**
+         * @return Number of lines of uncompressed content (up to the corruption, if the file is not valid)
+         */
+        public long getLineCount() {
+            return this.lineCount;
+        }
+
+        /**
+         * @return <code>true</code> if the file inflated to the end with every CRC-32 and length trailer matching;
+         * <code>false</code> otherwise
+         */
+        public boolean isValid() {
+            return this.corruption == null;
+        }
+
+        /**
+         * @return Description of why the file is not valid or <code>null</code> if it is valid
+         */
+        public String getCorruption() {
+            return this.corruption;
+        }
+
+        /**
+         * @return Checksum of the uncompressed content or <code>null</code> if not requested or the file is not valid
+         */
+        public Checksum getChecksum() {
+            return this.checksum;
+        }
+    }
+
+    /**
+     * Inspects a gzipped file without hashing its content
+     *
+     * @param filePath Path to the gzipped file
+     * @return Inspection of the file
+     * @throws IOException Thrown if unable to read the file
+     */
+    public static Inspection inspect(Path filePath) throws IOException {
+        return inspect(filePath, null);
+    }
+
+    /**
+     * Inspects a gzipped file.  A file which is truncated, is not gzipped or fails a CRC-32 or length check is
+     * reported as not valid rather than by an exception.
+     *
+     * @param filePath Path to the gzipped file
+     * @param algorithm Algorithm with which to hash the uncompressed content or <code>null</code> not to hash it
+     * @return Inspection of the file
+     * @throws IOException Thrown if unable to read the file
+     */
+    public static Inspection inspect(Path filePath, ChecksumAlgorithm algorithm) throws IOException {
+        ChecksumAlgorithm.Hasher hasher = algorithm != null ? algorithm.newHasher() : null;
+        byte[] buffer = OUTPUT_BUFFERS.get();
+
+        long uncompressedSize = 0;
+        long newlineCount = 0;
+        byte lastByte = NEWLINE;
+        String corruption = null;
+        try (InputStream rawInputStream = Files.newInputStream(filePath);
+             InputStream inputStream = new GZIPInputStream(rawInputStream, BUFFER_SIZE_IN_BYTES)) {
+            int bytesRead;
+            while ((bytesRead = inputStream.read(buffer)) != -1) {
+                if (bytesRead == 0) {
+                    continue;
+                }
+                uncompressedSize += bytesRead;
+                newlineCount += LineCounter.countNewlines(ByteBuffer.wrap(buffer, 0, bytesRead));
+                lastByte = buffer[bytesRead - 1];
+                if (hasher != null) {
+                    hasher.update(buffer, 0, bytesRead);
+                }
+            }
+        } catch (ZipException | EOFException e) {
+            // Thrown for a bad header, corrupt deflate data, a CRC-32 or length mismatch or a truncated file
+            corruption = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        }
+
+        Metrics.getShared().increment(Metrics.BYTES_INFLATED, uncompressedSize);
+        long lineCount = uncompressedSize > 0 && lastByte != NEWLINE ? newlineCount + 1 : newlineCount;
+        Checksum checksum = hasher != null && corruption == null ? Checksum.create(algorithm, hasher.finish()) : null;
+        return new Inspection(filePath, uncompressedSize, lineCount, corruption, checksum);
+    }
+
+    /**
+     * @param filePath Path to a file
+     * @return <code>true</code> if the file's name has the ".gz" extension;<code>false</code> otherwise
+     */
+    public static boolean isGzipped(Path filePath) {
+        Path fileName = filePath.getFileName();
+        return fileName != null && fileName.toString().endsWith(".gz");
+    }
+}
@@ -0,0 +1,268 @@
+package org.reactome.release.verifier;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.zip.ZipException;
+
+/**
+ * Verifies the number of lines (records) of text outputs, and optionally the number of distinct values in a key
+ * column, against the counts in the previous release's manifest.  Record counts catch lost rows which a size
+ * comparison misses when the remaining rows grew (e.g. longer identifiers or names).
+ * <p>
+ * Files are selected by glob patterns (e.g. "*.tsv" or "gene_sets/*.gmt").  A pattern without a "/" is matched
+ * against the file's name alone and a pattern with one against its path relative to the output directory.  Files
+ * are counted concurrently with {@link LineCounter} and compared with {@link CountUtils} drop tolerances.  Gzipped
+ * files are counted by their uncompressed lines while they are inflated, without writing a decompressed copy, and
+ * a gzipped file which is truncated or fails its CRC-32 check is an error.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class LineCountVerifier {
+    private static final ResultRecord.Formatter LINE_COUNT_FORMATTER =
+        resultRecord -> resultRecord.getSubject() + " has " + resultRecord.getActual() + " lines (previous release " +
+            "had " + resultRecord.getExpected() + ")";
+    private static final ResultRecord.Formatter DISTINCT_KEY_COUNT_FORMATTER =
+        resultRecord -> resultRecord.getSubject() + " has " + resultRecord.getActual() + " distinct keys " +
+            "(previous release had " + resultRecord.getExpected() + ")";
+    private static final ResultRecord.Formatter UNCOUNTED_FORMATTER =
+        resultRecord -> resultRecord.getSubject() + " has " + resultRecord.getActual() + " lines (no line count in " +
+            "the previous files and sizes list)";
+    private static final ResultRecord.Formatter CORRUPT_GZIP_FORMATTER =
+        resultRecord -> "File " + resultRecord.getSubject() + " is not a valid gzip file: " + resultRecord.getActual();
+    private static final ResultRecord.Formatter UNREADABLE_FILE_FORMATTER =
+        resultRecord -> "File " + resultRecord.getSubject() + " could not be counted: " + resultRecord.getActual();
+
+    private final Path outputDirectory;
+    private final Manifest manifest;
+    private final Predicate<String> fileMatcher;
+    private final int keyColumn;
+    private final int percentDropTolerance;
+    private final int parallelism;
+    private final ErrorLimit errorLimit;
+    private final ResultsReporter reporter;
+
+    /**
+     * Creates a verifier for the text files of an output directory
+     *
+     * @param outputDirectory Directory containing the files to verify
+     * @param manifest Previous release's manifest with "lines" (and "keys") count columns
+     * @param filePatterns Glob patterns selecting the files to count
+     * @param keyColumn Zero-based index of the tab separated column whose distinct values are counted or
+     * {@link LineCounter#NO_KEY_COLUMN}
+     * @param percentDropTolerance Percentage drop in counts allowed
+     * @param parallelism Number of files to count concurrently
+     */
+    public LineCountVerifier(
+        Path outputDirectory, Manifest manifest, List<String> filePatterns, int keyColumn, int percentDropTolerance,
+        int parallelism) {
+
+        this(outputDirectory, manifest, toFileMatcher(filePatterns), keyColumn, percentDropTolerance, parallelism,
+            ErrorLimit.unlimited(), null);
+    }
+
+    private LineCountVerifier(
+        Path outputDirectory, Manifest manifest, Predicate<String> fileMatcher, int keyColumn,
+        int percentDropTolerance, int parallelism, ErrorLimit errorLimit, ResultsReporter reporter) {
+
+        this.outputDirectory = outputDirectory;
+        this.manifest = manifest;
+        this.fileMatcher = fileMatcher;
+        this.keyColumn = keyColumn;
+        this.percentDropTolerance = percentDropTolerance;
+        this.parallelism = parallelism;
+        this.errorLimit = errorLimit;
+        this.reporter = reporter;
+    }
+
+    /**
+     * @param errorLimit Number of errors after which remaining counts are skipped, usually shared with the earlier
+     * phases of the run
+     * @return Copy of this verifier which stops early once the error limit is reached.  Files not yet counted when
+     * the limit is reached, which is every file if it was reached before this verifier runs, are skipped and the
+     * results are marked as truncated.
+     */
+    public LineCountVerifier withErrorLimit(ErrorLimit errorLimit) {
+        return new LineCountVerifier(this.outputDirectory, this.manifest, this.fileMatcher, this.keyColumn,
+            this.percentDropTolerance, this.parallelism, errorLimit, this.reporter);
+    }
+
+    /**
+     * @param reporter Reporter, such as a {@link ReportSink}, to receive the records as they are produced
+     * @return Copy of this verifier which reports the records as soon as the counts have been compared, before
+     * they are returned to the caller
+     */
+    public LineCountVerifier withReporter(ResultsReporter reporter) {
+        return new LineCountVerifier(this.outputDirectory, this.manifest, this.fileMatcher, this.keyColumn,
+            this.percentDropTolerance, this.parallelism, this.errorLimit, reporter);
+    }
+
+    /**
+     * Creates a predicate matching relative file paths against glob patterns, matching patterns without a "/"
+     * against the file name alone
+     *
+     * @param filePatterns Glob patterns
+     * @return Predicate which is <code>true</code> for relative paths matched by any of the patterns
+     */
+    static Predicate<String> toFileMatcher(List<String> filePatterns) {
+        List<PathMatcher> fileNameMatchers = new ArrayList<>();
+        List<PathMatcher> relativePathMatchers = new ArrayList<>();
+        for (String filePattern : filePatterns) {
+            PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + filePattern.trim());
+            (filePattern.contains("/") ? relativePathMatchers : fileNameMatchers).add(matcher);
+        }
+
+        return relativePath -> {
+            Path path = Paths.get(relativePath);
+            for (PathMatcher matcher : relativePathMatchers) {
+                if (matcher.matches(path)) {
+                    return true;
+                }
+            }
+            for (PathMatcher matcher : fileNameMatchers) {
+                if (matcher.matches(path.getFileName())) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Counts every existing file in the manifest matched by the patterns.  Missing files are skipped as they are
+     * reported by the existence checks.
+     *
+     * @return Results with an error for each count which dropped beyond the tolerance or file which could not be
+     * read and an info message for each other count, marked as truncated if the error limit stopped counting early
+     * @throws IOException Thrown if interrupted while waiting for concurrent counting to complete
+     */
+    public Results verify() throws IOException {
+        List<String> fileNames = new ArrayList<>();
+        for (String fileName : this.manifest.getFileNames()) {
+            if (this.fileMatcher.test(fileName) && Files.exists(this.outputDirectory.resolve(fileName))) {
+                fileNames.add(fileName);
+            }
+        }
+
+        List<FileCount> fileCounts = ParallelTasks.map(
+            fileNames, this.parallelism, "line-counter", this::count, this.errorLimit::isReached);
+
+        long[] currentLineCounts = new long[fileNames.size()];
+        long[] previousLineCounts = new long[fileNames.size()];
+        long[] currentDistinctKeyCounts = new long[fileNames.size()];
+        long[] previousDistinctKeyCounts = new long[fileNames.size()];
+        for (int i = 0; i < fileNames.size(); i++) {
+            LineCounter.Counts counts = fileCounts.get(i) != null ? fileCounts.get(i).counts : null;
+            if (counts != null) {
+                currentLineCounts[i] = counts.getLineCount();
+                currentDistinctKeyCounts[i] = counts.getDistinctKeyCount();
+            }
+            previousLineCounts[i] = this.manifest.getExpectedLineCount(fileNames.get(i));
+            previousDistinctKeyCounts[i] = this.manifest.getExpectedDistinctKeyCount(fileNames.get(i));
+        }
+
+        // Counts of -1 (not in the manifest) are never drops, so both comparisons run over every file in one pass
+        BitSet lineCountDrops = CountUtils.greaterThanOrEqualToXPercentDrops(
+            currentLineCounts, previousLineCounts, this.percentDropTolerance);
+        BitSet distinctKeyCountDrops = CountUtils.greaterThanOrEqualToXPercentDrops(
+            currentDistinctKeyCounts, previousDistinctKeyCounts, this.percentDropTolerance);
+
+        Results results = new Results();
+        int skippedFiles = 0;
+        for (int i = 0; i < fileNames.size(); i++) {
+            if (fileCounts.get(i) == null) {
+                skippedFiles++;
+                continue;
+            }
+
+            Path filePath = this.outputDirectory.resolve(fileNames.get(i));
+            IOException error = fileCounts.get(i).error;
+            if (error instanceof ZipException) {
+                results.add(ResultRecord.create("gzip-integrity", ResultRecord.Severity.ERROR, filePath, null,
+                    error.getMessage(), CORRUPT_GZIP_FORMATTER));
+                continue;
+            }
+            if (error != null) {
+                results.add(ResultRecord.create("line-count", ResultRecord.Severity.ERROR, filePath, null,
+                    error.getMessage(), UNREADABLE_FILE_FORMATTER));
+                continue;
+            }
+
+            if (previousLineCounts[i] < 0) {
+                results.add(ResultRecord.create("line-count", ResultRecord.Severity.INFO, filePath, null,
+                    currentLineCounts[i], UNCOUNTED_FORMATTER));
+            } else {
+                results.add(ResultRecord.create("line-count", toSeverity(lineCountDrops.get(i)), filePath,
+                    previousLineCounts[i], currentLineCounts[i], LINE_COUNT_FORMATTER));
+            }
+
+            if (currentDistinctKeyCounts[i] >= 0 && previousDistinctKeyCounts[i] >= 0) {
+                results.add(ResultRecord.create("key-count", toSeverity(distinctKeyCountDrops.get(i)), filePath,
+                    previousDistinctKeyCounts[i], currentDistinctKeyCounts[i], DISTINCT_KEY_COUNT_FORMATTER));
+            }
+        }
+        // Unreadable files were recorded as they were counted, so only the dropped counts are recorded here
+        this.errorLimit.recordErrors(results.getErrorCount() - unreadableFileCount(fileCounts));
+        results.reportTo(this.reporter);
+
+        if (skippedFiles > 0) {
+            Results truncation = new Results();
+            truncation.markTruncated("Verification stopped after reaching " + this.errorLimit.getMaxErrors() +
+                " error(s): " + skippedFiles + " of " + fileNames.size() + " file(s) were not line counted");
+            truncation.reportTo(this.reporter);
+            results.mergeResults(truncation);
+        }
+        return results;
+    }
+
+    private FileCount count(String fileName) {
+        FileCount fileCount;
+        try {
+            fileCount = new FileCount(LineCounter.count(this.outputDirectory.resolve(fileName), this.keyColumn), null);
+        } catch (IOException e) {
+            fileCount = new FileCount(null, e);
+        } catch (UncheckedIOException e) {
+            fileCount = new FileCount(null, e.getCause());
+        }
+        if (fileCount.error != null) {
+            this.errorLimit.recordErrors(1);
+        }
+        return fileCount;
+    }
+
+    private static int unreadableFileCount(List<FileCount> fileCounts) {
+        int unreadableFileCount = 0;
+        for (FileCount fileCount : fileCounts) {
+            if (fileCount != null && fileCount.error != null) {
+                unreadableFileCount++;
+            }
+        }
+        return unreadableFileCount;
+    }
+
+    private static ResultRecord.Severity toSeverity(boolean drop) {
+        return drop ? ResultRecord.Severity.ERROR : ResultRecord.Severity.INFO;
+    }
+
+    /**
+     * Outcome of counting one file: its counts, or the error which stopped it being counted
+     */
+    private static final class FileCount {
+        private final LineCounter.Counts counts;
+        private final IOException error;
+
+        private FileCount(LineCounter.Counts counts, IOException error) {
+            this.counts = counts;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package org.reactome.release.verifier;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Counts the lines of text files and, optionally, the distinct values in one tab separated column, at close to the
+ * speed the file can be read.
+ * <p>
+ * Lines are counted by searching for newlines eight bytes at a time in memory-mapped regions of the file (or a
+ * reused direct buffer for small files), so multi-gigabyte files are never copied onto the heap.  A final line
+ * without a trailing newline is counted.  Counting distinct values has to look at every line's content and so
+ * reads the file through a large heap buffer instead.  {@link #count(Path, int)} counts the uncompressed content of
+ * gzipped (".gz") files in the same pass that inflates them, see {@link GzipInspector}.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class LineCounter {
+    public static final int NO_KEY_COLUMN = -1;
+
+    private static final long MAPPED_REGION_SIZE_IN_BYTES = 256L * 1024 * 1024;
+    private static final int DIRECT_BUFFER_SIZE_IN_BYTES = 256 * 1024;
+    private static final int KEY_SCAN_BUFFER_SIZE_IN_BYTES = 1024 * 1024;
+    private static final byte NEWLINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte TAB = '\t';
+    private static final long NEWLINES = 0x0A0A0A0A0A0A0A0AL;
+    private static final long LOW_SEVEN_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    private static final ThreadLocal<ByteBuffer> DIRECT_BUFFERS =
+        ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(DIRECT_BUFFER_SIZE_IN_BYTES));
+
+    private LineCounter() {
+    }
+
+    /**
+     * Line and distinct key counts of a file
+     */
+    public static final class Counts {
+        private final long lineCount;
+        private final long distinctKeyCount;
+
+        private Counts(long lineCount, long distinctKeyCount) {
+            this.lineCount = lineCount;
+            this.distinctKeyCount = distinctKeyCount;
+        }
+
+        /**
+         * @return Number of lines
+         */
+        public long getLineCount() {
+            return this.lineCount;
+        }
+
+        /**
+         * @return Number of distinct values in the key column or -1 if they were not counted
+         */
+        public long getDistinctKeyCount() {
+            return this.distinctKeyCount;
+        }
+    }
+
+    /**
+     * Counts the lines of a file
+     *
+     * @param filePath Path to the file
+     * @return Number of lines
+     * @throws IOException Thrown if unable to read the file
+     */
+    public static long countLines(Path filePath) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long fileSize = fileChannel.size();
+            if (fileSize == 0) {
+                return 0;
+            }
+
+            long newlineCount = fileSize >= FileHasher.MEMORY_MAP_THRESHOLD_IN_BYTES ?
+                countNewlinesMapped(fileChannel, fileSize) :
+                countNewlinesBuffered(fileChannel);
+
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            fileChannel.read(lastByte, fileSize - 1);
+            return lastByte.get(0) == NEWLINE ? newlineCount : newlineCount + 1;
+        }
+    }
+
+    /**
+     * Counts the lines of a file and, if a key column is given, the distinct values in that column.  Lines without
+     * the key column, and blank lines, are counted as lines but contribute no key.  The lines of a gzipped file are
+     * those of its uncompressed content.
+     *
+     * @param filePath Path to the file
+     * @param keyColumn Zero-based index of the tab separated key column or {@link #NO_KEY_COLUMN}
+     * @return Counts of the file
+     * @throws ZipException Thrown if the file is gzipped but corrupt or truncated
+     * @throws IOException Thrown if unable to read the file
+     */
+    public static Counts count(Path filePath, int keyColumn) throws IOException {
+        if (keyColumn != NO_KEY_COLUMN && keyColumn < 0) {
+            throw new IllegalArgumentException("Key column must be at least 0");
+        }
+
+        if (!GzipInspector.isGzipped(filePath)) {
+            if (keyColumn == NO_KEY_COLUMN) {
+                return new Counts(countLines(filePath), -1L);
+            }
+            try (InputStream inputStream = Files.newInputStream(filePath)) {
+                return count(inputStream, keyColumn);
+            }
+        }
+
+        if (keyColumn == NO_KEY_COLUMN) {
+            GzipInspector.Inspection inspection = GzipInspector.inspect(filePath);
+            if (!inspection.isValid()) {
+                throw new ZipException(inspection.getCorruption());
+            }
+            return new Counts(inspection.getLineCount(), -1L);
+        }
+        try (InputStream rawInputStream = Files.newInputStream(filePath);
+             InputStream inputStream = new GZIPInputStream(rawInputStream, KEY_SCAN_BUFFER_SIZE_IN_BYTES)) {
+            return count(inputStream, keyColumn);
+        } catch (EOFException e) {
+            throw new ZipException("Truncated gzip file " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    private static Counts count(InputStream inputStream, int keyColumn) throws IOException {
+        Set<String> keys = new HashSet<>();
+        long lineCount = 0;
+        byte[] buffer = new byte[KEY_SCAN_BUFFER_SIZE_IN_BYTES];
+        byte[] partialLine = new byte[0];
+        int partialLineLength = 0;
+        int bytesRead;
+        while ((bytesRead = inputStream.read(buffer)) != -1) {
+            int lineStart = 0;
+            for (int i = 0; i < bytesRead; i++) {
+                if (buffer[i] != NEWLINE) {
+                    continue;
+                }
+
+                if (partialLineLength == 0) {
+                    addKey(buffer, lineStart, i, keyColumn, keys);
+                } else {
+                    partialLine = append(partialLine, partialLineLength, buffer, lineStart, i);
+                    addKey(partialLine, 0, partialLineLength + i - lineStart, keyColumn, keys);
+                    partialLineLength = 0;
+                }
+                lineCount++;
+                lineStart = i + 1;
+            }
+
+            partialLine = append(partialLine, partialLineLength, buffer, lineStart, bytesRead);
+            partialLineLength += bytesRead - lineStart;
+        }
+
+        if (partialLineLength > 0) {
+            addKey(partialLine, 0, partialLineLength, keyColumn, keys);
+            lineCount++;
+        }
+        return new Counts(lineCount, keys.size());
+    }
+
+    static long countNewlines(ByteBuffer buffer) {
+        ByteBuffer bytes = buffer.slice().order(ByteOrder.nativeOrder());
+        int limit = bytes.limit();
+        int wordLimit = limit - (limit % Long.BYTES);
+
+        long newlineCount = 0;
+        int position = 0;
+        for (; position < wordLimit; position += Long.BYTES) {
+            // Each byte of the word which is a newline becomes zero, and only zero bytes keep their high bit clear
+            long word = bytes.getLong(position) ^ NEWLINES;
+            long nonZeroBytes = ((word & LOW_SEVEN_BITS) + LOW_SEVEN_BITS) | word | LOW_SEVEN_BITS;
+            newlineCount += Long.bitCount(~nonZeroBytes);
+        }
+        for (; position < limit; position++) {
+            if (bytes.get(position) == NEWLINE) {
+                newlineCount++;
+            }
+        }
+        return newlineCount;
+    }
+
+    private static long countNewlinesMapped(FileChannel fileChannel, long fileSize) throws IOException {
+        long newlineCount = 0;
+        for (long position = 0; position < fileSize; position += MAPPED_REGION_SIZE_IN_BYTES) {
+            long regionSize = Math.min(MAPPED_REGION_SIZE_IN_BYTES, fileSize - position);
+            MappedByteBuffer region = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, regionSize);
+            newlineCount += countNewlines(region);
+        }
+        return newlineCount;
+    }
+
+    private static long countNewlinesBuffered(FileChannel fileChannel) throws IOException {
+        ByteBuffer buffer = DIRECT_BUFFERS.get();
+        buffer.clear();
+
+        long newlineCount = 0;
+        while (fileChannel.read(buffer) != -1) {
+            buffer.flip();
+            newlineCount += countNewlines(buffer);
+            buffer.clear();
+        }
+        return newlineCount;
+    }
+
+    private static void addKey(byte[] line, int lineStart, int lineEnd, int keyColumn, Set<String> keys) {
+        if (lineEnd > lineStart && line[lineEnd - 1] == CARRIAGE_RETURN) {
+            lineEnd--;
+        }
+        if (lineEnd == lineStart) {
+            return;
+        }
+
+        int columnStart = lineStart;
+        for (int column = 0; column < keyColumn; column++) {
+            while (columnStart < lineEnd && line[columnStart] != TAB) {
+                columnStart++;
+            }
+            if (columnStart == lineEnd) {
+                return;
+            }
+            columnStart++;
+        }
+
+        int columnEnd = columnStart;
+        while (columnEnd < lineEnd && line[columnEnd] != TAB) {
+            columnEnd++;
+        }
+        keys.add(new String(line, columnStart, columnEnd - columnStart, StandardCharsets.UTF_8));
+    }
+
+    private static byte[] append(byte[] partialLine, int partialLineLength, byte[] buffer, int start, int end) {
+        int length = end - start;
+        if (partialLineLength + length > partialLine.length) {
+            partialLine = Arrays.copyOf(partialLine, Math.max(partialLineLength + length, partialLine.length * 2));
+        }
+        System.arraycopy(buffer, start, partialLine, partialLineLength, length);
+        return partialLine;
+    }
+}
@@ -0,0 +1,225 @@
+package org.reactome.release.verifier;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, in-memory view of a release step's "files_and_sizes.txt" meta-data file.  The file is read and split
+ * once, after which expected sizes can be looked up by file name in constant time and file names iterated in the
+ * order they appear in the file.
+ * <p>
+ * Each line holds a file's size in bytes and its name, separated by a tab, optionally followed by further tab
+ * separated columns of the form "tag:value".  A column tagged with a {@link ChecksumAlgorithm} (e.g.
+ * "sha256:9f86d0...") gives the expected checksum of the file's content.  Columns tagged "lines" and "keys" (e.g.
+ * "lines:1024") give the number of lines and of distinct key column values counted by {@link LineCounter}.
+ * Columns with unknown tags are ignored.
+ * <p>
+ * File names are paths relative to the step's output directory and may name files in subdirectories (e.g.
+ * "interactors/human.txt").  They are normalized to use "/" as the separator without a leading "./".
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class Manifest {
+    private static final int FILE_SIZE_COLUMN = 0;
+    private static final int FILE_NAME_COLUMN = 1;
+    static final String LINE_COUNT_TAG = "lines";
+    static final String DISTINCT_KEY_COUNT_TAG = "keys";
+
+    private final List<String> fileNames;
+    private final Map<String, Long> fileNameToSize;
+    private final Map<String, Checksum> fileNameToChecksum;
+    private final Map<String, Long> fileNameToLineCount;
+    private final Map<String, Long> fileNameToDistinctKeyCount;
+
+    private Manifest(
+        List<String> fileNames, Map<String, Long> fileNameToSize, Map<String, Checksum> fileNameToChecksum,
+        Map<String, Long> fileNameToLineCount, Map<String, Long> fileNameToDistinctKeyCount) {
+
+        this.fileNames = Collections.unmodifiableList(fileNames);
+        this.fileNameToSize = Collections.unmodifiableMap(fileNameToSize);
+        this.fileNameToChecksum = Collections.unmodifiableMap(fileNameToChecksum);
+        this.fileNameToLineCount = Collections.unmodifiableMap(fileNameToLineCount);
+        this.fileNameToDistinctKeyCount = Collections.unmodifiableMap(fileNameToDistinctKeyCount);
+    }
+
+    /**
+     * Reads and indexes a meta-data file of tab separated file sizes (in bytes) and file names.  Blank lines are
+     * ignored.  A file listed more than once (including under names which normalize to the same path) is a data
+     * error rather than something to resolve by picking one of the lines.
+     *
+     * @param manifestFilePath Path to the meta-data file
+     * @return Manifest describing the files and sizes in the meta-data file
+     * @throws IOException Thrown if unable to read the meta-data file, a line is not of the form size[TAB]name or a
+     * file is listed more than once
+     */
+    public static Manifest load(Path manifestFilePath) throws IOException {
+        List<String> fileNames = new ArrayList<>();
+        Map<String, Long> fileNameToSize = new HashMap<>();
+        Map<String, Checksum> fileNameToChecksum = new HashMap<>();
+        Map<String, Long> fileNameToLineCount = new HashMap<>();
+        Map<String, Long> fileNameToDistinctKeyCount = new HashMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(manifestFilePath, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+
+                String[] columns = line.split("\t");
+                if (columns.length <= FILE_NAME_COLUMN) {
+                    throw new IOException(
+                        "Malformed line " + lineNumber + " in " + manifestFilePath + ": " + line);
+                }
+
+                String fileName = toRelativeFileName(columns[FILE_NAME_COLUMN], manifestFilePath, lineNumber);
+                long fileSize = parseFileSize(columns[FILE_SIZE_COLUMN], manifestFilePath, lineNumber);
+                if (fileNameToSize.put(fileName, fileSize) != null) {
+                    throw new IOException("File name '" + fileName + "' on line " + lineNumber + " of " +
+                        manifestFilePath + " is listed more than once");
+                }
+                fileNames.add(fileName);
+
+                for (int column = FILE_NAME_COLUMN + 1; column < columns.length; column++) {
+                    Checksum checksum = Checksum.parse(columns[column]);
+                    if (checksum != null) {
+                        fileNameToChecksum.put(fileName, checksum);
+                    }
+                    putCount(fileNameToLineCount, fileName, columns[column], LINE_COUNT_TAG);
+                    putCount(fileNameToDistinctKeyCount, fileName, columns[column], DISTINCT_KEY_COUNT_TAG);
+                }
+            }
+        }
+
+        return new Manifest(
+            fileNames, fileNameToSize, fileNameToChecksum, fileNameToLineCount, fileNameToDistinctKeyCount);
+    }
+
+    /**
+     * @return File names in the order they are listed in the meta-data file
+     */
+    public List<String> getFileNames() {
+        return this.fileNames;
+    }
+
+    /**
+     * Returns the expected size in bytes of a file, or 0 if the file is not listed.
+     *
+     * @param fileName Name of the file as listed in the meta-data file
+     * @return Expected size in bytes
+     */
+    public long getExpectedFileSize(String fileName) {
+        Long expectedFileSize = this.fileNameToSize.get(fileName);
+        return expectedFileSize != null ? expectedFileSize : 0L;
+    }
+
+    /**
+     * Returns the expected checksum of a file's content
+     *
+     * @param fileName Name of the file as listed in the meta-data file
+     * @return Expected checksum or <code>null</code> if the file has no checksum column
+     */
+    public Checksum getExpectedChecksum(String fileName) {
+        return this.fileNameToChecksum.get(fileName);
+    }
+
+    /**
+     * Returns the expected number of lines of a file
+     *
+     * @param fileName Name of the file as listed in the meta-data file
+     * @return Expected number of lines or -1 if the file has no line count column
+     */
+    public long getExpectedLineCount(String fileName) {
+        Long expectedLineCount = this.fileNameToLineCount.get(fileName);
+        return expectedLineCount != null ? expectedLineCount : -1L;
+    }
+
+    /**
+     * Returns the expected number of distinct values in a file's key column
+     *
+     * @param fileName Name of the file as listed in the meta-data file
+     * @return Expected number of distinct keys or -1 if the file has no key count column
+     */
+    public long getExpectedDistinctKeyCount(String fileName) {
+        Long expectedDistinctKeyCount = this.fileNameToDistinctKeyCount.get(fileName);
+        return expectedDistinctKeyCount != null ? expectedDistinctKeyCount : -1L;
+    }
+
+    /**
+     * @return <code>true</code> if any file has a checksum column;<code>false</code> otherwise
+     */
+    public boolean hasChecksums() {
+        return !this.fileNameToChecksum.isEmpty();
+    }
+
+    /**
+     * @param fileName Name of the file
+     * @return <code>true</code> if the file is listed;<code>false</code> otherwise
+     */
+    public boolean contains(String fileName) {
+        return this.fileNameToSize.containsKey(fileName);
+    }
+
+    /**
+     * @return Number of files listed
+     */
+    public int size() {
+        return this.fileNames.size();
+    }
+
+    /**
+     * @return Unmodifiable map of file name to file size in bytes
+     */
+    public Map<String, Long> getFileNameToSizeMap() {
+        return this.fileNameToSize;
+    }
+
+    private static void putCount(Map<String, Long> fileNameToCount, String fileName, String column, String tag) {
+        if (!column.startsWith(tag + ":")) {
+            return;
+        }
+
+        try {
+            fileNameToCount.put(fileName, Long.parseLong(column.substring(tag.length() + 1).trim()));
+        } catch (NumberFormatException e) {
+            // Ignored like any other column which is not understood
+        }
+    }
+
+    private static String toRelativeFileName(String fileName, Path manifestFilePath, int lineNumber)
+        throws IOException {
+
+        String relativeFileName = fileName.replace('\\', '/');
+        while (relativeFileName.startsWith("./")) {
+            relativeFileName = relativeFileName.substring(2);
+        }
+
+        if (relativeFileName.isEmpty() || relativeFileName.startsWith("/") ||
+            Arrays.asList(relativeFileName.split("/")).contains("..")) {
+            throw new IOException("File name '" + fileName + "' on line " + lineNumber + " of " + manifestFilePath +
+                " is not a path relative to the output directory");
+        }
+        return relativeFileName;
+    }
+
+    private static long parseFileSize(String fileSize, Path manifestFilePath, int lineNumber) throws IOException {
+        try {
+            return Long.parseLong(fileSize.trim());
+        } catch (NumberFormatException e) {
+            throw new IOException(
+                "Invalid file size '" + fileSize + "' on line " + lineNumber + " of " + manifestFilePath, e);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package org.reactome.release.verifier;
+
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local cache of the "files_and_sizes.txt" meta-data files of release steps, keyed by release number and step
+ * name.  Each cached file is stored with the ETag S3 reported for it, and is revalidated with a conditional request
+ * so an unchanged file costs a single "304 Not Modified" response.  Within one JVM each manifest is fetched and
+ * parsed at most once, however many verifiers ask for it.  A cached file which can no longer be parsed is discarded
+ * and downloaded again.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class ManifestCache {
+    public static final String DEFAULT_BUCKET_NAME = "reactome";
+    private static final Path DEFAULT_CACHE_DIRECTORY = Paths.get(".manifest_cache");
+    private static final String ETAG_FILE_EXTENSION = ".etag";
+
+    private static ManifestCache sharedCache;
+
+    private final Path cacheDirectory;
+    private final String bucketName;
+    private final S3TransferService transferService;
+    private final Map<String, CompletableFuture<Manifest>> loadedManifests;
+
+    private ManifestCache(Path cacheDirectory, String bucketName, S3TransferService transferService) {
+        this.cacheDirectory = cacheDirectory;
+        this.bucketName = bucketName;
+        this.transferService = transferService;
+        this.loadedManifests = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates a manifest cache
+     *
+     * @param cacheDirectory Directory in which to store cached meta-data files
+     * @param bucketName Name of S3 bucket holding the meta-data files
+     * @return Manifest cache
+     */
+    public static ManifestCache create(Path cacheDirectory, String bucketName) {
+        return new ManifestCache(cacheDirectory, bucketName, null);
+    }
+
+    /**
+     * Creates a manifest cache which downloads through a given transfer service rather than the shared one
+     *
+     * @param cacheDirectory Directory in which to store cached meta-data files
+     * @param bucketName Name of S3 bucket holding the meta-data files
+     * @param transferService Service through which to download the meta-data files
+     * @return Manifest cache
+     */
+    public static ManifestCache create(Path cacheDirectory, String bucketName, S3TransferService transferService) {
+        return new ManifestCache(cacheDirectory, bucketName, transferService);
+    }
+
+    /**
+     * Returns the cache shared by the library, stored under ".manifest_cache" in the working directory
+     *
+     * @return Shared manifest cache
+     */
+    public static synchronized ManifestCache getShared() {
+        if (sharedCache == null) {
+            sharedCache = new ManifestCache(DEFAULT_CACHE_DIRECTORY, DEFAULT_BUCKET_NAME, null);
+        }
+        return sharedCache;
+    }
+
+    /**
+     * Returns the manifest of a release step, fetching or revalidating the cached meta-data file the first time it
+     * is requested in this JVM.  Concurrent requests for the same manifest wait for the first to load it, without
+     * blocking requests for other manifests.  A failed load is not remembered, so a later request tries again.
+     *
+     * @param releaseNumber Number of the Reactome release
+     * @param stepName Name of the release step
+     * @return Manifest of the release step's files and sizes
+     * @throws IOException Thrown if unable to fetch or read the meta-data file
+     * @throws S3Exception Thrown if problem accessing S3 files
+     */
+    public Manifest load(int releaseNumber, String stepName) throws IOException, S3Exception {
+        String cacheKey = getCacheKey(releaseNumber, stepName);
+        CompletableFuture<Manifest> loadingManifest = new CompletableFuture<>();
+        CompletableFuture<Manifest> loadedManifest = this.loadedManifests.putIfAbsent(cacheKey, loadingManifest);
+        if (loadedManifest != null) {
+            return await(loadedManifest);
+        }
+
+        // The download happens outside the map so it never holds a lock other keys may need
+        try {
+            Manifest manifest = fetchAndLoad(releaseNumber, stepName);
+            loadingManifest.complete(manifest);
+            return manifest;
+        } catch (IOException | RuntimeException | Error e) {
+            this.loadedManifests.remove(cacheKey, loadingManifest);
+            loadingManifest.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Ensures the cached meta-data file of a release step is current, downloading it if it is missing or has
+     * changed in S3
+     *
+     * @param releaseNumber Number of the Reactome release
+     * @param stepName Name of the release step
+     * @return Path to the cached meta-data file
+     * @throws IOException Thrown if unable to write the cached file
+     * @throws S3Exception Thrown if problem accessing S3 files
+     */
+    public Path fetch(int releaseNumber, String stepName) throws IOException, S3Exception {
+        Path cachedFilePath = getCachedFilePath(releaseNumber, stepName);
+        Path eTagFilePath = cachedFilePath.resolveSibling(cachedFilePath.getFileName() + ETAG_FILE_EXTENSION);
+
+        String cachedETag = Files.exists(cachedFilePath) ? readETag(eTagFilePath) : null;
+        String newETag = getTransferService().downloadFileIfChanged(
+            this.bucketName, getFilesAndSizesListPathInS3(releaseNumber, stepName), cachedFilePath, cachedETag);
+
+        if (newETag == null) {
+            return cachedFilePath;
+        }
+        if (newETag.isEmpty()) {
+            // Without an ETag the new copy cannot be revalidated, so the next fetch downloads it unconditionally
+            Files.deleteIfExists(eTagFilePath);
+        } else {
+            Files.write(eTagFilePath, Collections.singletonList(newETag), StandardCharsets.UTF_8);
+        }
+        return cachedFilePath;
+    }
+
+    /**
+     * Returns the location of a release step's meta-data file in S3
+     *
+     * @param releaseNumber Number of the Reactome release
+     * @param stepName Name of the release step
+     * @return Key of the meta-data file in S3
+     */
+    public static String getFilesAndSizesListPathInS3(int releaseNumber, String stepName) {
+        return String.format("private/releases/%d/%s/data/%s",
+            releaseNumber, stepName, FileUtils.getFilesAndSizesListFileName()
+        );
+    }
+
+    private Manifest fetchAndLoad(int releaseNumber, String stepName) throws IOException, S3Exception {
+        Path cachedFilePath = fetch(releaseNumber, stepName);
+        try {
+            return Manifest.load(cachedFilePath);
+        } catch (IOException e) {
+            // A damaged cached copy would otherwise be revalidated as unchanged on every run, so replace it
+            Files.deleteIfExists(cachedFilePath.resolveSibling(cachedFilePath.getFileName() + ETAG_FILE_EXTENSION));
+            Files.deleteIfExists(cachedFilePath);
+            return Manifest.load(fetch(releaseNumber, stepName));
+        }
+    }
+
+    private S3TransferService getTransferService() {
+        return this.transferService != null ? this.transferService : S3TransferService.getShared();
+    }
+
+    private static Manifest await(CompletableFuture<Manifest> loadedManifest) throws IOException {
+        try {
+            return loadedManifest.join();
+        } catch (CompletionException e) {
+            Throwable cause = Futures.unwrap(e);
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+        }
+    }
+
+    private Path getCachedFilePath(int releaseNumber, String stepName) {
+        return this.cacheDirectory
+            .resolve(Integer.toString(releaseNumber))
+            .resolve(stepName)
+            .resolve(FileUtils.getFilesAndSizesListFileName());
+    }
+
+    private static String getCacheKey(int releaseNumber, String stepName) {
+        return releaseNumber + "/" + stepName;
+    }
+
+    private static String readETag(Path eTagFilePath) throws IOException {
+        if (!Files.exists(eTagFilePath)) {
+            return null;
+        }
+
+        List<String> lines = Files.readAllLines(eTagFilePath, StandardCharsets.UTF_8);
+        return !lines.isEmpty() && !lines.get(0).trim().isEmpty() ? lines.get(0).trim() : null;
+    }
+}
@@ -0,0 +1,273 @@
+package org.reactome.release.verifier;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Generates a release step's "files_and_sizes.txt" meta-data file from its output directory, so the next release has
+ * a baseline to verify against as soon as this release finishes.  The directory tree is walked concurrently with
+ * {@link DirectoryInventory} and, if requested, the files are hashed concurrently with {@link FileHasher}.
+ * <p>
+ * Lines are written in the format read by {@link Manifest#load(Path)}: the file's size in bytes and its path
+ * relative to the output directory separated by a tab, followed by a "tag:value" checksum column when checksums
+ * are requested and "lines" (and "keys") count columns for the files whose records are counted.  Files are listed
+ * in relative path order.
+ * <p>
+ * When the manifest is generated straight after verifying the same directory, the checksums and counts found by
+ * verification can be passed in with {@link #withVerifiedResults(Results)} so those files are not read again.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class ManifestGenerator {
+    private final Path outputDirectory;
+    private final int parallelism;
+    private final ChecksumAlgorithm checksumAlgorithm;
+    private final Predicate<String> excludedFiles;
+    private final Predicate<String> lineCountedFiles;
+    private final int keyColumn;
+    private final VerifiedValues verifiedValues;
+
+    private ManifestGenerator(
+        Path outputDirectory, int parallelism, ChecksumAlgorithm checksumAlgorithm, Predicate<String> excludedFiles,
+        Predicate<String> lineCountedFiles, int keyColumn, VerifiedValues verifiedValues) {
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+
+        this.outputDirectory = outputDirectory;
+        this.parallelism = parallelism;
+        this.checksumAlgorithm = checksumAlgorithm;
+        this.excludedFiles = excludedFiles;
+        this.lineCountedFiles = lineCountedFiles;
+        this.keyColumn = keyColumn;
+        this.verifiedValues = verifiedValues;
+    }
+
+    /**
+     * Creates a generator listing file sizes only.  Files written by verification in the output directory, such as
+     * reports, are not listed (see {@link FileUtils#isGeneratedFile(String)}).
+     *
+     * @param outputDirectory Directory containing the step's output files
+     * @param parallelism Number of subdirectories to list, and files to hash, concurrently
+     * @return Manifest generator
+     */
+    public static ManifestGenerator create(Path outputDirectory, int parallelism) {
+        return new ManifestGenerator(
+            outputDirectory, parallelism, null, FileUtils::isGeneratedFile, null, LineCounter.NO_KEY_COLUMN,
+            VerifiedValues.NONE);
+    }
+
+    /**
+     * @param checksumAlgorithm Algorithm with which to hash each file for its checksum column
+     * @return Copy of this generator which also writes a checksum column
+     */
+    public ManifestGenerator withChecksums(ChecksumAlgorithm checksumAlgorithm) {
+        return new ManifestGenerator(this.outputDirectory, this.parallelism, checksumAlgorithm, this.excludedFiles,
+            this.lineCountedFiles, this.keyColumn, this.verifiedValues);
+    }
+
+    /**
+     * @param excludedFiles Files not to list, identified by their path relative to the output directory
+     * @return Copy of this generator which also leaves out the given files
+     */
+    public ManifestGenerator withExcludedFiles(Predicate<String> excludedFiles) {
+        return new ManifestGenerator(this.outputDirectory, this.parallelism, this.checksumAlgorithm,
+            this.excludedFiles.or(excludedFiles), this.lineCountedFiles, this.keyColumn, this.verifiedValues);
+    }
+
+    /**
+     * @param filePatterns Glob patterns selecting the files whose lines are counted (see {@link LineCountVerifier})
+     * @param keyColumn Zero-based index of the tab separated column whose distinct values are counted or
+     * {@link LineCounter#NO_KEY_COLUMN}
+     * @return Copy of this generator which also writes line (and distinct key) count columns
+     */
+    public ManifestGenerator withLineCounts(List<String> filePatterns, int keyColumn) {
+        return new ManifestGenerator(this.outputDirectory, this.parallelism, this.checksumAlgorithm,
+            this.excludedFiles, LineCountVerifier.toFileMatcher(filePatterns), keyColumn, this.verifiedValues);
+    }
+
+    /**
+     * @param verificationResults Results of verifying the output directory's files with checksums and/or line
+     * counts, using the same key column as this generator
+     * @return Copy of this generator which writes the checksums (of this generator's algorithm) and counts recorded
+     * in the results instead of hashing or counting those files again.  Files without them are read as usual.
+     */
+    public ManifestGenerator withVerifiedResults(Results verificationResults) {
+        return new ManifestGenerator(this.outputDirectory, this.parallelism, this.checksumAlgorithm,
+            this.excludedFiles, this.lineCountedFiles, this.keyColumn, VerifiedValues.from(verificationResults));
+    }
+
+    /**
+     * Writes the meta-data file.  The file is written to a temporary file alongside it and then moved into place,
+     * so a partially written file is never seen.  If the meta-data file is inside the output directory it does not
+     * list itself.
+     *
+     * @param manifestFilePath Path of the meta-data file to write
+     * @return Path of the meta-data file
+     * @throws IOException Thrown if unable to walk the output directory, hash a file or write the meta-data file
+     */
+    public Path generate(Path manifestFilePath) throws IOException {
+        DirectoryInventory inventory = DirectoryInventory.walk(this.outputDirectory, this.parallelism);
+
+        Path absoluteManifestFilePath = manifestFilePath.toAbsolutePath().normalize();
+        Path absoluteOutputDirectory = this.outputDirectory.toAbsolutePath().normalize();
+        List<String> relativePaths = new ArrayList<>(inventory.size());
+        for (String relativePath : inventory.getRelativePaths()) {
+            if (!this.excludedFiles.test(relativePath) &&
+                !absoluteOutputDirectory.resolve(relativePath).equals(absoluteManifestFilePath)) {
+                relativePaths.add(relativePath);
+            }
+        }
+
+        List<String> extraColumns = null;
+        if (this.checksumAlgorithm != null || this.lineCountedFiles != null) {
+            try {
+                extraColumns =
+                    ParallelTasks.map(relativePaths, this.parallelism, "manifest-generator", this::getExtraColumns);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        Path parentDirectory = absoluteManifestFilePath.getParent();
+        Files.createDirectories(parentDirectory);
+        Path temporaryFilePath = FileUtils.createTemporarySibling(absoluteManifestFilePath);
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temporaryFilePath, StandardCharsets.UTF_8)) {
+                for (int i = 0; i < relativePaths.size(); i++) {
+                    String relativePath = relativePaths.get(i);
+                    writer.write(inventory.getFileSize(relativePath) + "\t" + relativePath);
+                    if (extraColumns != null) {
+                        writer.write(extraColumns.get(i));
+                    }
+                    writer.write('\n');
+                }
+            }
+            Files.move(temporaryFilePath, absoluteManifestFilePath,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFilePath);
+        }
+        return manifestFilePath;
+    }
+
+    /**
+     * Writes the meta-data file to a temporary location and uploads it to the release step's location in S3
+     * ("private/releases/&lt;release number&gt;/&lt;step name&gt;/data/files_and_sizes.txt").  Large meta-data files
+     * are uploaded in parts.
+     *
+     * @param releaseNumber Number of the Reactome release the output files belong to
+     * @param stepName Name of the release step
+     * @return Key of the uploaded meta-data file in S3
+     * @throws IOException Thrown if unable to generate the meta-data file
+     * @throws software.amazon.awssdk.services.s3.model.S3Exception Thrown if problem accessing S3
+     */
+    public String generateAndUpload(int releaseNumber, String stepName) throws IOException {
+        Path manifestFilePath = Files.createTempFile(stepName, "_" + FileUtils.getFilesAndSizesListFileName());
+        try {
+            generate(manifestFilePath);
+
+            String key = ManifestCache.getFilesAndSizesListPathInS3(releaseNumber, stepName);
+            S3TransferService.getShared().uploadFile(ManifestCache.DEFAULT_BUCKET_NAME, key, manifestFilePath);
+            return key;
+        } finally {
+            Files.deleteIfExists(manifestFilePath);
+        }
+    }
+
+    private String getExtraColumns(String relativePath) {
+        Path filePath = this.outputDirectory.resolve(relativePath);
+        StringBuilder extraColumns = new StringBuilder();
+        try {
+            if (this.checksumAlgorithm != null) {
+                Checksum checksum = this.verifiedValues.getChecksum(filePath, this.checksumAlgorithm);
+                extraColumns.append('\t').append(
+                    checksum != null ? checksum : FileHasher.hash(filePath, this.checksumAlgorithm));
+            }
+            if (this.lineCountedFiles != null && this.lineCountedFiles.test(relativePath)) {
+                Long lineCount = this.verifiedValues.lineCounts.get(VerifiedValues.toKey(filePath));
+                Long distinctKeyCount = this.keyColumn == LineCounter.NO_KEY_COLUMN ?
+                    Long.valueOf(-1L) :
+                    this.verifiedValues.distinctKeyCounts.get(VerifiedValues.toKey(filePath));
+                if (lineCount == null || distinctKeyCount == null) {
+                    LineCounter.Counts counts = LineCounter.count(filePath, this.keyColumn);
+                    lineCount = counts.getLineCount();
+                    distinctKeyCount = counts.getDistinctKeyCount();
+                }
+                extraColumns.append('\t').append(Manifest.LINE_COUNT_TAG).append(':').append(lineCount);
+                if (distinctKeyCount >= 0) {
+                    extraColumns.append('\t').append(Manifest.DISTINCT_KEY_COUNT_TAG).append(':')
+                        .append(distinctKeyCount);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return extraColumns.toString();
+    }
+
+    /**
+     * Checksums and counts of files taken from verification results, keyed by the files' absolute paths
+     */
+    private static final class VerifiedValues {
+        private static final VerifiedValues NONE =
+            new VerifiedValues(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+
+        private final Map<Path, Checksum> checksums;
+        private final Map<Path, Long> lineCounts;
+        private final Map<Path, Long> distinctKeyCounts;
+
+        private VerifiedValues(
+            Map<Path, Checksum> checksums, Map<Path, Long> lineCounts, Map<Path, Long> distinctKeyCounts) {
+
+            this.checksums = checksums;
+            this.lineCounts = lineCounts;
+            this.distinctKeyCounts = distinctKeyCounts;
+        }
+
+        private static VerifiedValues from(Results verificationResults) {
+            Map<Path, Checksum> checksums = new HashMap<>();
+            Map<Path, Long> lineCounts = new HashMap<>();
+            Map<Path, Long> distinctKeyCounts = new HashMap<>();
+            for (ResultRecord resultRecord : verificationResults.getRecords()) {
+                if (!(resultRecord.getSubject() instanceof Path)) {
+                    continue;
+                }
+
+                // Records of files which could not be read hold the error message as their actual value
+                Path key = toKey((Path) resultRecord.getSubject());
+                Object actual = resultRecord.getActual();
+                if (resultRecord.getCheckId().equals("checksum") && actual instanceof Checksum) {
+                    checksums.put(key, (Checksum) actual);
+                } else if (resultRecord.getCheckId().equals("line-count") && actual instanceof Long) {
+                    lineCounts.put(key, (Long) actual);
+                } else if (resultRecord.getCheckId().equals("key-count") && actual instanceof Long) {
+                    distinctKeyCounts.put(key, (Long) actual);
+                }
+            }
+            return new VerifiedValues(checksums, lineCounts, distinctKeyCounts);
+        }
+
+        private Checksum getChecksum(Path filePath, ChecksumAlgorithm algorithm) {
+            Checksum checksum = this.checksums.get(toKey(filePath));
+            return checksum != null && checksum.getAlgorithm() == algorithm ? checksum : null;
+        }
+
+        private static Path toKey(Path filePath) {
+            return filePath.toAbsolutePath().normalize();
+        }
+    }
+}
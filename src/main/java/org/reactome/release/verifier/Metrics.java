@@ -0,0 +1,337 @@
+package org.reactome.release.verifier;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timings and I/O counts of a verification run: wall time per phase, bytes downloaded and extracted, file system
+ * stat calls, and latency histograms of S3 requests and Cypher queries.  Metrics are written as Prometheus text, or
+ * as JSON if the output file name ends with ".json", when {@link Verifier#run()} finishes.
+ * <p>
+ * Recording is disabled until {@link #enable(Path)} is called.  While disabled each recording method returns after
+ * reading a single flag and {@link #startTimer()} does not read the clock, so instrumented code paths cost next to
+ * nothing.  Phases and latencies are both timed with a {@link #startTimer()} call paired with a call to
+ * {@link #recordPhaseDuration(String, long)} or {@link #recordDuration(String, long)}.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class Metrics {
+    public static final String BYTES_DOWNLOADED = "bytes_downloaded_total";
+    public static final String BYTES_UPLOADED = "bytes_uploaded_total";
+    public static final String BYTES_EXTRACTED = "bytes_extracted_total";
+    public static final String BYTES_INFLATED = "bytes_inflated_total";
+    public static final String FILESYSTEM_STATS = "filesystem_stats_total";
+    public static final String S3_REQUEST_SECONDS = "s3_request_seconds";
+    public static final String CYPHER_QUERY_SECONDS = "cypher_query_seconds";
+
+    private static final String METRIC_NAME_PREFIX = "verifier_";
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final double[] HISTOGRAM_BUCKET_UPPER_BOUNDS_IN_SECONDS = {
+        0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60
+    };
+    private static final Metrics sharedMetrics = new Metrics();
+
+    private final Map<String, LongAdder> counters;
+    private final Map<String, LongAdder> phaseDurationsInNanos;
+    private final Map<String, Histogram> histograms;
+    private volatile boolean enabled;
+    private volatile Path outputFilePath;
+
+    private Metrics() {
+        this.counters = new ConcurrentHashMap<>();
+        this.phaseDurationsInNanos = new ConcurrentHashMap<>();
+        this.histograms = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return Metrics recorded by the library
+     */
+    public static Metrics getShared() {
+        return sharedMetrics;
+    }
+
+    /**
+     * Creates disabled metrics separate from the shared metrics, for example to record a single run in isolation
+     *
+     * @return Metrics
+     */
+    public static Metrics create() {
+        return new Metrics();
+    }
+
+    /**
+     * Starts recording metrics
+     *
+     * @param outputFilePath File to write the metrics to at the end of the run or <code>null</code> to only
+     * record them
+     */
+    public void enable(Path outputFilePath) {
+        this.outputFilePath = outputFilePath;
+        this.enabled = true;
+    }
+
+    /**
+     * @return <code>true</code> if metrics are being recorded;<code>false</code> otherwise
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Adds to a counter
+     *
+     * @param counterName Name of the counter (e.g. {@link #BYTES_DOWNLOADED})
+     * @param amount Amount to add
+     */
+    public void increment(String counterName, long amount) {
+        if (!this.enabled) {
+            return;
+        }
+        this.counters.computeIfAbsent(counterName, name -> new LongAdder()).add(amount);
+    }
+
+    /**
+     * Reads the clock for a timing to be recorded with {@link #recordPhaseDuration(String, long)} or
+     * {@link #recordDuration(String, long)}
+     *
+     * @return Start time in nanoseconds or 0 if metrics are disabled
+     */
+    public long startTimer() {
+        return this.enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Adds the time elapsed since a timer was started to a latency histogram
+     *
+     * @param histogramName Name of the histogram (e.g. {@link #S3_REQUEST_SECONDS})
+     * @param startTimeInNanos Start time returned by {@link #startTimer()}
+     */
+    public void recordDuration(String histogramName, long startTimeInNanos) {
+        if (!this.enabled || startTimeInNanos == 0L) {
+            return;
+        }
+        this.histograms.computeIfAbsent(histogramName, name -> new Histogram())
+            .observe(System.nanoTime() - startTimeInNanos);
+    }
+
+    /**
+     * Adds the time elapsed since a timer was started to the wall time of a phase of the run.  The call is best
+     * placed in a finally block so phases which fail are timed too.
+     *
+     * @param phaseName Name of the phase
+     * @param startTimeInNanos Start time returned by {@link #startTimer()}
+     */
+    public void recordPhaseDuration(String phaseName, long startTimeInNanos) {
+        if (!this.enabled || startTimeInNanos == 0L) {
+            return;
+        }
+        this.phaseDurationsInNanos.computeIfAbsent(phaseName, name -> new LongAdder())
+            .add(System.nanoTime() - startTimeInNanos);
+    }
+
+    /**
+     * Writes the metrics to the output file given when they were enabled, if there is one
+     *
+     * @throws IOException Thrown if unable to write the file
+     */
+    public void writeOutputFile() throws IOException {
+        if (this.enabled && this.outputFilePath != null) {
+            write(this.outputFilePath);
+        }
+    }
+
+    /**
+     * Writes the metrics to a file as JSON if its name ends with ".json" and as Prometheus text otherwise
+     *
+     * @param filePath File to write
+     * @throws IOException Thrown if unable to write the file
+     */
+    public void write(Path filePath) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            if (filePath.getFileName().toString().endsWith(JSON_FILE_EXTENSION)) {
+                writeJson(writer);
+            } else {
+                writePrometheusText(writer);
+            }
+        }
+    }
+
+    /**
+     * Writes the metrics in the Prometheus text exposition format
+     *
+     * @param writer Destination of the metrics
+     * @throws IOException Thrown if unable to write the metrics
+     */
+    public void writePrometheusText(Writer writer) throws IOException {
+        for (Map.Entry<String, Long> counter : getCounterValues().entrySet()) {
+            String metricName = METRIC_NAME_PREFIX + counter.getKey();
+            writer.write("# TYPE " + metricName + " counter\n");
+            writer.write(metricName + " " + counter.getValue() + "\n");
+        }
+
+        String phaseMetricName = METRIC_NAME_PREFIX + "phase_duration_seconds";
+        writer.write("# TYPE " + phaseMetricName + " gauge\n");
+        for (Map.Entry<String, Double> phaseDuration : getPhaseDurationsInSeconds().entrySet()) {
+            writer.write(phaseMetricName + "{phase=\"" + toPrometheusLabelValue(phaseDuration.getKey()) + "\"} " +
+                phaseDuration.getValue() + "\n");
+        }
+
+        for (Map.Entry<String, Histogram> histogram : new TreeMap<>(this.histograms).entrySet()) {
+            String metricName = METRIC_NAME_PREFIX + histogram.getKey();
+            long[] cumulativeCounts = histogram.getValue().getCumulativeCounts();
+            writer.write("# TYPE " + metricName + " histogram\n");
+            for (int i = 0; i < HISTOGRAM_BUCKET_UPPER_BOUNDS_IN_SECONDS.length; i++) {
+                writer.write(metricName + "_bucket{le=\"" + HISTOGRAM_BUCKET_UPPER_BOUNDS_IN_SECONDS[i] + "\"} " +
+                    cumulativeCounts[i] + "\n");
+            }
+            writer.write(metricName + "_bucket{le=\"+Inf\"} " + cumulativeCounts[cumulativeCounts.length - 1] + "\n");
+            writer.write(metricName + "_sum " + histogram.getValue().getSumInSeconds() + "\n");
+            writer.write(metricName + "_count " + cumulativeCounts[cumulativeCounts.length - 1] + "\n");
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes the metrics as a JSON object with "counters", "phaseDurationsInSeconds" and "histograms" fields
+     *
+     * @param writer Destination of the metrics
+     * @throws IOException Thrown if unable to write the metrics
+     */
+    public void writeJson(Writer writer) throws IOException {
+        writer.write("{\"counters\":{");
+        String separator = "";
+        for (Map.Entry<String, Long> counter : getCounterValues().entrySet()) {
+            writer.write(separator + toJsonString(counter.getKey()) + ":" + counter.getValue());
+            separator = ",";
+        }
+
+        writer.write("},\"phaseDurationsInSeconds\":{");
+        separator = "";
+        for (Map.Entry<String, Double> phaseDuration : getPhaseDurationsInSeconds().entrySet()) {
+            writer.write(separator + toJsonString(phaseDuration.getKey()) + ":" + phaseDuration.getValue());
+            separator = ",";
+        }
+
+        writer.write("},\"histograms\":{");
+        separator = "";
+        for (Map.Entry<String, Histogram> histogram : new TreeMap<>(this.histograms).entrySet()) {
+            long[] cumulativeCounts = histogram.getValue().getCumulativeCounts();
+            writer.write(separator + toJsonString(histogram.getKey()) + ":{\"buckets\":[");
+            for (int i = 0; i < HISTOGRAM_BUCKET_UPPER_BOUNDS_IN_SECONDS.length; i++) {
+                writer.write((i > 0 ? "," : "") + "{\"le\":" + HISTOGRAM_BUCKET_UPPER_BOUNDS_IN_SECONDS[i] +
+                    ",\"count\":" + cumulativeCounts[i] + "}");
+            }
+            writer.write("],\"count\":" + cumulativeCounts[cumulativeCounts.length - 1] +
+                ",\"sumInSeconds\":" + histogram.getValue().getSumInSeconds() + "}");
+            separator = ",";
+        }
+        writer.write("}}\n");
+        writer.flush();
+    }
+
+    /**
+     * @param counterName Name of the counter
+     * @return Current value of the counter
+     */
+    public long getCounter(String counterName) {
+        LongAdder counter = this.counters.get(counterName);
+        return counter != null ? counter.sum() : 0L;
+    }
+
+    /**
+     * Stops recording and discards all recorded metrics
+     */
+    void reset() {
+        this.enabled = false;
+        this.outputFilePath = null;
+        this.counters.clear();
+        this.phaseDurationsInNanos.clear();
+        this.histograms.clear();
+    }
+
+    private Map<String, Long> getCounterValues() {
+        Map<String, Long> counterValues = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> counter : this.counters.entrySet()) {
+            counterValues.put(counter.getKey(), counter.getValue().sum());
+        }
+        return counterValues;
+    }
+
+    private Map<String, Double> getPhaseDurationsInSeconds() {
+        Map<String, Double> phaseDurations = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> phaseDuration : this.phaseDurationsInNanos.entrySet()) {
+            phaseDurations.put(phaseDuration.getKey(), toSeconds(phaseDuration.getValue().sum()));
+        }
+        return phaseDurations;
+    }
+
+    private static double toSeconds(long nanos) {
+        return nanos / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private static String toPrometheusLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String toJsonString(String value) {
+        StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append('"').toString();
+    }
+
+    private static final class Histogram {
+        private final AtomicLongArray bucketCounts;
+        private final LongAdder sumInNanos;
+
+        private Histogram() {
+            // One bucket per upper bound plus a final bucket for observations above every bound
+            this.bucketCounts = new AtomicLongArray(HISTOGRAM_BUCKET_UPPER_BOUNDS_IN_SECONDS.length + 1);
+            this.sumInNanos = new LongAdder();
+        }
+
+        private void observe(long durationInNanos) {
+            double durationInSeconds = toSeconds(durationInNanos);
+            int bucket = 0;
+            while (bucket < HISTOGRAM_BUCKET_UPPER_BOUNDS_IN_SECONDS.length &&
+                durationInSeconds > HISTOGRAM_BUCKET_UPPER_BOUNDS_IN_SECONDS[bucket]) {
+                bucket++;
+            }
+            this.bucketCounts.incrementAndGet(bucket);
+            this.sumInNanos.add(durationInNanos);
+        }
+
+        private long[] getCumulativeCounts() {
+            long[] cumulativeCounts = new long[this.bucketCounts.length()];
+            long runningCount = 0;
+            for (int i = 0; i < cumulativeCounts.length; i++) {
+                runningCount += this.bucketCounts.get(i);
+                cumulativeCounts[i] = runningCount;
+            }
+            return cumulativeCounts;
+        }
+
+        private double getSumInSeconds() {
+            return toSeconds(this.sumInNanos.sum());
+        }
+    }
+}
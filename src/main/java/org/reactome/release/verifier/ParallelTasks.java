@@ -0,0 +1,105 @@
+package org.reactome.release.verifier;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Applies a task to each of a list of inputs on a bounded pool of threads, returning the outputs in input order.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+final class ParallelTasks {
+
+    private ParallelTasks() {
+    }
+
+    /**
+     * Applies a task to each input.  Each task writes only to its own output slot, so outputs are gathered without
+     * locking.  With a parallelism of 1 the tasks run one at a time on the calling thread.
+     *
+     * @param inputs Inputs to the task
+     * @param parallelism Maximum number of tasks running at once
+     * @param threadNamePrefix Prefix for the names of the pool's threads
+     * @param task Task to apply to each input
+     * @return Outputs of the task in the same order as the inputs
+     * @throws InterruptedIOException Thrown if interrupted while waiting for the tasks to complete
+     */
+    static <I, O> List<O> map(List<I> inputs, int parallelism, String threadNamePrefix, Function<I, O> task)
+        throws InterruptedIOException {
+
+        return map(inputs, parallelism, threadNamePrefix, task, () -> false);
+    }
+
+    /**
+     * Applies a task to each input until cancelled.  Once the cancellation condition holds, tasks which have not
+     * started are skipped and their output slots are left <code>null</code>; tasks already running complete.
+     *
+     * @param inputs Inputs to the task
+     * @param parallelism Maximum number of tasks running at once
+     * @param threadNamePrefix Prefix for the names of the pool's threads
+     * @param task Task to apply to each input
+     * @param cancelled Condition checked before each task starts
+     * @return Outputs of the task in the same order as the inputs, <code>null</code> for skipped inputs
+     * @throws InterruptedIOException Thrown if interrupted while waiting for the tasks to complete
+     */
+    static <I, O> List<O> map(List<I> inputs, int parallelism, String threadNamePrefix, Function<I, O> task,
+        BooleanSupplier cancelled) throws InterruptedIOException {
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+
+        Object[] outputs = new Object[inputs.size()];
+        if (parallelism == 1 || inputs.size() <= 1) {
+            for (int i = 0; i < inputs.size() && !cancelled.getAsBoolean(); i++) {
+                outputs[i] = task.apply(inputs.get(i));
+            }
+            return toList(outputs);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(
+            Math.min(parallelism, inputs.size()), new DaemonThreadFactory(threadNamePrefix));
+        try {
+            List<Future<?>> futures = new ArrayList<>(inputs.size());
+            for (int i = 0; i < inputs.size(); i++) {
+                final int index = i;
+                futures.add(executorService.submit(() -> {
+                    if (!cancelled.getAsBoolean()) {
+                        outputs[index] = task.apply(inputs.get(index));
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + threadNamePrefix + " tasks");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(threadNamePrefix + " task failed", cause);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        return toList(outputs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <O> List<O> toList(Object[] outputs) {
+        return (List<O>) Arrays.asList(outputs);
+    }
+}
@@ -0,0 +1,104 @@
+package org.reactome.release.verifier;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes the body of a ranged GetObject response into a shared file channel starting at a fixed offset, so several
+ * ranges of one object can be written into the same preallocated file concurrently.  Every byte written is also
+ * added to a counter shared by the ranges, from which the caller can tell whether the whole object arrived.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+class PositionalFileWriter implements AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> {
+    private final FileChannel fileChannel;
+    private final long startPosition;
+    private final long expectedLength;
+    private final AtomicLong totalBytesWritten;
+
+    private volatile CompletableFuture<GetObjectResponse> future;
+    private volatile GetObjectResponse response;
+
+    PositionalFileWriter(
+        FileChannel fileChannel, long startPosition, long expectedLength, AtomicLong totalBytesWritten) {
+
+        this.fileChannel = fileChannel;
+        this.startPosition = startPosition;
+        this.expectedLength = expectedLength;
+        this.totalBytesWritten = totalBytesWritten;
+    }
+
+    @Override
+    public CompletableFuture<GetObjectResponse> prepare() {
+        this.future = new CompletableFuture<>();
+        return this.future;
+    }
+
+    @Override
+    public void onResponse(GetObjectResponse response) {
+        this.response = response;
+    }
+
+    @Override
+    public void onStream(SdkPublisher<ByteBuffer> publisher) {
+        publisher.subscribe(new Subscriber<ByteBuffer>() {
+            private Subscription subscription;
+            private long position = startPosition;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                try {
+                    while (byteBuffer.hasRemaining()) {
+                        int bytesWritten = fileChannel.write(byteBuffer, this.position);
+                        this.position += bytesWritten;
+                        totalBytesWritten.addAndGet(bytesWritten);
+                    }
+                    this.subscription.request(1);
+                } catch (IOException e) {
+                    this.subscription.cancel();
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                long bytesWritten = this.position - startPosition;
+                if (bytesWritten != expectedLength) {
+                    future.completeExceptionally(new IOException(
+                        "Expected " + expectedLength + " bytes at offset " + startPosition +
+                        " but received " + bytesWritten));
+                } else {
+                    future.complete(response);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void exceptionOccurred(Throwable throwable) {
+        if (this.future != null) {
+            this.future.completeExceptionally(throwable);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package org.reactome.release.verifier;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Machine-readable report of every check made, written as JSON Lines or tab separated values as records are
+ * reported.  Output is buffered and flushed to the file every {@link #FLUSH_BATCH_SIZE} records, so the report can be
+ * followed while verification runs, and ends with a summary of the record counts, the total bytes of the files whose
+ * sizes were checked and the time taken.
+ * <p>
+ * A JSON Lines report holds one object per record with the fields "check", "severity", "subject", "expected",
+ * "actual" and "message", followed by a summary object with a single "summary" field.  A TSV report has a header
+ * line naming the same columns and a summary line starting with "#summary".
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class ReportSink implements ResultsReporter, Closeable {
+    public static final String NO_REPORT = "none";
+    static final int FLUSH_BATCH_SIZE = 1000;
+    private static final String REPORT_FILE_BASE_NAME = "verification_report";
+    private static final String GZIP_EXTENSION = ".gz";
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    private final Path reportFilePath;
+    private final Format format;
+    private final Writer writer;
+    private long startTime;
+    private long recordCount;
+    private long errorCount;
+    private long totalFileSizeInBytes;
+    private boolean finished;
+
+    /**
+     * Layout of the report's lines
+     */
+    public enum Format {
+        JSONL("jsonl"),
+        TSV("tsv");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * @return File extension of reports in this format
+         */
+        public String getExtension() {
+            return this.extension;
+        }
+    }
+
+    private ReportSink(Path reportFilePath, Format format, Writer writer) {
+        this.reportFilePath = reportFilePath;
+        this.format = format;
+        this.writer = writer;
+    }
+
+    /**
+     * Creates or replaces a report file
+     *
+     * @param reportFilePath Path of the report file
+     * @param format Layout of the report's lines
+     * @param gzip <code>true</code> to gzip the report;<code>false</code> otherwise
+     * @return Report sink writing to the file
+     * @throws IOException Thrown if unable to create the report file
+     */
+    public static ReportSink open(Path reportFilePath, Format format, boolean gzip) throws IOException {
+        OutputStream outputStream = Files.newOutputStream(reportFilePath);
+        if (gzip) {
+            try {
+                // Sync flushing makes each batch flush reach the file, so a gzipped report can also be followed
+                outputStream = new GZIPOutputStream(outputStream, BUFFER_SIZE, true);
+            } catch (IOException e) {
+                // The gzip header could not be written, so the file is closed here as nothing else holds it
+                outputStream.close();
+                throw e;
+            }
+        }
+        return new ReportSink(reportFilePath, format,
+            new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE));
+    }
+
+    /**
+     * Creates a report file in a directory from a report option of the form "&lt;format&gt;[.gz]", for example
+     * "jsonl" or "tsv.gz", named "verification_report.&lt;format&gt;[.gz]"
+     *
+     * @param directory Directory in which to write the report
+     * @param reportOption Format of the report, optionally followed by ".gz", or "none" for no report
+     * @return Report sink writing to the file or <code>null</code> if no report was requested
+     * @throws IOException Thrown if unable to create the report file
+     * @throws IllegalArgumentException Thrown if the report option is not recognized
+     */
+    public static ReportSink openInDirectory(Path directory, String reportOption) throws IOException {
+        if (reportOption == null || reportOption.isEmpty() || reportOption.equalsIgnoreCase(NO_REPORT)) {
+            return null;
+        }
+
+        String formatName = reportOption.toLowerCase();
+        boolean gzip = formatName.endsWith(GZIP_EXTENSION);
+        if (gzip) {
+            formatName = formatName.substring(0, formatName.length() - GZIP_EXTENSION.length());
+        }
+
+        for (Format format : Format.values()) {
+            if (format.getExtension().equals(formatName)) {
+                String reportFileName = REPORT_FILE_BASE_NAME + "." + format.getExtension() +
+                    (gzip ? GZIP_EXTENSION : "");
+                return open(directory.resolve(reportFileName), format, gzip);
+            }
+        }
+        throw new IllegalArgumentException("Unknown report format " + reportOption +
+            " (expected none, jsonl, tsv, jsonl.gz or tsv.gz)");
+    }
+
+    /**
+     * Checks if a file in an output directory is a report written by a previous or the current run
+     *
+     * @param relativePath Path of the file relative to the output directory
+     * @return <code>true</code> if the file is a verification report;<code>false</code> otherwise
+     */
+    public static boolean isReportFile(String relativePath) {
+        return relativePath.startsWith(REPORT_FILE_BASE_NAME + ".");
+    }
+
+    /**
+     * @return Path of the report file
+     */
+    public Path getReportFilePath() {
+        return this.reportFilePath;
+    }
+
+    @Override
+    public synchronized void start() throws IOException {
+        if (this.startTime != 0) {
+            return;
+        }
+
+        this.startTime = System.nanoTime();
+        if (this.format == Format.TSV) {
+            writeLine("check\tseverity\tsubject\texpected\tactual\tmessage");
+        }
+    }
+
+    @Override
+    public synchronized void report(ResultRecord resultRecord) throws IOException {
+        start();
+
+        this.recordCount++;
+        if (resultRecord.isError()) {
+            this.errorCount++;
+        }
+        if (resultRecord.getCheckId().equals("file-size") && resultRecord.getActual() instanceof Long) {
+            this.totalFileSizeInBytes += (Long) resultRecord.getActual();
+        }
+
+        if (this.format == Format.JSONL) {
+            writeLine("{\"check\":" + toJsonValue(resultRecord.getCheckId()) +
+                ",\"severity\":" + toJsonValue(resultRecord.getSeverity().name()) +
+                ",\"subject\":" + toJsonValue(resultRecord.getSubject()) +
+                ",\"expected\":" + toJsonValue(resultRecord.getExpected()) +
+                ",\"actual\":" + toJsonValue(resultRecord.getActual()) +
+                ",\"message\":" + toJsonValue(resultRecord.getMessage()) + "}");
+        } else {
+            writeLine(String.join("\t",
+                toTsvValue(resultRecord.getCheckId()),
+                toTsvValue(resultRecord.getSeverity().name()),
+                toTsvValue(resultRecord.getSubject()),
+                toTsvValue(resultRecord.getExpected()),
+                toTsvValue(resultRecord.getActual()),
+                toTsvValue(resultRecord.getMessage())
+            ));
+        }
+
+        if (this.recordCount % FLUSH_BATCH_SIZE == 0) {
+            this.writer.flush();
+        }
+    }
+
+    /**
+     * Writes the summary and closes the report file.  No further records can be reported.
+     *
+     * @throws IOException Thrown if unable to write the report file
+     */
+    @Override
+    public synchronized void finish() throws IOException {
+        if (this.finished) {
+            return;
+        }
+        start();
+        this.finished = true;
+
+        long durationInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.startTime);
+        try {
+            if (this.format == Format.JSONL) {
+                writeLine("{\"summary\":{\"records\":" + this.recordCount +
+                    ",\"errors\":" + this.errorCount +
+                    ",\"infos\":" + (this.recordCount - this.errorCount) +
+                    ",\"totalFileSizeInBytes\":" + this.totalFileSizeInBytes +
+                    ",\"durationInMillis\":" + durationInMillis + "}}");
+            } else {
+                writeLine("#summary\trecords=" + this.recordCount +
+                    "\terrors=" + this.errorCount +
+                    "\tinfos=" + (this.recordCount - this.errorCount) +
+                    "\ttotalFileSizeInBytes=" + this.totalFileSizeInBytes +
+                    "\tdurationInMillis=" + durationInMillis);
+            }
+        } finally {
+            this.writer.close();
+        }
+    }
+
+    /**
+     * Finishes the report if it has not already been finished
+     *
+     * @throws IOException Thrown if unable to write the report file
+     */
+    @Override
+    public void close() throws IOException {
+        finish();
+    }
+
+    private void writeLine(String line) throws IOException {
+        this.writer.write(line);
+        this.writer.write('\n');
+    }
+
+    private static String toJsonValue(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof Long || value instanceof Integer) {
+            return value.toString();
+        }
+
+        String string = value.toString();
+        StringBuilder json = new StringBuilder(string.length() + 2).append('"');
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        return json.append('"').toString();
+    }
+
+    private static String toTsvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        return value.toString().replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+}
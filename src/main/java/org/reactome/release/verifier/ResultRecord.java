@@ -0,0 +1,132 @@
+package org.reactome.release.verifier;
+
+/**
+ * Outcome of a single check, such as a file's size or a label's count.  The values checked are kept as they are and
+ * the message describing the outcome is only built when it is rendered, so recording the (often many thousands of)
+ * passing checks of a run costs little more than allocating the record.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public final class ResultRecord {
+    private final String checkId;
+    private final Severity severity;
+    private final Object subject;
+    private final Object expected;
+    private final Object actual;
+    private final Formatter formatter;
+    private final String message;
+
+    /**
+     * Severity of a check's outcome
+     */
+    public enum Severity {
+        INFO,
+        ERROR
+    }
+
+    /**
+     * Builds the message describing a check's outcome from the values recorded for it
+     */
+    @FunctionalInterface
+    public interface Formatter {
+        String format(ResultRecord resultRecord);
+    }
+
+    private ResultRecord(String checkId, Severity severity, Object subject, Object expected, Object actual,
+        Formatter formatter, String message) {
+
+        this.checkId = checkId;
+        this.severity = severity;
+        this.subject = subject;
+        this.expected = expected;
+        this.actual = actual;
+        this.formatter = formatter;
+        this.message = message;
+    }
+
+    /**
+     * Creates a record whose message is formatted from its values when rendered
+     *
+     * @param checkId Identifier of the kind of check (e.g. "file-size")
+     * @param severity Severity of the outcome
+     * @param subject What was checked, such as a file path or label name
+     * @param expected Expected value or <code>null</code> if not applicable
+     * @param actual Actual value or <code>null</code> if not applicable
+     * @param formatter Builds the message from the record's values
+     * @return Result record
+     */
+    public static ResultRecord create(String checkId, Severity severity, Object subject, Object expected,
+        Object actual, Formatter formatter) {
+
+        return new ResultRecord(checkId, severity, subject, expected, actual, formatter, null);
+    }
+
+    /**
+     * Creates a record from an already formatted message
+     *
+     * @param checkId Identifier of the kind of check
+     * @param severity Severity of the outcome
+     * @param message Message describing the outcome
+     * @return Result record
+     */
+    public static ResultRecord message(String checkId, Severity severity, String message) {
+        return new ResultRecord(checkId, severity, null, null, null, null, message);
+    }
+
+    /**
+     * @return Identifier of the kind of check
+     */
+    public String getCheckId() {
+        return this.checkId;
+    }
+
+    /**
+     * @return Severity of the outcome
+     */
+    public Severity getSeverity() {
+        return this.severity;
+    }
+
+    /**
+     * @return <code>true</code> if the outcome is an error;<code>false</code> otherwise
+     */
+    public boolean isError() {
+        return this.severity == Severity.ERROR;
+    }
+
+    /**
+     * @return What was checked or <code>null</code> if the record was created from a message
+     */
+    public Object getSubject() {
+        return this.subject;
+    }
+
+    /**
+     * @return Expected value or <code>null</code> if not applicable
+     */
+    public Object getExpected() {
+        return this.expected;
+    }
+
+    /**
+     * @return Actual value or <code>null</code> if not applicable
+     */
+    public Object getActual() {
+        return this.actual;
+    }
+
+    /**
+     * Formats the message describing the outcome.  The message is built on each call and not retained.
+     *
+     * @return Message describing the outcome
+     */
+    public String getMessage() {
+        return this.message != null ? this.message : this.formatter.format(this);
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+}
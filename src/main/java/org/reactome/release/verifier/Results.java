@@ -1,58 +1,167 @@
 package org.reactome.release.verifier;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
+ * Outcomes of the checks made by a verifier, kept as {@link ResultRecord}s and formatted only when reported or
+ * requested as messages.  Records may be added from several threads.
+ *
  * @author Joel Weiser (joel.weiser@oicr.on.ca)
  * Created 8/25/2024
  */
 public class Results {
-    private List<String> infoMessages;
-    private List<String> errorMessages;
+    private final List<ResultRecord> records;
+    private int errorCount;
+    private boolean truncated;
 
     public Results() {
-        this.infoMessages = new ArrayList<>();
-        this.errorMessages = new ArrayList<>();
+        this.records = new ArrayList<>();
     }
 
     public void reportInfoMessages() {
-        System.out.println("Info Messages:");
-        System.out.println();
-        for (String infoMessage : this.infoMessages) {
-            System.out.println(infoMessage);
-        }
-        System.out.println();
+        report(TextResultsReporter.create(System.out, ResultRecord.Severity.INFO, "Info Messages:"));
     }
 
     public void reportErrors() {
-        System.err.println("Error Messages:");
-        System.err.println();
-        for (String errorMessage : this.errorMessages) {
-            System.err.println(errorMessage);
+        report(TextResultsReporter.create(System.err, ResultRecord.Severity.ERROR, "Error Messages:"));
+    }
+
+    /**
+     * Passes every record, in the order recorded, to a reporter
+     *
+     * @param reporter Reporter to receive the records
+     * @throws UncheckedIOException Thrown if the reporter is unable to write its output
+     */
+    public void report(ResultsReporter reporter) {
+        try {
+            reporter.start();
+            for (ResultRecord resultRecord : getRecords()) {
+                reporter.report(resultRecord);
+            }
+            reporter.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Passes every record recorded so far to a reporter shared with other checks, without starting or finishing it,
+     * so verifiers can report each file's records as soon as they are produced
+     *
+     * @param reporter Reporter to receive the records or <code>null</code> to report nothing
+     * @throws UncheckedIOException Thrown if the reporter is unable to write its output
+     */
+    void reportTo(ResultsReporter reporter) {
+        if (reporter == null) {
+            return;
         }
-        System.err.println();
+
+        try {
+            for (ResultRecord resultRecord : getRecords()) {
+                reporter.report(resultRecord);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized boolean hasInfoMessages() {
+        return this.records.size() > this.errorCount;
+    }
+
+    public synchronized boolean hasErrors() {
+        return this.errorCount > 0;
+    }
+
+    /**
+     * @return <code>true</code> if checks were skipped because verification stopped early;<code>false</code>
+     * otherwise
+     */
+    public synchronized boolean isTruncated() {
+        return this.truncated;
+    }
+
+    /**
+     * Marks the results as partial because verification stopped before every check was made.  The reason is added
+     * as an error so it appears wherever the errors are reported.
+     *
+     * @param reason Description of what was skipped
+     */
+    public synchronized void markTruncated(String reason) {
+        this.truncated = true;
+        add(ResultRecord.message("truncated", ResultRecord.Severity.ERROR, reason));
     }
 
-    public boolean hasInfoMessages() {
-        return this.infoMessages != null && !this.infoMessages.isEmpty();
+    /**
+     * @return Number of error records
+     */
+    public synchronized int getErrorCount() {
+        return this.errorCount;
     }
 
-    public boolean hasErrors() {
-        return this.errorMessages != null && !this.errorMessages.isEmpty();
+    /**
+     * @return Number of records
+     */
+    public synchronized int size() {
+        return this.records.size();
     }
 
+    /**
+     * @return Unmodifiable copy of the records in the order recorded
+     */
+    public synchronized List<ResultRecord> getRecords() {
+        return Collections.unmodifiableList(new ArrayList<>(this.records));
+    }
+
+    /**
+     * @return Messages of the info records in the order recorded.  Each call returns a new copy, so the list does
+     * not change as records are added and changes made to it do not affect these results.
+     */
     public List<String> getInfoMessages() {
-        return this.infoMessages;
+        return getMessages(ResultRecord.Severity.INFO);
     }
 
+    /**
+     * @return Messages of the error records in the order recorded.  Each call returns a new copy, so the list does
+     * not change as records are added and changes made to it do not affect these results.
+     */
     public List<String> getErrorMessages() {
-        return this.errorMessages;
+        return getMessages(ResultRecord.Severity.ERROR);
     }
 
     public void mergeResults(Results additionalResults) {
-        this.addInfoMessages(additionalResults.getInfoMessages());
-        this.addErrorMessages(additionalResults.getErrorMessages());
+        // Copy the other records first rather than holding both locks, so merges in either direction cannot deadlock
+        ResultRecord[] additionalRecords;
+        int additionalErrorCount;
+        boolean additionalTruncated;
+        synchronized (additionalResults) {
+            additionalRecords = additionalResults.records.toArray(new ResultRecord[0]);
+            additionalErrorCount = additionalResults.errorCount;
+            additionalTruncated = additionalResults.truncated;
+        }
+
+        synchronized (this) {
+            this.records.addAll(Arrays.asList(additionalRecords));
+            this.errorCount += additionalErrorCount;
+            this.truncated |= additionalTruncated;
+        }
+    }
+
+    /**
+     * Adds the outcome of a check
+     *
+     * @param resultRecord Record of the check's outcome
+     */
+    public synchronized void add(ResultRecord resultRecord) {
+        this.records.add(resultRecord);
+        if (resultRecord.isError()) {
+            this.errorCount++;
+        }
     }
 
     public void addInfoMessages(List<String> infoMessages) {
@@ -66,7 +175,7 @@ public class Results {
     }
 
     public void addInfoMessage(String infoMessage) {
-        this.infoMessages.add(infoMessage);
+        add(ResultRecord.message("message", ResultRecord.Severity.INFO, infoMessage));
     }
 
     public void addErrorMessages(List<String> errorMessages) {
@@ -80,6 +189,16 @@ public class Results {
     }
 
     public void addErrorMessage(String errorMessage) {
-        this.errorMessages.add(errorMessage);
+        add(ResultRecord.message("message", ResultRecord.Severity.ERROR, errorMessage));
+    }
+
+    private List<String> getMessages(ResultRecord.Severity severity) {
+        List<String> messages = new ArrayList<>();
+        for (ResultRecord resultRecord : getRecords()) {
+            if (resultRecord.getSeverity() == severity) {
+                messages.add(resultRecord.getMessage());
+            }
+        }
+        return messages;
     }
 }
@@ -0,0 +1,37 @@
+package org.reactome.release.verifier;
+
+import java.io.IOException;
+
+/**
+ * Destination for the records of a {@link Results} object, such as the console or a report file.  Reporters are
+ * expected to buffer their output and write it out by the time {@link #finish()} returns.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public interface ResultsReporter {
+
+    /**
+     * Called before the first record is reported
+     *
+     * @throws IOException Thrown if unable to write output
+     */
+    default void start() throws IOException {
+    }
+
+    /**
+     * Reports one record
+     *
+     * @param resultRecord Record to report
+     * @throws IOException Thrown if unable to write output
+     */
+    void report(ResultRecord resultRecord) throws IOException;
+
+    /**
+     * Called after the last record is reported, flushing any buffered output
+     *
+     * @throws IOException Thrown if unable to write output
+     */
+    default void finish() throws IOException {
+    }
+}
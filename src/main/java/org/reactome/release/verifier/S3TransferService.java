@@ -0,0 +1,667 @@
+package org.reactome.release.verifier;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.FileRequestBodyConfiguration;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reusable, thread-safe service for transferring objects to and from S3.  A single pooled client is shared by
+ * every transfer so TLS, credential resolution and connection setup are paid once, and lists of objects, folder
+ * prefixes and the parts of large files are transferred concurrently with a bound on the number of requests in
+ * flight.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class S3TransferService implements AutoCloseable {
+    public static final int DEFAULT_MAX_CONNECTIONS = 64;
+    public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 16;
+    public static final long DEFAULT_MULTIPART_THRESHOLD_IN_BYTES = 128L * 1024 * 1024;
+    public static final long DEFAULT_PART_SIZE_IN_BYTES = 32L * 1024 * 1024;
+
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    private static S3TransferService sharedService;
+
+    private final S3AsyncClient s3;
+    private final Semaphore inFlightRequestPermits;
+    private final TransferStatistics totalStatistics;
+    private int activeTransfers;
+    private long activeSinceNanos;
+
+    private S3TransferService(S3AsyncClient s3, int maxInFlightRequests) {
+        if (maxInFlightRequests < 1) {
+            throw new IllegalArgumentException("Maximum in-flight requests must be at least 1");
+        }
+
+        this.s3 = s3;
+        this.inFlightRequestPermits = new Semaphore(maxInFlightRequests);
+        this.totalStatistics = new TransferStatistics();
+    }
+
+    /**
+     * Creates a download service with its own connection pool.  The caller is responsible for closing it.
+     *
+     * @param maxConnections Maximum number of pooled connections to S3
+     * @param maxInFlightRequests Maximum number of downloads in progress at once
+     * @return Download service
+     */
+    public static S3TransferService create(int maxConnections, int maxInFlightRequests) {
+        return new S3TransferService(createClient(maxConnections), maxInFlightRequests);
+    }
+
+    /**
+     * Creates a transfer service over an existing client, e.g. one configured for another region or endpoint.
+     * Closing the service closes the client.
+     *
+     * @param s3 Client through which to make requests
+     * @param maxInFlightRequests Maximum number of downloads in progress at once
+     * @return Transfer service
+     */
+    public static S3TransferService create(S3AsyncClient s3, int maxInFlightRequests) {
+        return new S3TransferService(s3, maxInFlightRequests);
+    }
+
+    /**
+     * Returns the download service shared by the library, creating it with default pool sizes on first use.  The
+     * shared service is closed when the JVM shuts down.
+     *
+     * @return Shared download service
+     */
+    public static synchronized S3TransferService getShared() {
+        if (sharedService == null) {
+            final S3TransferService service = create(DEFAULT_MAX_CONNECTIONS, DEFAULT_MAX_IN_FLIGHT_REQUESTS);
+            Runtime.getRuntime().addShutdownHook(new Thread(service::close, "s3-transfer-service-shutdown"));
+            sharedService = service;
+        }
+        return sharedService;
+    }
+
+    /**
+     * Downloads an object and saves it to a local file, blocking until complete
+     *
+     * @param bucketName Name of S3 bucket
+     * @param key Path to object
+     * @param localFilePath Path of the local file to create
+     * @return Path of the local file
+     * @throws S3Exception Thrown if problem accessing S3 files
+     */
+    public Path downloadFile(String bucketName, String key, Path localFilePath) throws S3Exception {
+        TransferStatistics statistics = new TransferStatistics();
+        long startTime = startTransfer();
+        try {
+            return Futures.await(downloadFileAsync(bucketName, key, localFilePath, statistics));
+        } finally {
+            statistics.recordElapsedTime(System.nanoTime() - startTime);
+            finishTransfer(statistics);
+        }
+    }
+
+    /**
+     * Downloads an object using ranged requests of the default part size when it is larger than the default
+     * multipart threshold
+     *
+     * @param bucketName Name of S3 bucket
+     * @param key Path to object
+     * @param localFilePath Path of the local file to create
+     * @return Path of the local file
+     * @throws IOException Thrown if unable to write the local file or the downloaded file is incomplete
+     * @throws S3Exception Thrown if problem accessing S3 files or the object changes during the download
+     * @see #downloadFileInParts(String, String, Path, long, long)
+     */
+    public Path downloadFileInParts(String bucketName, String key, Path localFilePath)
+        throws IOException, S3Exception {
+
+        return downloadFileInParts(
+            bucketName, key, localFilePath, DEFAULT_MULTIPART_THRESHOLD_IN_BYTES, DEFAULT_PART_SIZE_IN_BYTES);
+    }
+
+    /**
+     * Downloads an object by splitting it into byte ranges that are fetched in parallel and written at their offsets
+     * into a preallocated local file.  Objects no larger than the multipart threshold are downloaded with a single
+     * request.  Every ranged request is conditional on the ETag reported before the download starts, so the parts
+     * cannot come from different versions of the object, and the number of bytes the parts wrote is checked against
+     * the object's size.  A partially downloaded file is deleted on failure.
+     *
+     * @param bucketName Name of S3 bucket
+     * @param key Path to object
+     * @param localFilePath Path of the local file to create
+     * @param multipartThresholdInBytes Object size above which the object is downloaded in parts
+     * @param partSizeInBytes Size of each byte range requested
+     * @return Path of the local file
+     * @throws IOException Thrown if unable to write the local file or the downloaded file is incomplete
+     * @throws S3Exception Thrown if problem accessing S3 files or the object changes during the download
+     */
+    public Path downloadFileInParts(
+        String bucketName, String key, Path localFilePath, long multipartThresholdInBytes, long partSizeInBytes)
+        throws IOException, S3Exception {
+
+        if (partSizeInBytes < 1) {
+            throw new IllegalArgumentException("Part size must be at least 1 byte");
+        }
+
+        long headRequestStartTime = Metrics.getShared().startTimer();
+        HeadObjectResponse headResponse = Futures.await(
+            this.s3.headObject(HeadObjectRequest.builder().bucket(bucketName).key(key).build())
+        );
+        Metrics.getShared().recordDuration(Metrics.S3_REQUEST_SECONDS, headRequestStartTime);
+        long objectSize = headResponse.contentLength();
+        if (objectSize <= multipartThresholdInBytes) {
+            return downloadFile(bucketName, key, localFilePath);
+        }
+
+        Path parentDirectory = localFilePath.toAbsolutePath().getParent();
+        if (parentDirectory != null) {
+            Files.createDirectories(parentDirectory);
+        }
+
+        TransferStatistics statistics = new TransferStatistics();
+        long startTime = startTransfer();
+        boolean completed = false;
+        try (RandomAccessFile localFile = new RandomAccessFile(localFilePath.toFile(), "rw")) {
+            localFile.setLength(objectSize);
+            FileChannel fileChannel = localFile.getChannel();
+
+            // Once a part fails the file is discarded, so no further parts are requested and those in flight are
+            // cancelled to free their connections
+            AtomicBoolean partFailed = new AtomicBoolean();
+            AtomicLong bytesWritten = new AtomicLong();
+            List<CompletableFuture<GetObjectResponse>> parts = new ArrayList<>();
+            for (long partStart = 0; partStart < objectSize && !partFailed.get(); partStart += partSizeInBytes) {
+                long partEnd = Math.min(partStart + partSizeInBytes, objectSize) - 1;
+                CompletableFuture<GetObjectResponse> part =
+                    downloadPart(bucketName, key, headResponse.eTag(), fileChannel, partStart, partEnd, bytesWritten);
+                part.whenComplete((response, e) -> {
+                    if (e != null) {
+                        partFailed.set(true);
+                    }
+                });
+                parts.add(part);
+            }
+            Futures.awaitAllOrCancel(parts);
+            fileChannel.force(false);
+
+            // The file was preallocated to the object's size, so only the bytes actually written show a missing range
+            if (bytesWritten.get() != objectSize) {
+                throw new IOException("Downloaded " + bytesWritten.get() + " bytes of " + key +
+                    " but expected " + objectSize + " bytes");
+            }
+
+            statistics.recordFile(objectSize);
+            completed = true;
+            return localFilePath;
+        } finally {
+            if (!completed) {
+                Files.deleteIfExists(localFilePath);
+            }
+            statistics.recordElapsedTime(System.nanoTime() - startTime);
+            finishTransfer(statistics);
+        }
+    }
+
+    /**
+     * Downloads an object to a local file only if it no longer matches a previously seen ETag.  The object is
+     * written to a temporary file alongside the local file and moved into place once complete, so an interrupted
+     * download never replaces a good copy.
+     *
+     * @param bucketName Name of S3 bucket
+     * @param key Path to object
+     * @param localFilePath Path of the local file to create or replace
+     * @param eTag ETag of the local copy or <code>null</code> to download unconditionally
+     * @return ETag of the downloaded object (empty if S3 did not report one) or <code>null</code> if the object is
+     * unchanged (HTTP 304)
+     * @throws IOException Thrown if unable to move the downloaded file into place
+     * @throws S3Exception Thrown if problem accessing S3 files
+     */
+    public String downloadFileIfChanged(String bucketName, String key, Path localFilePath, String eTag)
+        throws IOException, S3Exception {
+
+        Path absoluteLocalFilePath = localFilePath.toAbsolutePath();
+        Files.createDirectories(absoluteLocalFilePath.getParent());
+        Path temporaryFilePath = FileUtils.createTemporarySibling(absoluteLocalFilePath);
+
+        TransferStatistics statistics = new TransferStatistics();
+        long startTime = startTransfer();
+        acquireRequestPermit();
+        try {
+            GetObjectResponse response = Futures.await(this.s3.getObject(
+                GetObjectRequest.builder().bucket(bucketName).key(key).ifNoneMatch(eTag).build(),
+                AsyncResponseTransformer.toFile(
+                    temporaryFilePath, FileTransformerConfiguration.defaultCreateOrReplaceExisting())
+            ));
+            Files.move(temporaryFilePath, absoluteLocalFilePath,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            statistics.recordFile(response.contentLength() != null ? response.contentLength() : 0L);
+            return response.eTag() != null ? response.eTag() : "";
+        } catch (S3Exception e) {
+            if (e.statusCode() == HTTP_NOT_MODIFIED && eTag != null) {
+                return null;
+            }
+            throw e;
+        } finally {
+            releaseRequestPermit();
+            Metrics.getShared().recordDuration(Metrics.S3_REQUEST_SECONDS, startTime);
+            statistics.recordElapsedTime(System.nanoTime() - startTime);
+            finishTransfer(statistics);
+            Files.deleteIfExists(temporaryFilePath);
+        }
+    }
+
+    /**
+     * Opens a stream over an object's content so it can be consumed as it arrives rather than saved to disk.  The
+     * stream counts as an in-flight request until it is closed, so callers must close it.
+     *
+     * @param bucketName Name of S3 bucket
+     * @param key Path to object
+     * @return Stream of the object's content
+     * @throws S3Exception Thrown if problem accessing S3 files
+     */
+    public InputStream openObjectStream(String bucketName, String key) throws S3Exception {
+        acquireRequestPermit();
+        try {
+            long requestStartTime = Metrics.getShared().startTimer();
+            ResponseInputStream<GetObjectResponse> objectStream = Futures.await(this.s3.getObject(
+                GetObjectRequest.builder().bucket(bucketName).key(key).build(),
+                AsyncResponseTransformer.toBlockingInputStream()
+            ));
+            // Times the wait for the response to start; the content is read by the caller at its own pace
+            Metrics.getShared().recordDuration(Metrics.S3_REQUEST_SECONDS, requestStartTime);
+            return new FilterInputStream(objectStream) {
+                private boolean closed;
+
+                @Override
+                public void close() throws IOException {
+                    if (!this.closed) {
+                        this.closed = true;
+                        try {
+                            super.close();
+                        } finally {
+                            releaseRequestPermit();
+                        }
+                    }
+                }
+            };
+        } catch (RuntimeException e) {
+            releaseRequestPermit();
+            throw e;
+        }
+    }
+
+    /**
+     * Downloads a list of objects concurrently into a local directory, saving each under its file name.  All
+     * downloads are allowed to finish before the first failure, if any, is thrown.
+     *
+     * @param bucketName Name of S3 bucket
+     * @param keys Paths to objects
+     * @param localDirectory Directory in which to save the files
+     * @return Statistics describing the files downloaded and the aggregate throughput
+     * @throws S3Exception Thrown if problem accessing S3 files
+     */
+    public TransferStatistics downloadFiles(String bucketName, List<String> keys, Path localDirectory)
+        throws S3Exception {
+
+        TransferStatistics statistics = new TransferStatistics();
+        long startTime = startTransfer();
+        try {
+            List<CompletableFuture<Path>> downloads = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                Path localFilePath = localDirectory.resolve(Paths.get(key).getFileName());
+                downloads.add(downloadFileAsync(bucketName, key, localFilePath, statistics));
+            }
+            Futures.awaitAll(downloads);
+            return statistics;
+        } finally {
+            statistics.recordElapsedTime(System.nanoTime() - startTime);
+            finishTransfer(statistics);
+        }
+    }
+
+    /**
+     * Downloads every object under a folder prefix concurrently, preserving the layout below the prefix in the local
+     * directory.  Objects that fail to download are reported to standard error and skipped.
+     *
+     * @param bucketName Name of S3 bucket
+     * @param folderKey Path to folder
+     * @param localDirectory Directory in which to save the folder's contents
+     * @return Statistics describing the files downloaded and the aggregate throughput
+     */
+    public TransferStatistics downloadFolder(String bucketName, String folderKey, Path localDirectory) {
+        TransferStatistics statistics = new TransferStatistics();
+        long startTime = startTransfer();
+        try {
+            return downloadFolder(bucketName, folderKey, localDirectory, statistics);
+        } finally {
+            statistics.recordElapsedTime(System.nanoTime() - startTime);
+            finishTransfer(statistics);
+        }
+    }
+
+    private TransferStatistics downloadFolder(
+        String bucketName, String folderKey, Path localDirectory, TransferStatistics statistics) {
+
+        List<CompletableFuture<Path>> downloads = new ArrayList<>();
+        ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+            .bucket(bucketName)
+            .prefix(folderKey)
+            .build();
+
+        ListObjectsV2Response listResponse;
+        do {
+            listResponse = Futures.await(this.s3.listObjectsV2(listRequest));
+
+            for (S3Object s3Object : listResponse.contents()) {
+                if (s3Object.key().endsWith("/")) {
+                    continue;
+                }
+
+                final String key = s3Object.key();
+                Path localFilePath = localDirectory.resolve(key.substring(folderKey.length()).replaceFirst("^/", ""));
+                downloads.add(
+                    downloadFileAsync(bucketName, key, localFilePath, statistics).whenComplete((path, e) -> {
+                        if (e != null) {
+                            System.err.println("Failed to download file: " + key);
+                            Futures.unwrap(e).printStackTrace();
+                        }
+                    })
+                );
+            }
+
+            listRequest = listRequest.toBuilder()
+                .continuationToken(listResponse.nextContinuationToken())
+                .build();
+        } while (listResponse.isTruncated());
+
+        for (CompletableFuture<Path> download : downloads) {
+            download.exceptionally(e -> null).join();
+        }
+        return statistics;
+    }
+
+    /**
+     * Uploads a local file as an object, in parts if it is larger than the default multipart threshold
+     *
+     * @param bucketName Name of S3 bucket
+     * @param key Path of the object to create or replace
+     * @param localFilePath Path of the local file to upload
+     * @return Statistics describing the upload
+     * @throws IOException Thrown if unable to read the local file
+     * @throws S3Exception Thrown if problem accessing S3
+     * @see #uploadFile(String, String, Path, long, long)
+     */
+    public TransferStatistics uploadFile(String bucketName, String key, Path localFilePath)
+        throws IOException, S3Exception {
+
+        return uploadFile(bucketName, key, localFilePath,
+            DEFAULT_MULTIPART_THRESHOLD_IN_BYTES, DEFAULT_PART_SIZE_IN_BYTES);
+    }
+
+    /**
+     * Uploads a local file as an object.  Files larger than the multipart threshold are uploaded as a multipart
+     * upload whose parts are read straight from their offsets in the file and sent concurrently, bounded by the
+     * maximum number of requests in flight.  If any part fails the multipart upload is aborted so no orphaned parts
+     * are left in the bucket.
+     *
+     * @param bucketName Name of S3 bucket
+     * @param key Path of the object to create or replace
+     * @param localFilePath Path of the local file to upload
+     * @param multipartThresholdInBytes File size above which the file is uploaded in parts
+     * @param partSizeInBytes Size of each part (S3 requires at least 5 MiB for all but the last part)
+     * @return Statistics describing the upload
+     * @throws IOException Thrown if unable to read the local file
+     * @throws S3Exception Thrown if problem accessing S3
+     */
+    public TransferStatistics uploadFile(
+        String bucketName, String key, Path localFilePath, long multipartThresholdInBytes, long partSizeInBytes)
+        throws IOException, S3Exception {
+
+        if (partSizeInBytes < 1) {
+            throw new IllegalArgumentException("Part size must be at least 1 byte");
+        }
+
+        long fileSize = Files.size(localFilePath);
+        TransferStatistics statistics = new TransferStatistics();
+        long startTime = System.nanoTime();
+        if (fileSize <= multipartThresholdInBytes) {
+            acquireRequestPermit();
+            long requestStartTime = Metrics.getShared().startTimer();
+            try {
+                Futures.await(this.s3.putObject(
+                    PutObjectRequest.builder().bucket(bucketName).key(key).build(),
+                    AsyncRequestBody.fromFile(localFilePath)
+                ));
+            } finally {
+                releaseRequestPermit();
+                Metrics.getShared().recordDuration(Metrics.S3_REQUEST_SECONDS, requestStartTime);
+            }
+        } else {
+            uploadFileInParts(bucketName, key, localFilePath, fileSize, partSizeInBytes);
+        }
+
+        statistics.recordFile(fileSize);
+        statistics.recordElapsedTime(System.nanoTime() - startTime);
+        Metrics.getShared().increment(Metrics.BYTES_UPLOADED, fileSize);
+        return statistics;
+    }
+
+    /**
+     * Returns statistics for every download made through this service.  The elapsed time is the wall time during
+     * which at least one download was in progress, so downloads made concurrently from several threads are not
+     * counted more than once.  The time of downloads still in progress is added once they finish.
+     *
+     * @return Statistics for every download made through this service
+     */
+    public TransferStatistics getTotalStatistics() {
+        return this.totalStatistics;
+    }
+
+    @Override
+    public void close() {
+        this.s3.close();
+    }
+
+    S3AsyncClient getClient() {
+        return this.s3;
+    }
+
+    /**
+     * Blocks until a permit to start a request is available so no more than the maximum number of requests are ever
+     * in flight.  The permit must be released with {@link #releaseRequestPermit()} when the request completes.
+     */
+    void acquireRequestPermit() {
+        try {
+            this.inFlightRequestPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    void releaseRequestPermit() {
+        this.inFlightRequestPermits.release();
+    }
+
+    private synchronized long startTransfer() {
+        long startTime = System.nanoTime();
+        if (this.activeTransfers++ == 0) {
+            this.activeSinceNanos = startTime;
+        }
+        return startTime;
+    }
+
+    private synchronized void finishTransfer(TransferStatistics statistics) {
+        this.totalStatistics.add(statistics);
+        if (--this.activeTransfers == 0) {
+            this.totalStatistics.recordElapsedTime(System.nanoTime() - this.activeSinceNanos);
+        }
+        Metrics.getShared().increment(Metrics.BYTES_DOWNLOADED, statistics.getByteCount());
+    }
+
+    private static S3AsyncClient createClient(int maxConnections) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("Maximum connections must be at least 1");
+        }
+
+        // The client builds the HTTP client from its builder and so owns it, closing it when the client is closed
+        return S3AsyncClient.builder()
+            .region(Region.US_EAST_1)
+            .httpClientBuilder(NettyNioAsyncHttpClient.builder().maxConcurrency(maxConnections))
+            .build();
+    }
+
+    private void uploadFileInParts(
+        String bucketName, String key, Path localFilePath, long fileSize, long partSizeInBytes) {
+
+        String uploadId = Futures.await(this.s3.createMultipartUpload(
+            CreateMultipartUploadRequest.builder().bucket(bucketName).key(key).build()
+        )).uploadId();
+
+        boolean completed = false;
+        try {
+            AtomicBoolean partFailed = new AtomicBoolean();
+            List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+            int partNumber = 1;
+            for (long partStart = 0; partStart < fileSize && !partFailed.get(); partStart += partSizeInBytes) {
+                long partLength = Math.min(partSizeInBytes, fileSize - partStart);
+                CompletableFuture<CompletedPart> part = uploadPart(
+                    bucketName, key, uploadId, localFilePath, partNumber++, partStart, partLength);
+                part.whenComplete((completedPart, e) -> {
+                    if (e != null) {
+                        partFailed.set(true);
+                    }
+                });
+                parts.add(part);
+            }
+            Futures.awaitAllOrCancel(parts);
+
+            List<CompletedPart> completedParts = new ArrayList<>(parts.size());
+            for (CompletableFuture<CompletedPart> part : parts) {
+                completedParts.add(part.join());
+            }
+            Futures.await(this.s3.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                .build()
+            ));
+            completed = true;
+        } finally {
+            if (!completed) {
+                this.s3.abortMultipartUpload(
+                    AbortMultipartUploadRequest.builder().bucket(bucketName).key(key).uploadId(uploadId).build()
+                );
+            }
+        }
+    }
+
+    private CompletableFuture<CompletedPart> uploadPart(
+        String bucketName, String key, String uploadId, Path localFilePath, int partNumber, long partStart,
+        long partLength) {
+
+        UploadPartRequest partRequest = UploadPartRequest.builder()
+            .bucket(bucketName)
+            .key(key)
+            .uploadId(uploadId)
+            .partNumber(partNumber)
+            .contentLength(partLength)
+            .build();
+        AsyncRequestBody partBody = AsyncRequestBody.fromFile(FileRequestBodyConfiguration.builder()
+            .path(localFilePath)
+            .position(partStart)
+            .numBytesToRead(partLength)
+            .build()
+        );
+
+        acquireRequestPermit();
+        long requestStartTime = Metrics.getShared().startTimer();
+        CompletableFuture<UploadPartResponse> request = this.s3.uploadPart(partRequest, partBody);
+        request.whenComplete((response, e) -> {
+            releaseRequestPermit();
+            Metrics.getShared().recordDuration(Metrics.S3_REQUEST_SECONDS, requestStartTime);
+        });
+        return request.thenApply(response -> CompletedPart.builder()
+            .partNumber(partNumber)
+            .eTag(response.eTag())
+            .build()
+        );
+    }
+
+    private CompletableFuture<Path> downloadFileAsync(
+        String bucketName, String key, Path localFilePath, TransferStatistics statistics) {
+
+        try {
+            Path parentDirectory = localFilePath.toAbsolutePath().getParent();
+            if (parentDirectory != null) {
+                Files.createDirectories(parentDirectory);
+            }
+        } catch (IOException e) {
+            CompletableFuture<Path> failedDownload = new CompletableFuture<>();
+            failedDownload.completeExceptionally(e);
+            return failedDownload;
+        }
+
+        acquireRequestPermit();
+        long requestStartTime = Metrics.getShared().startTimer();
+        return this.s3.getObject(
+                GetObjectRequest.builder().bucket(bucketName).key(key).build(),
+                AsyncResponseTransformer.toFile(localFilePath)
+            )
+            .whenComplete((response, e) -> {
+                releaseRequestPermit();
+                Metrics.getShared().recordDuration(Metrics.S3_REQUEST_SECONDS, requestStartTime);
+            })
+            .thenApply(response -> {
+                statistics.recordFile(response.contentLength() != null ? response.contentLength() : 0L);
+                return localFilePath;
+            });
+    }
+
+    private CompletableFuture<GetObjectResponse> downloadPart(
+        String bucketName, String key, String eTag, FileChannel fileChannel, long partStart, long partEnd,
+        AtomicLong bytesWritten) {
+
+        GetObjectRequest partRequest = GetObjectRequest.builder()
+            .bucket(bucketName)
+            .key(key)
+            .range("bytes=" + partStart + "-" + partEnd)
+            .ifMatch(eTag)
+            .build();
+
+        acquireRequestPermit();
+        long requestStartTime = Metrics.getShared().startTimer();
+        CompletableFuture<GetObjectResponse> request = this.s3.getObject(
+            partRequest,
+            new PositionalFileWriter(fileChannel, partStart, partEnd - partStart + 1, bytesWritten)
+        );
+        // The request itself is returned, rather than a dependent stage, so cancelling it aborts the transfer
+        request.whenComplete((response, e) -> {
+            releaseRequestPermit();
+            Metrics.getShared().recordDuration(Metrics.S3_REQUEST_SECONDS, requestStartTime);
+        });
+        return request;
+    }
+}
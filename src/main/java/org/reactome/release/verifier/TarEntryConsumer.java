@@ -0,0 +1,19 @@
+package org.reactome.release.verifier;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Receives each entry of a tar archive as it is read.  The content stream is positioned at the start of the entry's
+ * payload and is only valid until the consumer returns; any payload left unread is skipped.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+@FunctionalInterface
+public interface TarEntryConsumer {
+
+    void accept(TarArchiveEntry entry, InputStream content) throws IOException;
+}
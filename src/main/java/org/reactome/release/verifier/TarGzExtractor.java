@@ -0,0 +1,281 @@
+package org.reactome.release.verifier;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extracts gzipped tar archives with decompression and writing overlapped.  The calling thread decompresses and
+ * parses the archive into large reusable buffers which are handed to a pool of writer threads.  The number of
+ * buffers is fixed, so when the writers fall behind the reader blocks until a buffer is returned rather than
+ * buffering the archive in memory.
+ * <p>
+ * Files are written to temporary files alongside their destinations and only moved into place once the whole
+ * archive has been read and written, so an archive which turns out to be corrupt or truncated, or which has an entry
+ * outside the output directory, leaves no partially extracted files behind (directories created are kept).
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class TarGzExtractor {
+    public static final int DEFAULT_WRITER_THREADS =
+        Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+    private static final int CHUNK_SIZE = 1024 * 1024;
+    private static final int BUFFERS_PER_WRITER = 4;
+    private static final Chunk END_OF_FILE = new Chunk(null, 0);
+
+    private final int writerThreads;
+
+    /**
+     * Creates an extractor which writes files using the given number of threads
+     *
+     * @param writerThreads Number of threads writing extracted files
+     */
+    public TarGzExtractor(int writerThreads) {
+        if (writerThreads < 1) {
+            throw new IllegalArgumentException("Number of writer threads must be at least 1");
+        }
+        this.writerThreads = writerThreads;
+    }
+
+    /**
+     * Extracts a gzipped tar file to a given location.  Archives made of several concatenated gzip members (as
+     * written by pigz or by appending gzip files) are decoded in full.  Existing files are only replaced if the whole
+     * archive is extracted successfully.
+     *
+     * @param tgzFilePath Path to the tar gzipped file to extract
+     * @param outputDir Path to the location of where to extract
+     * @return Statistics describing the number of files and bytes extracted and the time taken
+     * @throws IOException Thrown if unable to gunzip or extract the tar file or if an entry would be extracted
+     * outside of the output location
+     */
+    public TransferStatistics extract(Path tgzFilePath, Path outputDir) throws IOException {
+        TransferStatistics statistics = new TransferStatistics();
+        long startTime = System.nanoTime();
+
+        BlockingQueue<byte[]> bufferPool = new ArrayBlockingQueue<>(this.writerThreads * BUFFERS_PER_WRITER);
+        for (int i = 0; i < this.writerThreads * BUFFERS_PER_WRITER; i++) {
+            bufferPool.add(new byte[CHUNK_SIZE]);
+        }
+
+        ExecutorService writerPool =
+            Executors.newFixedThreadPool(this.writerThreads, new DaemonThreadFactory("tgz-writer"));
+        List<Future<?>> writes = new ArrayList<>();
+        Map<Path, Path> temporaryFileToOutputFile = new LinkedHashMap<>();
+        try (InputStream fis = Files.newInputStream(tgzFilePath);
+             GzipCompressorInputStream gis =
+                 new GzipCompressorInputStream(new BufferedInputStream(fis, CHUNK_SIZE), true);
+             TarArchiveInputStream tis = new TarArchiveInputStream(gis)) {
+
+            Path normalizedOutputDir = outputDir.toAbsolutePath().normalize();
+            TarArchiveEntry entry;
+            while ((entry = tis.getNextTarEntry()) != null) {
+                Path outputFile = resolveEntry(normalizedOutputDir, entry);
+
+                if (entry.isDirectory()) {
+                    Files.createDirectories(outputFile);
+                    continue;
+                }
+                Files.createDirectories(outputFile.getParent());
+                Path temporaryFile = FileUtils.createTemporarySibling(outputFile);
+                temporaryFileToOutputFile.put(temporaryFile, outputFile);
+
+                FileWriteTask writeTask = new FileWriteTask(temporaryFile, bufferPool);
+                writes.add(writerPool.submit(writeTask));
+                statistics.recordFile(readEntry(tis, writeTask, bufferPool));
+                throwIfAnyWriteFailed(writes);
+            }
+
+            awaitWrites(writes);
+
+            // Later entries for the same path replace earlier ones, as when extracting with tar
+            for (Map.Entry<Path, Path> extractedFile : temporaryFileToOutputFile.entrySet()) {
+                Files.move(extractedFile.getKey(), extractedFile.getValue(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } finally {
+            // Every writer has been sent the end of its file, so they all finish and close their files promptly
+            awaitWritersShutdown(writerPool);
+            for (Path temporaryFile : temporaryFileToOutputFile.keySet()) {
+                Files.deleteIfExists(temporaryFile);
+            }
+            statistics.recordElapsedTime(System.nanoTime() - startTime);
+        }
+
+        return statistics;
+    }
+
+    private static long readEntry(InputStream entryContent, FileWriteTask writeTask, BlockingQueue<byte[]> bufferPool)
+        throws IOException {
+
+        long bytesRead = 0;
+        try {
+            while (true) {
+                byte[] buffer = bufferPool.take();
+                int length = fill(entryContent, buffer);
+                if (length > 0) {
+                    writeTask.enqueue(new Chunk(buffer, length));
+                    bytesRead += length;
+                } else {
+                    bufferPool.put(buffer);
+                }
+
+                if (length < buffer.length) {
+                    return bytesRead;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while extracting " + writeTask.outputFile);
+        } finally {
+            // Always terminate the writer's queue so it returns its buffers and finishes
+            writeTask.enqueue(END_OF_FILE);
+        }
+    }
+
+    private static int fill(InputStream inputStream, byte[] buffer) throws IOException {
+        int length = 0;
+        int bytesRead;
+        while (length < buffer.length && (bytesRead = inputStream.read(buffer, length, buffer.length - length)) != -1) {
+            length += bytesRead;
+        }
+        return length;
+    }
+
+    private static Path resolveEntry(Path outputDir, TarArchiveEntry entry) throws IOException {
+        Path outputFile = outputDir.resolve(entry.getName()).normalize();
+        if (!outputFile.startsWith(outputDir)) {
+            throw new IOException("Archive entry " + entry.getName() + " is outside of " + outputDir);
+        }
+        return outputFile;
+    }
+
+    private static void throwIfAnyWriteFailed(List<Future<?>> writes) throws IOException {
+        for (Future<?> write : writes) {
+            if (write.isDone()) {
+                getWriteResult(write);
+            }
+        }
+        writes.removeIf(Future::isDone);
+    }
+
+    private static void awaitWrites(List<Future<?>> writes) throws IOException {
+        for (Future<?> write : writes) {
+            getWriteResult(write);
+        }
+    }
+
+    private static void awaitWritersShutdown(ExecutorService writerPool) {
+        writerPool.shutdown();
+        try {
+            writerPool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            writerPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void getWriteResult(Future<?> write) throws IOException {
+        try {
+            write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for extracted files to be written");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Unable to write extracted file", cause);
+        }
+    }
+
+    private static final class Chunk {
+        private final byte[] buffer;
+        private final int length;
+
+        private Chunk(byte[] buffer, int length) {
+            this.buffer = buffer;
+            this.length = length;
+        }
+    }
+
+    private static final class FileWriteTask implements Callable<Void> {
+        private final Path outputFile;
+        private final BlockingQueue<byte[]> bufferPool;
+        private final BlockingQueue<Chunk> chunks;
+
+        private FileWriteTask(Path outputFile, BlockingQueue<byte[]> bufferPool) {
+            this.outputFile = outputFile;
+            this.bufferPool = bufferPool;
+            this.chunks = new LinkedBlockingQueue<>();
+        }
+
+        private void enqueue(Chunk chunk) {
+            this.chunks.add(chunk);
+        }
+
+        @Override
+        public Void call() throws IOException, InterruptedException {
+            IOException writeFailure = null;
+            FileChannel fileChannel = null;
+            try {
+                fileChannel = FileChannel.open(this.outputFile, StandardOpenOption.WRITE);
+            } catch (IOException e) {
+                writeFailure = e;
+            }
+
+            try {
+                Chunk chunk;
+                while ((chunk = this.chunks.take()) != END_OF_FILE) {
+                    try {
+                        if (writeFailure == null) {
+                            ByteBuffer byteBuffer = ByteBuffer.wrap(chunk.buffer, 0, chunk.length);
+                            while (byteBuffer.hasRemaining()) {
+                                fileChannel.write(byteBuffer);
+                            }
+                        }
+                    } catch (IOException e) {
+                        // Keep draining so the buffers are returned to the reader
+                        writeFailure = e;
+                    } finally {
+                        this.bufferPool.put(chunk.buffer);
+                    }
+                }
+            } finally {
+                if (fileChannel != null) {
+                    fileChannel.close();
+                }
+            }
+
+            if (writeFailure != null) {
+                throw writeFailure;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package org.reactome.release.verifier;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Names and sizes of the files in a gzipped tar archive, read from the tar headers alone.  Entry payloads are
+ * skipped rather than written anywhere, so building an inventory costs one sequential decompression pass.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class TarballInventory {
+    private final Map<String, Long> fileNameToSize;
+
+    private TarballInventory(Map<String, Long> fileNameToSize) {
+        this.fileNameToSize = Collections.unmodifiableMap(fileNameToSize);
+    }
+
+    /**
+     * Reads the inventory of a local archive
+     *
+     * @param tgzFilePath Path to the tar gzipped file
+     * @return Inventory of the archive's files
+     * @throws IOException Thrown if unable to gunzip or read the archive
+     */
+    public static TarballInventory read(Path tgzFilePath) throws IOException {
+        try (InputStream fileStream = Files.newInputStream(tgzFilePath)) {
+            return read(fileStream);
+        }
+    }
+
+    /**
+     * Reads the inventory of an archive from a stream.  Directory entries are omitted and leading "./" segments are
+     * removed from entry names so they are comparable with manifest file names.
+     *
+     * @param tgzInputStream Stream of the tar gzipped content
+     * @return Inventory of the archive's files
+     * @throws IOException Thrown if unable to gunzip or read the archive
+     */
+    public static TarballInventory read(InputStream tgzInputStream) throws IOException {
+        Map<String, Long> fileNameToSize = new LinkedHashMap<>();
+        FileUtils.forEachTarGzEntry(tgzInputStream, (entry, content) -> {
+            if (!entry.isDirectory()) {
+                fileNameToSize.put(normalizeEntryName(entry.getName()), entry.getSize());
+            }
+        });
+        return new TarballInventory(fileNameToSize);
+    }
+
+    /**
+     * @return Unmodifiable map of file name (relative to the archive root) to file size in bytes, in archive order
+     */
+    public Map<String, Long> getFileNameToSizeMap() {
+        return this.fileNameToSize;
+    }
+
+    /**
+     * Compares the sizes in this inventory with those expected by a manifest, using the same drop tolerance as
+     * {@link FileSizer#currentFileTooSmall(int)}.
+     *
+     * @param manifest Manifest of expected file names and sizes in bytes
+     * @param fileSizePercentDropTolerance Percentage drop in file size allowed
+     * @return Results with an error for each manifest file missing from the archive or too small and an info message
+     * for each file of acceptable size
+     */
+    public Results verifyAgainst(Manifest manifest, int fileSizePercentDropTolerance) {
+        Results results = new Results();
+        EntryMatcher entryMatcher = new EntryMatcher(manifest, results);
+
+        for (Map.Entry<String, Long> archiveFile : this.fileNameToSize.entrySet()) {
+            String fileName = entryMatcher.findManifestFileName(archiveFile.getKey());
+            if (fileName == null) {
+                continue;
+            }
+
+            FileSizer fileSizer = new FileSizer(
+                Paths.get(archiveFile.getKey()), archiveFile.getValue(), manifest.getExpectedFileSize(fileName));
+            entryMatcher.addRecords(archiveFile.getKey(), fileName,
+                Collections.singletonList(fileSizer.toResultRecord(fileSizePercentDropTolerance)));
+        }
+
+        entryMatcher.finish();
+        return results;
+    }
+
+    /**
+     * Matches archive entries to manifest file names as the entries are read and collects the results of checking
+     * them.  An entry whose path within the archive is listed in the manifest is matched to it.  Otherwise, an entry
+     * whose file name alone is listed is matched to that name, but only if no other entry has the same path or
+     * file name: a name claimed by several entries in different directories cannot be attributed to any one of them
+     * and is reported as an error.  Since later entries can still claim a name, results of entries matched by file
+     * name are held back until {@link #finish()}.
+     */
+    static final class EntryMatcher {
+        private final Manifest manifest;
+        private final Results results;
+        private final Set<String> foundFileNames;
+        private final Map<String, Map<String, List<ResultRecord>>> fileNameToMatchedEntryRecords;
+
+        EntryMatcher(Manifest manifest, Results results) {
+            this.manifest = manifest;
+            this.results = results;
+            this.foundFileNames = new HashSet<>();
+            this.fileNameToMatchedEntryRecords = new LinkedHashMap<>();
+        }
+
+        /**
+         * @param entryName Name of the archive entry
+         * @return Manifest file name the entry's path or file name matches or <code>null</code> if the entry is not
+         * listed in the manifest
+         */
+        String findManifestFileName(String entryName) {
+            String normalizedEntryName = normalizeEntryName(entryName);
+            if (this.manifest.contains(normalizedEntryName)) {
+                return normalizedEntryName;
+            }
+
+            Path entryFileName = Paths.get(normalizedEntryName).getFileName();
+            if (entryFileName != null && this.manifest.contains(entryFileName.toString())) {
+                return entryFileName.toString();
+            }
+            return null;
+        }
+
+        /**
+         * @param entryName Name of the archive entry
+         * @param fileName Manifest file name returned for the entry by {@link #findManifestFileName(String)}
+         * @param entryRecords Results of checking the entry against the manifest's expectations for the file
+         */
+        void addRecords(String entryName, String fileName, List<ResultRecord> entryRecords) {
+            if (fileName.equals(normalizeEntryName(entryName))) {
+                this.foundFileNames.add(fileName);
+                entryRecords.forEach(this.results::add);
+            } else {
+                this.fileNameToMatchedEntryRecords.computeIfAbsent(fileName, name -> new LinkedHashMap<>())
+                    .put(entryName, entryRecords);
+            }
+        }
+
+        /**
+         * Adds the held back results of entries matched by file name, an error for each file name matched by more
+         * than one entry and an error for each manifest file not found in the archive
+         */
+        void finish() {
+            for (Map.Entry<String, Map<String, List<ResultRecord>>> matchedFile :
+                this.fileNameToMatchedEntryRecords.entrySet()) {
+
+                String fileName = matchedFile.getKey();
+                Map<String, List<ResultRecord>> entryNameToRecords = matchedFile.getValue();
+                if (this.foundFileNames.contains(fileName)) {
+                    // An entry at exactly the listed path takes precedence over entries sharing only its file name
+                    continue;
+                }
+                this.foundFileNames.add(fileName);
+
+                if (entryNameToRecords.size() == 1) {
+                    entryNameToRecords.values().iterator().next().forEach(this.results::add);
+                } else {
+                    this.results.add(ResultRecord.create("file-exists", ResultRecord.Severity.ERROR, fileName, null,
+                        String.join(", ", entryNameToRecords.keySet()),
+                        resultRecord -> "File " + resultRecord.getSubject() + " matches more than one archive " +
+                            "entry by name (" + resultRecord.getActual() + ")"));
+                }
+            }
+            addMissingFileErrors(this.results, this.manifest, this.foundFileNames);
+        }
+    }
+
+    private static void addMissingFileErrors(Results results, Manifest manifest, Set<String> foundFileNames) {
+        for (String fileName : manifest.getFileNames()) {
+            if (!foundFileNames.contains(fileName)) {
+                results.add(ResultRecord.create("file-exists", ResultRecord.Severity.ERROR, fileName, null, null,
+                    resultRecord -> "File " + resultRecord.getSubject() + " does not exist in archive"));
+            }
+        }
+    }
+
+    private static String normalizeEntryName(String entryName) {
+        String normalizedEntryName = entryName;
+        while (normalizedEntryName.startsWith("./")) {
+            normalizedEntryName = normalizedEntryName.substring(2);
+        }
+        return normalizedEntryName;
+    }
+}
@@ -0,0 +1,117 @@
+package org.reactome.release.verifier;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Verifies the contents of a gzipped tar archive against a manifest while the archive is streamed, so nothing is
+ * extracted to disk.  Each entry is checked for presence in the manifest and for its size against the expected size
+ * as it arrives, and the entry's payload is optionally hashed and compared with the manifest's checksum.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class TarballVerifier {
+    private static final ChecksumAlgorithm DEFAULT_CHECKSUM_ALGORITHM = ChecksumAlgorithm.SHA256;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Manifest manifest;
+    private final int fileSizePercentDropTolerance;
+    private final boolean computeDigests;
+
+    /**
+     * Creates a verifier for archives whose files are listed in a manifest
+     *
+     * @param manifest Manifest of expected file names and sizes in bytes
+     * @param fileSizePercentDropTolerance Percentage drop in file size allowed
+     * @param computeDigests <code>true</code> to compute a digest of each file's content, with the algorithm of its
+     * manifest checksum if it has one or SHA-256 otherwise;<code>false</code> otherwise
+     */
+    public TarballVerifier(Manifest manifest, int fileSizePercentDropTolerance, boolean computeDigests) {
+        this.manifest = manifest;
+        this.fileSizePercentDropTolerance = fileSizePercentDropTolerance;
+        this.computeDigests = computeDigests;
+    }
+
+    /**
+     * Streams an archive stored in S3 through the verification checks without saving it locally
+     *
+     * @param bucketName Name of S3 bucket
+     * @param key Path to the tar gzipped object
+     * @return Results of the verification checks
+     * @throws IOException Thrown if unable to gunzip or read the archive
+     */
+    public Results verifyFromS3(String bucketName, String key) throws IOException {
+        try (InputStream objectStream = S3TransferService.getShared().openObjectStream(bucketName, key)) {
+            return verify(objectStream);
+        }
+    }
+
+    /**
+     * Verifies a local archive without extracting it
+     *
+     * @param tgzFilePath Path to the tar gzipped file
+     * @return Results of the verification checks
+     * @throws IOException Thrown if unable to gunzip or read the archive
+     */
+    public Results verify(Path tgzFilePath) throws IOException {
+        try (InputStream fileStream = Files.newInputStream(tgzFilePath)) {
+            return verify(fileStream);
+        }
+    }
+
+    /**
+     * Verifies an archive as it is read from a stream.  Each manifest entry is matched to an archive entry by its
+     * path within the archive or, failing that, by its file name if only one archive entry has that name.
+     *
+     * @param tgzInputStream Stream of the tar gzipped content
+     * @return Results with an error for each file that is missing, too small or does not match its checksum and an
+     * info message for each file of acceptable size and, when digests are computed, for each digest
+     * @throws IOException Thrown if unable to gunzip or read the archive
+     */
+    public Results verify(InputStream tgzInputStream) throws IOException {
+        if (!this.computeDigests) {
+            return TarballInventory.read(tgzInputStream).verifyAgainst(
+                this.manifest, this.fileSizePercentDropTolerance);
+        }
+
+        Results results = new Results();
+        TarballInventory.EntryMatcher entryMatcher = new TarballInventory.EntryMatcher(this.manifest, results);
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        FileUtils.forEachTarGzEntry(tgzInputStream, (entry, content) -> {
+            String fileName = entryMatcher.findManifestFileName(entry.getName());
+            if (entry.isDirectory() || fileName == null) {
+                return;
+            }
+
+            FileSizer fileSizer = new FileSizer(
+                Paths.get(entry.getName()), entry.getSize(), this.manifest.getExpectedFileSize(fileName));
+            Checksum expectedChecksum = this.manifest.getExpectedChecksum(fileName);
+            Checksum actualChecksum = digest(content,
+                expectedChecksum != null ? expectedChecksum.getAlgorithm() : DEFAULT_CHECKSUM_ALGORITHM, buffer);
+            entryMatcher.addRecords(entry.getName(), fileName, Arrays.asList(
+                fileSizer.toResultRecord(this.fileSizePercentDropTolerance),
+                ChecksumVerifier.createChecksumRecord(entry.getName(), expectedChecksum, actualChecksum)
+            ));
+        });
+
+        entryMatcher.finish();
+        return results;
+    }
+
+    private static Checksum digest(InputStream content, ChecksumAlgorithm algorithm, byte[] buffer)
+        throws IOException {
+
+        ChecksumAlgorithm.Hasher hasher = algorithm.newHasher();
+        int bytesRead;
+        while ((bytesRead = content.read(buffer)) != -1) {
+            hasher.update(buffer, 0, bytesRead);
+        }
+        return Checksum.create(algorithm, hasher.finish());
+    }
+}
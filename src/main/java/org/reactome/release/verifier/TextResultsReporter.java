@@ -0,0 +1,63 @@
+package org.reactome.release.verifier;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+
+/**
+ * Writes the messages of records of one severity as lines of text under a heading, buffering the output rather than
+ * writing each line to the stream as it is reported.  The underlying stream is flushed but never closed.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class TextResultsReporter implements ResultsReporter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BufferedWriter writer;
+    private final ResultRecord.Severity severity;
+    private final String heading;
+
+    private TextResultsReporter(OutputStream outputStream, ResultRecord.Severity severity, String heading) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, Charset.defaultCharset()), BUFFER_SIZE);
+        this.severity = severity;
+        this.heading = heading;
+    }
+
+    /**
+     * Creates a reporter writing the messages of one severity
+     *
+     * @param outputStream Stream to write to (e.g. System.out)
+     * @param severity Severity of the records to write; records of other severities are skipped
+     * @param heading Line written, followed by a blank line, before the messages
+     * @return Text reporter
+     */
+    public static TextResultsReporter create(OutputStream outputStream, ResultRecord.Severity severity,
+        String heading) {
+
+        return new TextResultsReporter(outputStream, severity, heading);
+    }
+
+    @Override
+    public void start() throws IOException {
+        this.writer.write(this.heading);
+        this.writer.newLine();
+        this.writer.newLine();
+    }
+
+    @Override
+    public void report(ResultRecord resultRecord) throws IOException {
+        if (resultRecord.getSeverity() == this.severity) {
+            this.writer.write(resultRecord.getMessage());
+            this.writer.newLine();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        this.writer.newLine();
+        this.writer.flush();
+    }
+}
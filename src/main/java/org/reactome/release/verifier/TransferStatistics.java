@@ -0,0 +1,95 @@
+package org.reactome.release.verifier;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe tally of the number of files and bytes moved by a transfer and the wall time it took, from which the
+ * aggregate throughput is derived.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class TransferStatistics {
+    private static final double BYTES_PER_MEGABYTE = 1024.0d * 1024.0d;
+
+    private final AtomicLong fileCount;
+    private final AtomicLong byteCount;
+    private final AtomicLong elapsedNanos;
+
+    public TransferStatistics() {
+        this.fileCount = new AtomicLong();
+        this.byteCount = new AtomicLong();
+        this.elapsedNanos = new AtomicLong();
+    }
+
+    /**
+     * Records a completed file transfer
+     *
+     * @param bytes Number of bytes transferred
+     */
+    public void recordFile(long bytes) {
+        this.fileCount.incrementAndGet();
+        this.byteCount.addAndGet(bytes);
+    }
+
+    /**
+     * Records wall time spent transferring
+     *
+     * @param nanos Elapsed time in nanoseconds
+     */
+    public void recordElapsedTime(long nanos) {
+        this.elapsedNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Adds the file and byte counts of another set of statistics to this one.  The other statistics' elapsed time is
+     * not added: transfers running concurrently overlap, so the sum of their times would overstate the wall time and
+     * understate the throughput.  The wall time covering the transfers is recorded separately.
+     *
+     * @param other Statistics whose counts to add
+     */
+    public void add(TransferStatistics other) {
+        this.fileCount.addAndGet(other.getFileCount());
+        this.byteCount.addAndGet(other.getByteCount());
+    }
+
+    /**
+     * @return Number of files transferred
+     */
+    public long getFileCount() {
+        return this.fileCount.get();
+    }
+
+    /**
+     * @return Number of bytes transferred
+     */
+    public long getByteCount() {
+        return this.byteCount.get();
+    }
+
+    /**
+     * @return Wall time spent transferring in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return this.elapsedNanos.get();
+    }
+
+    /**
+     * @return Aggregate throughput in bytes per second or 0 if no time has been recorded
+     */
+    public double getBytesPerSecond() {
+        long nanos = getElapsedNanos();
+        return nanos > 0 ? getByteCount() * (double) TimeUnit.SECONDS.toNanos(1) / nanos : 0.0d;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d files (%d bytes) in %.2f seconds (%.2f MB/s)",
+            getFileCount(),
+            getByteCount(),
+            getElapsedNanos() / (double) TimeUnit.SECONDS.toNanos(1),
+            getBytesPerSecond() / BYTES_PER_MEGABYTE
+        );
+    }
+}
@@ -0,0 +1,300 @@
+package org.reactome.release.verifier;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * On-disk cache of the checksums computed for the files of an output directory, so a rerun only re-reads files
+ * whose metadata changed since they were last hashed.
+ * <p>
+ * The cache is a tab separated text file kept next to the output directory.  Each line records a file's path
+ * relative to the output directory, its size, modification time, file key (device and inode where available), the
+ * time the line was written and the checksum computed.  New lines are appended and the last line for a path wins;
+ * the file is compacted on close once superseded lines outnumber current ones.
+ * <p>
+ * Only checksums are cached, never pass/fail outcomes, so every run still compares against its own manifest and
+ * tolerances.  A cached checksum is used only if the size, modification time and file key are all unchanged, and
+ * never if the file was modified within {@link #MODIFICATION_TIME_GRANULARITY_MILLIS} of being hashed, since a
+ * further write in the same clock tick would not change the recorded modification time.  Lines which cannot be
+ * parsed or whose checksum does not have the length of its algorithm's, for example a line cut short by a crash
+ * mid-write, are ignored, and lines appended after such a line start on a line of their own.
+ * <p>
+ * The cache only saves work, so failing to write it never fails verification: the failure is logged, checksums
+ * are still cached in memory for the rest of the run and no further writes are attempted.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class VerificationCache implements Closeable {
+    static final long MODIFICATION_TIME_GRANULARITY_MILLIS = TimeUnit.SECONDS.toMillis(2);
+    private static final String HEADER = "#verification-cache\tv1";
+    private static final String NO_FILE_KEY = "-";
+    private static final int COLUMN_COUNT = 6;
+
+    private final Path outputDirectory;
+    private final Path cacheFilePath;
+    private final Map<String, CacheEntry> entries;
+    private BufferedWriter appender;
+    private boolean writesDisabled;
+    private int lineCount;
+
+    private VerificationCache(Path outputDirectory, Path cacheFilePath) {
+        this.outputDirectory = outputDirectory.toAbsolutePath().normalize();
+        this.cacheFilePath = cacheFilePath;
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Opens the cache for an output directory, loading any entries recorded by previous runs
+     *
+     * @param outputDirectory Directory containing the files being verified
+     * @return Verification cache
+     * @throws IOException Thrown if unable to read an existing cache file
+     */
+    public static VerificationCache open(Path outputDirectory) throws IOException {
+        VerificationCache cache = new VerificationCache(outputDirectory, getCacheFilePath(outputDirectory));
+        cache.load();
+        return cache;
+    }
+
+    /**
+     * Returns the location of the cache file for an output directory: a hidden file alongside the directory named
+     * after it
+     *
+     * @param outputDirectory Directory containing the files being verified
+     * @return Path to the cache file
+     */
+    public static Path getCacheFilePath(Path outputDirectory) {
+        Path absoluteOutputDirectory = outputDirectory.toAbsolutePath().normalize();
+        String outputDirectoryName = absoluteOutputDirectory.getFileName() != null ?
+            absoluteOutputDirectory.getFileName().toString() : "root";
+        return absoluteOutputDirectory.resolveSibling("." + outputDirectoryName + ".verification_cache");
+    }
+
+    /**
+     * Returns the checksum recorded for a file if the file is unchanged since it was hashed
+     *
+     * @param filePath Path to the file
+     * @param fileAttributes Current attributes of the file
+     * @param algorithm Algorithm of the checksum required
+     * @return Cached checksum or <code>null</code> if there is none for the algorithm or the file may have changed
+     */
+    public Checksum getChecksum(Path filePath, BasicFileAttributes fileAttributes, ChecksumAlgorithm algorithm) {
+        CacheEntry entry = this.entries.get(getKey(filePath));
+        if (entry == null || entry.checksum.getAlgorithm() != algorithm) {
+            return null;
+        }
+
+        long modifiedTime = fileAttributes.lastModifiedTime().toMillis();
+        boolean unchanged = entry.size == fileAttributes.size() &&
+            entry.modifiedTime == modifiedTime &&
+            entry.fileKey.equals(getFileKey(fileAttributes)) &&
+            entry.recordedTime - modifiedTime > MODIFICATION_TIME_GRANULARITY_MILLIS;
+        return unchanged ? entry.checksum : null;
+    }
+
+    /**
+     * Records the checksum computed for a file.  The attributes must have been read before the file was hashed so a
+     * write during hashing is detected on the next run.  If the checksum cannot be appended to the cache file, the
+     * failure is logged and the cache file is left as it is for the rest of the run.
+     *
+     * @param filePath Path to the file
+     * @param fileAttributes Attributes of the file read before hashing
+     * @param checksum Checksum of the file's content
+     */
+    public void recordChecksum(Path filePath, BasicFileAttributes fileAttributes, Checksum checksum) {
+        CacheEntry entry = new CacheEntry(
+            fileAttributes.size(),
+            fileAttributes.lastModifiedTime().toMillis(),
+            getFileKey(fileAttributes),
+            System.currentTimeMillis(),
+            checksum
+        );
+        String key = getKey(filePath);
+        this.entries.put(key, entry);
+        append(key, entry);
+    }
+
+    /**
+     * Flushes recorded checksums to disk, compacting the cache file if most of its lines have been superseded.
+     * Failures to write the cache file are logged rather than thrown.
+     */
+    @Override
+    public synchronized void close() {
+        if (this.appender != null) {
+            try {
+                this.appender.close();
+            } catch (IOException e) {
+                disableWrites(e);
+            }
+            this.appender = null;
+        }
+
+        if (!this.writesDisabled && this.lineCount > 2 * this.entries.size()) {
+            try {
+                compact();
+            } catch (IOException e) {
+                disableWrites(e);
+            }
+        }
+    }
+
+    private void load() throws IOException {
+        if (!Files.exists(this.cacheFilePath)) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(this.cacheFilePath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (!HEADER.equals(header)) {
+                // Unknown format: start again rather than risk trusting entries we cannot interpret
+                Files.delete(this.cacheFilePath);
+                return;
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                this.lineCount++;
+                String[] columns = line.split("\t");
+                if (columns.length != COLUMN_COUNT) {
+                    continue;
+                }
+
+                try {
+                    Checksum checksum = Checksum.parse(columns[5]);
+                    if (checksum != null && checksum.getAlgorithm().isWellFormed(checksum.getValue())) {
+                        this.entries.put(columns[0], new CacheEntry(
+                            Long.parseLong(columns[1]),
+                            Long.parseLong(columns[2]),
+                            columns[3],
+                            Long.parseLong(columns[4]),
+                            checksum
+                        ));
+                    }
+                } catch (NumberFormatException e) {
+                    // Skip lines damaged by an interrupted write
+                }
+            }
+        }
+    }
+
+    private synchronized void append(String key, CacheEntry entry) {
+        if (this.writesDisabled) {
+            return;
+        }
+
+        try {
+            if (this.appender == null) {
+                boolean newFile = !Files.exists(this.cacheFilePath);
+                boolean endsWithPartialLine = !newFile && endsWithPartialLine(this.cacheFilePath);
+                this.appender = Files.newBufferedWriter(this.cacheFilePath, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                if (newFile) {
+                    this.appender.write(HEADER);
+                    this.appender.newLine();
+                } else if (endsWithPartialLine) {
+                    // Terminate the line cut short by a crash so it is skipped rather than joined to the next entry
+                    this.appender.newLine();
+                }
+            }
+
+            this.appender.write(toLine(key, entry));
+            this.appender.newLine();
+            this.lineCount++;
+        } catch (IOException e) {
+            disableWrites(e);
+        }
+    }
+
+    private void disableWrites(IOException e) {
+        System.err.println("Unable to write verification cache " + this.cacheFilePath + ", so checksums computed " +
+            "from now on will not be cached for later runs: " + e);
+        this.writesDisabled = true;
+        if (this.appender != null) {
+            try {
+                this.appender.close();
+            } catch (IOException closeException) {
+                // The write already failed and has been logged, so a further failure to close adds nothing
+            }
+            this.appender = null;
+        }
+    }
+
+    private static boolean endsWithPartialLine(Path filePath) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(filePath, StandardOpenOption.READ)) {
+            if (channel.size() == 0) {
+                return false;
+            }
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.position(channel.size() - 1).read(lastByte);
+            return lastByte.get(0) != '\n';
+        }
+    }
+
+    private void compact() throws IOException {
+        Path temporaryFilePath = this.cacheFilePath.resolveSibling(this.cacheFilePath.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temporaryFilePath, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (Map.Entry<String, CacheEntry> entry : this.entries.entrySet()) {
+                writer.write(toLine(entry.getKey(), entry.getValue()));
+                writer.newLine();
+            }
+        }
+        Files.move(temporaryFilePath, this.cacheFilePath,
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.lineCount = this.entries.size();
+    }
+
+    private String getKey(Path filePath) {
+        Path absoluteFilePath = filePath.toAbsolutePath().normalize();
+        return absoluteFilePath.startsWith(this.outputDirectory) ?
+            this.outputDirectory.relativize(absoluteFilePath).toString() :
+            absoluteFilePath.toString();
+    }
+
+    private static String getFileKey(BasicFileAttributes fileAttributes) {
+        Object fileKey = fileAttributes.fileKey();
+        return fileKey != null ? fileKey.toString().replace('\t', ' ') : NO_FILE_KEY;
+    }
+
+    private static String toLine(String key, CacheEntry entry) {
+        return String.join("\t",
+            key,
+            Long.toString(entry.size),
+            Long.toString(entry.modifiedTime),
+            entry.fileKey,
+            Long.toString(entry.recordedTime),
+            entry.checksum.toString()
+        );
+    }
+
+    private static final class CacheEntry {
+        private final long size;
+        private final long modifiedTime;
+        private final String fileKey;
+        private final long recordedTime;
+        private final Checksum checksum;
+
+        private CacheEntry(long size, long modifiedTime, String fileKey, long recordedTime, Checksum checksum) {
+            this.size = size;
+            this.modifiedTime = modifiedTime;
+            this.fileKey = fileKey;
+            this.recordedTime = recordedTime;
+            this.checksum = checksum;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.reactome.release.verifier;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Verifies several release steps concurrently in one JVM, so each step no longer pays for its own JVM start-up, S3
+ * client, manifest downloads and database connections.  All steps share the library's S3 client
+ * ({@link S3TransferService#getShared()}), manifest cache ({@link ManifestCache#getShared()}) and graph database
+ * drivers ({@link DBParams#getSharedGraphDBDriver()}).
+ * <p>
+ * A step which fails with an exception is reported as an error of that step; the other steps still run.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class VerificationOrchestrator {
+    private final int maxConcurrentSteps;
+
+    /**
+     * Creates an orchestrator
+     *
+     * @param maxConcurrentSteps Maximum number of steps verified at the same time
+     */
+    public VerificationOrchestrator(int maxConcurrentSteps) {
+        if (maxConcurrentSteps < 1) {
+            throw new IllegalArgumentException("At least one step must be able to run at a time");
+        }
+        this.maxConcurrentSteps = maxConcurrentSteps;
+    }
+
+    /**
+     * Creates a default verifier for a step from its command line arguments
+     *
+     * @param stepName Name of the release step
+     * @param args Command line arguments of the step (see {@link DefaultVerificationLogic#defaultParameters()})
+     * @return Verifier with its arguments parsed
+     */
+    public static Verifier createDefaultVerifier(String stepName, String[] args) {
+        Verifier verifier = new DefaultVerifier(stepName);
+        verifier.parseCommandLineArgs(args);
+        return verifier;
+    }
+
+    /**
+     * Verifies every step, then reports the combined outcome: a line per step, followed by the errors of all steps
+     * or, if there were none, their info messages.  Requested metrics are written once all steps are done.
+     *
+     * @param verifiers Verifiers of the steps, with their arguments already parsed
+     * @return Exit code: 0 if every step ran correctly and 1 otherwise
+     * @throws IOException Thrown if interrupted while waiting for the steps or unable to write the metrics
+     */
+    public int run(List<Verifier> verifiers) throws IOException {
+        Map<String, Results> stepResults = verifyAll(verifiers);
+        Metrics.getShared().writeOutputFile();
+
+        for (Map.Entry<String, Results> stepResult : stepResults.entrySet()) {
+            Results results = stepResult.getValue();
+            System.out.println(!results.hasErrors() ?
+                "The " + stepResult.getKey() + " step ran correctly!" :
+                "The " + stepResult.getKey() + " step has " + results.getErrorCount() + " error(s)");
+        }
+
+        Results combinedResults = combine(stepResults);
+        if (combinedResults.hasErrors()) {
+            combinedResults.reportErrors();
+            return 1;
+        }
+        if (combinedResults.hasInfoMessages()) {
+            combinedResults.reportInfoMessages();
+        }
+        return 0;
+    }
+
+    /**
+     * Verifies every step, running up to the maximum number of steps at a time
+     *
+     * @param verifiers Verifiers of the steps, with their arguments already parsed
+     * @return Map of step name to the step's results, in the order the verifiers were given
+     * @throws IOException Thrown if interrupted while waiting for the steps
+     * @throws IllegalArgumentException Thrown if two verifiers have the same step name
+     */
+    public Map<String, Results> verifyAll(List<Verifier> verifiers) throws IOException {
+        Set<String> stepNames = new HashSet<>();
+        for (Verifier verifier : verifiers) {
+            if (!stepNames.add(verifier.getStepName())) {
+                throw new IllegalArgumentException("The " + verifier.getStepName() + " step is listed more than once");
+            }
+        }
+
+        List<Results> results = ParallelTasks.map(
+            verifiers, this.maxConcurrentSteps, "step-verifier", VerificationOrchestrator::verifyStep);
+
+        Map<String, Results> stepResults = new LinkedHashMap<>();
+        for (int i = 0; i < verifiers.size(); i++) {
+            stepResults.put(verifiers.get(i).getStepName(), results.get(i));
+        }
+        return stepResults;
+    }
+
+    /**
+     * Combines the results of several steps into one, prefixing each message with the name of its step
+     *
+     * @param stepResults Map of step name to the step's results
+     * @return Combined results
+     */
+    public static Results combine(Map<String, Results> stepResults) {
+        Results combinedResults = new Results();
+        for (Map.Entry<String, Results> stepResult : stepResults.entrySet()) {
+            String stepPrefix = "[" + stepResult.getKey() + "] ";
+            for (ResultRecord resultRecord : stepResult.getValue().getRecords()) {
+                combinedResults.add(ResultRecord.create(
+                    resultRecord.getCheckId(),
+                    resultRecord.getSeverity(),
+                    resultRecord.getSubject(),
+                    resultRecord.getExpected(),
+                    resultRecord.getActual(),
+                    stepRecord -> stepPrefix + resultRecord.getMessage()
+                ));
+            }
+        }
+        return combinedResults;
+    }
+
+    private static Results verifyStep(Verifier verifier) {
+        long phaseStartTime = Metrics.getShared().startTimer();
+        try {
+            return verifier.verifyStepRanCorrectly();
+        } catch (IOException | RuntimeException e) {
+            Results results = new Results();
+            results.addErrorMessage("Verification of the " + verifier.getStepName() + " step failed: " + e);
+            return results;
+        } finally {
+            Metrics.getShared().recordPhaseDuration("verification_" + verifier.getStepName(), phaseStartTime);
+        }
+    }
+}
@@ -11,17 +11,47 @@ public interface Verifier {
 
     ParsedArguments parseCommandLineArgs(String[] args);
 
+    /**
+     * Verifies the step, reports the outcome, writes any requested metrics and exits the JVM with status 1 if there
+     * were errors
+     *
+     * @throws IOException Thrown if unable to verify the step
+     */
     default void run() throws IOException {
-        Results results = verifyStepRanCorrectly();
+        int exitCode = verifyAndReport();
+        Metrics.getShared().writeOutputFile();
+        if (exitCode != 0) {
+            System.exit(exitCode);
+        }
+    }
+
+    /**
+     * Verifies the step and reports the outcome: on success a confirmation and any info messages are written to
+     * standard output, otherwise the errors are written to standard error.  Unlike {@link #run()} this never exits
+     * the JVM, so it can be used when running several verifiers in one JVM.
+     *
+     * @return Exit code: 0 if the step ran correctly and 1 otherwise
+     * @throws IOException Thrown if unable to verify the step
+     */
+    default int verifyAndReport() throws IOException {
+        Results results;
+        long phaseStartTime = Metrics.getShared().startTimer();
+        try {
+            results = verifyStepRanCorrectly();
+        } finally {
+            Metrics.getShared().recordPhaseDuration("verification", phaseStartTime);
+        }
+
         if (!results.hasErrors()) {
             System.out.println("The " + getStepName() + " step ran correctly!");
 
             if (results.hasInfoMessages()) {
                 results.reportInfoMessages();
             }
+            return 0;
         } else {
             results.reportErrors();
-            System.exit(1);
+            return 1;
         }
     }
 
@@ -0,0 +1,55 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.ChecksumAlgorithm;
+import org.reactome.release.verifier.ChecksumVerifier;
+import org.reactome.release.verifier.FileHasher;
+import org.reactome.release.verifier.Manifest;
+import org.reactome.release.verifier.Results;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class ChecksumVerifierTest {
+    private static final String WRONG_SHA256 = "sha256:" + String.join("", Collections.nCopies(64, "0"));
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void mismatchedChecksumIsReportedAsAnError() throws IOException {
+        Path outputDirectory = temporaryFolder.newFolder("output").toPath();
+        Path pathwaysFilePath = write(outputDirectory.resolve("pathways.txt"), "R-HSA-1\tApoptosis\n");
+        Path interactorsFilePath = write(outputDirectory.resolve("interactors.txt"), "P12345\tQ67890\n");
+        String pathwaysChecksum = FileHasher.hash(pathwaysFilePath, ChecksumAlgorithm.SHA256).toString();
+
+        Path manifestFilePath = write(temporaryFolder.getRoot().toPath().resolve("manifest.txt"), String.join("\n",
+            Files.size(pathwaysFilePath) + "\tpathways.txt\t" + pathwaysChecksum,
+            Files.size(interactorsFilePath) + "\tinteractors.txt\t" + WRONG_SHA256,
+            "10\tmissing.txt\t" + WRONG_SHA256
+        ));
+
+        Results results = new ChecksumVerifier(outputDirectory, Manifest.load(manifestFilePath), 2).verify();
+
+        assertThat(results.getErrorMessages(), equalTo(Collections.singletonList(
+            interactorsFilePath + " checksum mismatch (expected " + WRONG_SHA256 + " and got " +
+                FileHasher.hash(interactorsFilePath, ChecksumAlgorithm.SHA256) + ")")));
+        assertThat(results.getInfoMessages(), equalTo(Arrays.asList(
+            pathwaysFilePath + " checksum matches (" + pathwaysChecksum + ")")));
+    }
+
+    private static Path write(Path filePath, String content) throws IOException {
+        return Files.write(filePath, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
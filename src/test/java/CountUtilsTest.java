@@ -1,6 +1,8 @@
 import org.junit.Test;
 import org.reactome.release.verifier.CountUtils;
 
+import java.util.BitSet;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsEqual.equalTo;
 
@@ -28,4 +30,40 @@ public class CountUtilsTest {
         assertThat(actual, equalTo(true));
     }
 
+    @Test
+    public void batchDropsMatchSingleCountChecks() {
+        long[] newCounts = {951, 950, 949, 1000, 1100, 0};
+        long[] oldCounts = {1000, 1000, 1000, 1000, 1000, 1000};
+
+        BitSet drops = CountUtils.greaterThanOrEqualToXPercentDrops(newCounts, oldCounts, 5);
+
+        for (int i = 0; i < newCounts.length; i++) {
+            assertThat(drops.get(i), equalTo(CountUtils.greaterThanOrEqualTo5PercentDrop(newCounts[i], oldCounts[i])));
+        }
+    }
+
+    @Test
+    public void batchOldCountOfZeroIsNotADrop() {
+        BitSet drops = CountUtils.greaterThanOrEqualToXPercentDrops(new long[] {0, 10}, new long[] {0, 0}, 5);
+        assertThat(drops.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void batchUsesPercentageForEachIndex() {
+        BitSet drops = CountUtils.greaterThanOrEqualToXPercentDrops(
+            new long[] {900, 900}, new long[] {1000, 1000}, new int[] {10, 11}
+        );
+        assertThat(drops.get(0), equalTo(true));
+        assertThat(drops.get(1), equalTo(false));
+    }
+
+    @Test
+    public void percentChangesAreFilled() {
+        double[] percentChanges = CountUtils.percentChanges(
+            new long[] {950, 1100, 5}, new long[] {1000, 1000, 0}, new double[3]
+        );
+        assertThat(percentChanges[0], equalTo(-5.0d));
+        assertThat(percentChanges[1], equalTo(10.0d));
+        assertThat(percentChanges[2], equalTo(Double.POSITIVE_INFINITY));
+    }
 }
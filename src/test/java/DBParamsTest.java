@@ -0,0 +1,45 @@
+import org.junit.Test;
+import org.reactome.release.verifier.DBParams;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class DBParamsTest {
+
+    @Test
+    public void equalParametersAreEqualWithEqualHashCodes() {
+        DBParams dbParams = DBParams.create("neo4j", "secret", "localhost", 7687).withFetchSize(500);
+        DBParams sameDBParams = DBParams.create("neo4j", "secret", "localhost", 7687).withFetchSize(500);
+
+        assertThat(dbParams, equalTo(sameDBParams));
+        assertThat(dbParams.hashCode(), equalTo(sameDBParams.hashCode()));
+    }
+
+    @Test
+    public void parametersDifferingInAnyFieldAreNotEqual() {
+        DBParams dbParams = DBParams.create("neo4j", "secret", "localhost", 7687);
+
+        assertThat(dbParams, not(equalTo(DBParams.create("reactome", "secret", "localhost", 7687))));
+        assertThat(dbParams, not(equalTo(DBParams.create("neo4j", "other", "localhost", 7687))));
+        assertThat(dbParams, not(equalTo(DBParams.create("neo4j", "secret", "remotehost", 7687))));
+        assertThat(dbParams, not(equalTo(DBParams.create("neo4j", "secret", "localhost", 7688))));
+        assertThat(dbParams, not(equalTo(dbParams.withMaxConnectionPoolSize(10))));
+        assertThat(dbParams, not(equalTo(dbParams.withConnectionAcquisitionTimeoutMillis(1000))));
+        assertThat(dbParams, not(equalTo(dbParams.withFetchSize(10))));
+    }
+
+    @Test
+    public void copyLeavesOriginalUnchanged() {
+        DBParams dbParams = DBParams.create("neo4j", "secret", "localhost", 7687);
+        DBParams copy = dbParams.withMaxConnectionPoolSize(10);
+
+        assertThat(dbParams.getMaxConnectionPoolSize(), equalTo(DBParams.DEFAULT_MAX_CONNECTION_POOL_SIZE));
+        assertThat(copy.getMaxConnectionPoolSize(), equalTo(10));
+        assertThat(copy.getGraphDBConnectionURI(), equalTo(dbParams.getGraphDBConnectionURI()));
+    }
+}
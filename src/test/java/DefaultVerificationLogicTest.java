@@ -0,0 +1,27 @@
+import org.junit.Test;
+import org.reactome.release.verifier.DefaultVerificationLogic;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class DefaultVerificationLogicTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeKeyColumnIsRejected() {
+        DefaultVerificationLogic verificationLogic = new DefaultVerificationLogic("test_step");
+
+        verificationLogic.parseCommandLineArgs(
+            new String[] {"-o", "output", "-r", "95", "--lineCounts", "*.tsv", "--keyColumn", "-2"},
+            verificationLogic.defaultParameters());
+    }
+
+    @Test
+    public void zeroKeyColumnIsAccepted() {
+        DefaultVerificationLogic verificationLogic = new DefaultVerificationLogic("test_step");
+
+        verificationLogic.parseCommandLineArgs(
+            new String[] {"-o", "output", "-r", "95", "--lineCounts", "*.tsv", "--keyColumn", "0"},
+            verificationLogic.defaultParameters());
+    }
+}
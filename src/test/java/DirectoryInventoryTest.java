@@ -0,0 +1,96 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.DirectoryInventory;
+import org.reactome.release.verifier.FileUtils;
+import org.reactome.release.verifier.Manifest;
+import org.reactome.release.verifier.Results;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class DirectoryInventoryTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void nestedFilesAreInventoriedByRelativePath() throws IOException {
+        Path outputDirectory = createOutputDirectory();
+
+        DirectoryInventory inventory = DirectoryInventory.walk(outputDirectory, 2);
+
+        assertThat(inventory.getRelativePaths(),
+            equalTo(Arrays.asList("a.txt", "nested/b.txt", "nested/deeper/c.txt", "stray.txt")));
+        assertThat(inventory.getFileSize("nested/deeper/c.txt"), equalTo(30L));
+    }
+
+    @Test
+    public void missingExtraAndShrunkFilesAreReported() throws IOException {
+        Path outputDirectory = createOutputDirectory();
+        Manifest manifest = writeManifest("10\ta.txt", "100\tnested/b.txt", "30\tnested/deeper/c.txt", "5\tgone.txt");
+
+        Results results = DirectoryInventory.walk(outputDirectory, 2).compareTo(manifest, 10, path -> false);
+
+        assertThat(results.getErrorMessages(), equalTo(Arrays.asList(
+            "File " + outputDirectory.resolve("gone.txt") + " does not exist",
+            outputDirectory.resolve("nested/b.txt") +
+                " (expected 100 bytes and got 20 bytes - difference of -80 bytes (-80.00%))",
+            "File " + outputDirectory.resolve("stray.txt") + " (40 bytes) is not listed in the files and sizes list"
+        )));
+        assertThat(results.getInfoMessages().size(), equalTo(2));
+    }
+
+    @Test
+    public void ignoredFilesAreNotReportedAsUnexpected() throws IOException {
+        Path outputDirectory = createOutputDirectory();
+        Manifest manifest = writeManifest("10\t./a.txt", "20\tnested/b.txt", "30\tnested/deeper/c.txt");
+
+        Results results = DirectoryInventory.walk(outputDirectory, 1)
+            .compareTo(manifest, 10, path -> path.equals("stray.txt"));
+
+        assertThat(results.hasErrors(), equalTo(false));
+    }
+
+    @Test
+    public void filesWrittenByVerificationAreNotReportedAsUnexpected() throws IOException {
+        Path outputDirectory = createOutputDirectory();
+        Files.write(outputDirectory.resolve("files_and_sizes.txt"), new byte[5]);
+        Files.write(outputDirectory.resolve("verification_report.tsv.gz"), new byte[5]);
+        Files.write(outputDirectory.resolve("nested/.b.txt.k3j9x.tmp"), new byte[5]);
+        Manifest manifest = writeManifest(
+            "10\ta.txt", "20\tnested/b.txt", "30\tnested/deeper/c.txt", "40\tstray.txt");
+
+        Results results = DirectoryInventory.walk(outputDirectory, 2)
+            .compareTo(manifest, 10, FileUtils::isGeneratedFile);
+
+        assertThat(results.getErrorMessages(), equalTo(Collections.emptyList()));
+    }
+
+    private Path createOutputDirectory() throws IOException {
+        Path outputDirectory = temporaryFolder.newFolder("output").toPath();
+        Files.createDirectories(outputDirectory.resolve("nested/deeper"));
+        Files.write(outputDirectory.resolve("a.txt"), new byte[10]);
+        Files.write(outputDirectory.resolve("nested/b.txt"), new byte[20]);
+        Files.write(outputDirectory.resolve("nested/deeper/c.txt"), new byte[30]);
+        Files.write(outputDirectory.resolve("stray.txt"), new byte[40]);
+        return outputDirectory;
+    }
+
+    private Manifest writeManifest(String... lines) throws IOException {
+        Path manifestFilePath = temporaryFolder.newFile("files_and_sizes.txt").toPath();
+        Files.write(manifestFilePath, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return Manifest.load(manifestFilePath);
+    }
+}
@@ -0,0 +1,81 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.Checksum;
+import org.reactome.release.verifier.ChecksumAlgorithm;
+import org.reactome.release.verifier.FileHasher;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class FileHasherTest {
+    // At least the 4 MB from which files are memory-mapped rather than read through a buffer
+    private static final int MAPPED_FILE_SIZE = 4 * 1024 * 1024 + 4321;
+    // Several times the size of the buffer through which smaller files are read
+    private static final int BUFFERED_FILE_SIZE = 600 * 1024 + 17;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void mappedFileHashesMatchReferenceImplementations() throws Exception {
+        assertHashesMatch(randomBytes(MAPPED_FILE_SIZE));
+    }
+
+    @Test
+    public void bufferedFileHashesMatchReferenceImplementations() throws Exception {
+        assertHashesMatch(randomBytes(BUFFERED_FILE_SIZE));
+    }
+
+    @Test
+    public void emptyFileHashesMatchReferenceImplementations() throws Exception {
+        assertHashesMatch(new byte[0]);
+    }
+
+    @Test
+    public void knownContentHasKnownChecksums() throws IOException {
+        Path filePath = Files.write(temporaryFolder.newFile().toPath(), "abc".getBytes("US-ASCII"));
+
+        assertThat(FileHasher.hash(filePath, ChecksumAlgorithm.SHA256).toString(),
+            equalTo("sha256:ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad"));
+        assertThat(FileHasher.hash(filePath, ChecksumAlgorithm.CRC32).toString(), equalTo("crc32:352441c2"));
+    }
+
+    private void assertHashesMatch(byte[] content) throws IOException, NoSuchAlgorithmException {
+        Path filePath = Files.write(temporaryFolder.newFile().toPath(), content);
+
+        CRC32 crc32 = new CRC32();
+        crc32.update(content);
+        assertThat(FileHasher.hash(filePath, ChecksumAlgorithm.CRC32),
+            equalTo(Checksum.create(ChecksumAlgorithm.CRC32, String.format("%08x", crc32.getValue()))));
+        byte[] sha256 = MessageDigest.getInstance("SHA-256").digest(content);
+        assertThat(FileHasher.hash(filePath, ChecksumAlgorithm.SHA256),
+            equalTo(Checksum.create(ChecksumAlgorithm.SHA256, toHex(sha256))));
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
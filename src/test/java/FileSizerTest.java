@@ -0,0 +1,44 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.FileSizer;
+import org.reactome.release.verifier.FileUtils;
+import org.reactome.release.verifier.Manifest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class FileSizerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void fileInSubdirectoryIsFoundByItsRelativePath() throws IOException {
+        Path outputDirectory = temporaryFolder.newFolder("output").toPath();
+        Path filePath = outputDirectory.resolve("interactors/human.txt");
+        Files.createDirectories(filePath.getParent());
+        Files.write(filePath, new byte[50]);
+
+        Path manifestFilePath = temporaryFolder.newFile("manifest.txt").toPath();
+        Files.write(manifestFilePath, Arrays.asList("20\thuman.txt", "100\tinteractors/human.txt"),
+            StandardCharsets.UTF_8);
+        Manifest manifest = Manifest.load(manifestFilePath);
+
+        assertThat(FileUtils.getExpectedFileSize(outputDirectory, filePath, manifest), equalTo(100L));
+
+        FileSizer fileSizer = new FileSizer(outputDirectory, filePath, manifest);
+        assertThat(fileSizer.currentFileTooSmall(10), equalTo(true));
+        assertThat(fileSizer.currentFileTooSmall(50), equalTo(false));
+    }
+}
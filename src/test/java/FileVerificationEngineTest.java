@@ -0,0 +1,84 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.ErrorLimit;
+import org.reactome.release.verifier.FileVerificationEngine;
+import org.reactome.release.verifier.Manifest;
+import org.reactome.release.verifier.ResultRecord;
+import org.reactome.release.verifier.Results;
+import org.reactome.release.verifier.ResultsReporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class FileVerificationEngineTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void everyFileIsCheckedWithoutErrorLimit() throws IOException {
+        Results results = verify(ErrorLimit.unlimited());
+
+        assertThat(results.isTruncated(), equalTo(false));
+        assertThat(results.getErrorCount(), equalTo(3));
+    }
+
+    @Test
+    public void remainingFilesAreSkippedOnceErrorLimitIsReached() throws IOException {
+        Results results = verify(ErrorLimit.create(1));
+
+        assertThat(results.isTruncated(), equalTo(true));
+        // The missing file's error followed by the truncation notice
+        assertThat(results.getErrorCount(), equalTo(2));
+        assertThat(results.getErrorMessages().get(1),
+            equalTo("Verification stopped after reaching 1 error(s): " +
+                "2 of 4 file(s) and 0 checksum(s) were not checked"));
+    }
+
+    @Test
+    public void errorLimitIsNotTruncationWhenNothingIsSkipped() throws IOException {
+        Results results = verify(ErrorLimit.create(3));
+
+        assertThat(results.isTruncated(), equalTo(false));
+        assertThat(results.getErrorCount(), equalTo(3));
+    }
+
+    @Test
+    public void eachRecordIsReportedOnceWhileVerificationRuns() throws IOException {
+        List<ResultRecord> reportedRecords = new ArrayList<>();
+        Results results = verify(ErrorLimit.create(1), reportedRecords::add);
+
+        // The truncation notice is reported along with the records of the files checked before the limit was hit
+        assertThat(reportedRecords, equalTo(results.getRecords()));
+    }
+
+    private Results verify(ErrorLimit errorLimit) throws IOException {
+        return verify(errorLimit, null);
+    }
+
+    private Results verify(ErrorLimit errorLimit, ResultsReporter reporter) throws IOException {
+        Path outputDirectory = temporaryFolder.newFolder("output").toPath();
+        Files.write(outputDirectory.resolve("present.txt"), new byte[10]);
+
+        Path manifestFilePath = temporaryFolder.newFile("manifest.txt").toPath();
+        Files.write(manifestFilePath,
+            Arrays.asList("10\tpresent.txt", "10\tmissing1.txt", "10\tmissing2.txt", "10\tmissing3.txt"),
+            StandardCharsets.UTF_8);
+
+        return FileVerificationEngine.create(outputDirectory, Manifest.load(manifestFilePath), 10, 1)
+            .withErrorLimit(errorLimit).withReporter(reporter).verify();
+    }
+}
@@ -0,0 +1,66 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.GraphCountSnapshot;
+import org.reactome.release.verifier.GraphCountVerifier;
+import org.reactome.release.verifier.GraphCounts;
+import org.reactome.release.verifier.Results;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class GraphCountSnapshotTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void snapshotRoundTripsAllCounts() throws IOException {
+        GraphCounts graphCounts = createGraphCounts(1000L, 100L);
+        Path snapshotFilePath = temporaryFolder.getRoot().toPath().resolve("graph_counts.txt");
+
+        GraphCountSnapshot.write(graphCounts, snapshotFilePath);
+        GraphCounts readGraphCounts = GraphCountSnapshot.read(snapshotFilePath);
+
+        assertThat(readGraphCounts.getLabelCounts(), equalTo(graphCounts.getLabelCounts()));
+        assertThat(readGraphCounts.getRelationshipTypeCounts(), equalTo(graphCounts.getRelationshipTypeCounts()));
+        assertThat(readGraphCounts.getSpeciesCounts(), equalTo(graphCounts.getSpeciesCounts()));
+    }
+
+    @Test
+    public void speciesCountDropIsAnError() {
+        Results results = GraphCountVerifier.compare(createGraphCounts(1000L, 90L), createGraphCounts(1000L, 100L), 5);
+        assertThat(results.getErrorMessages(),
+            equalTo(Collections.singletonList("Label Pathway in species Homo sapiens count went from 100 to 90")));
+    }
+
+    @Test(expected = IOException.class)
+    public void fileWithoutHeaderThrowsIOException() throws IOException {
+        Path snapshotFilePath = temporaryFolder.newFile("graph_counts.txt").toPath();
+        Files.write(snapshotFilePath, Arrays.asList("label\tPathway\t1000"), StandardCharsets.UTF_8);
+        GraphCountSnapshot.read(snapshotFilePath);
+    }
+
+    private GraphCounts createGraphCounts(long pathwayCount, long humanPathwayCount) {
+        Map<String, Long> speciesCounts = new LinkedHashMap<>();
+        speciesCounts.put("Homo sapiens", humanPathwayCount);
+        return GraphCounts.create(
+            Collections.singletonMap("Pathway", pathwayCount),
+            Collections.singletonMap("hasEvent", 5000L),
+            Collections.singletonMap("Pathway", speciesCounts)
+        );
+    }
+}
@@ -0,0 +1,69 @@
+import org.junit.Test;
+import org.reactome.release.verifier.GraphCountVerifier;
+import org.reactome.release.verifier.GraphCounts;
+import org.reactome.release.verifier.Results;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class GraphCountVerifierTest {
+
+    @Test
+    public void dropAtTheToleranceIsAnErrorAndSmallerDropIsNot() {
+        Results results = GraphCountVerifier.compare(
+            labelCounts(95L, 96L), labelCounts(100L, 100L), 5
+        );
+
+        assertThat(results.getErrorMessages(),
+            equalTo(Collections.singletonList("Label Pathway count went from 100 to 95")));
+        assertThat(results.getInfoMessages(),
+            equalTo(Collections.singletonList("Label Reaction count went from 100 to 96")));
+    }
+
+    @Test
+    public void increaseIsNotAnError() {
+        Results results = GraphCountVerifier.compare(labelCounts(200L, 300L), labelCounts(100L, 100L), 5);
+
+        assertThat(results.hasErrors(), equalTo(false));
+        assertThat(results.getInfoMessages().size(), equalTo(2));
+    }
+
+    @Test
+    public void countMissingFromCurrentReleaseIsAnError() {
+        Map<String, Long> previousRelationshipTypeCounts = new LinkedHashMap<>();
+        previousRelationshipTypeCounts.put("hasEvent", 50L);
+        GraphCounts previousCounts = GraphCounts.create(Collections.emptyMap(), previousRelationshipTypeCounts);
+        GraphCounts currentCounts = GraphCounts.create(Collections.emptyMap(), Collections.emptyMap());
+
+        Results results = GraphCountVerifier.compare(currentCounts, previousCounts, 5);
+
+        assertThat(results.getErrorMessages(),
+            equalTo(Collections.singletonList("Relationship type hasEvent count went from 50 to 0")));
+    }
+
+    @Test
+    public void countOnlyInCurrentReleaseIsNotCompared() {
+        GraphCounts previousCounts = GraphCounts.create(Collections.emptyMap(), Collections.emptyMap());
+
+        Results results = GraphCountVerifier.compare(labelCounts(0L, 0L), previousCounts, 5);
+
+        assertThat(results.size(), equalTo(0));
+        assertThat(results.getErrorMessages(), equalTo(Arrays.asList()));
+    }
+
+    private static GraphCounts labelCounts(long pathwayCount, long reactionCount) {
+        Map<String, Long> labelCounts = new LinkedHashMap<>();
+        labelCounts.put("Pathway", pathwayCount);
+        labelCounts.put("Reaction", reactionCount);
+        return GraphCounts.create(labelCounts, Collections.emptyMap());
+    }
+}
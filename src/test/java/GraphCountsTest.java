@@ -0,0 +1,60 @@
+import org.junit.Test;
+import org.neo4j.driver.Query;
+import org.reactome.release.verifier.GraphCounts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class GraphCountsTest {
+
+    @Test
+    public void labelsAreCountedInOneUnionAllQueryPerBatch() {
+        List<String> labels = new ArrayList<>();
+        for (int i = 0; i < GraphCounts.MAX_COUNTS_PER_QUERY + 1; i++) {
+            labels.add("Label" + i);
+        }
+
+        List<Query> queries = GraphCounts.createLabelCountQueries(labels);
+
+        assertThat(queries.size(), equalTo(2));
+        assertThat(queries.get(0).text().split(" UNION ALL ").length, equalTo(GraphCounts.MAX_COUNTS_PER_QUERY));
+        assertThat(queries.get(0).parameters().get("name99").asString(), equalTo("Label99"));
+        assertThat(queries.get(1).text(), equalTo("MATCH (n:`Label100`) RETURN $name0 AS name, count(n) AS count"));
+        assertThat(queries.get(1).parameters().get("name0").asString(), equalTo("Label100"));
+    }
+
+    @Test
+    public void relationshipTypesAreCountedPerTypeWithinAQuery() {
+        List<Query> queries = GraphCounts.createRelationshipTypeCountQueries(Arrays.asList("input", "output"));
+
+        assertThat(queries.size(), equalTo(1));
+        assertThat(queries.get(0).text(), equalTo(
+            "MATCH ()-[r:`input`]->() RETURN $name0 AS name, count(r) AS count UNION ALL " +
+            "MATCH ()-[r:`output`]->() RETURN $name1 AS name, count(r) AS count"));
+    }
+
+    @Test
+    public void backticksInNamesAreEscaped() {
+        List<Query> queries = GraphCounts.createLabelCountQueries(
+            Collections.singletonList("Bad`) DETACH DELETE n //"));
+
+        assertThat(queries.get(0).text(),
+            equalTo("MATCH (n:`Bad``) DETACH DELETE n //`) RETURN $name0 AS name, count(n) AS count"));
+        // The name returned with the count is a parameter, so it is never parsed as part of the query
+        assertThat(queries.get(0).parameters().get("name0").asString(), equalTo("Bad`) DETACH DELETE n //"));
+    }
+
+    @Test
+    public void noNamesNeedNoQueries() {
+        assertThat(GraphCounts.createLabelCountQueries(Collections.emptyList()), equalTo(Collections.emptyList()));
+    }
+}
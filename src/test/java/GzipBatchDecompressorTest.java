@@ -0,0 +1,132 @@
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.FileUtils;
+import org.reactome.release.verifier.GzipBatchDecompressor;
+import org.reactome.release.verifier.TransferStatistics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class GzipBatchDecompressorTest {
+    private static final String PATHWAYS = "R-HSA-1\tApoptosis\nR-HSA-2\tSignaling\n";
+    private static final String INTERACTORS = "P12345\tQ67890\nP11111\tQ22222\nP33333\tQ44444\n";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void allGzippedFilesAreDecompressedAlongsideThemselves() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        writeGzip(directory.resolve("pathways.txt.gz"), PATHWAYS);
+        writeGzip(directory.resolve("interactors/human.tsv.gz"), INTERACTORS);
+        Files.write(directory.resolve("readme.txt"), "not gzipped".getBytes(StandardCharsets.UTF_8));
+
+        GzipBatchDecompressor.Result result =
+            new GzipBatchDecompressor(2, GzipBatchDecompressor.FsyncPolicy.FILE_AND_DIRECTORY)
+                .decompressAll(directory);
+
+        assertThat(read(directory.resolve("pathways.txt")), equalTo(PATHWAYS));
+        assertThat(read(directory.resolve("interactors/human.tsv")), equalTo(INTERACTORS));
+        assertThat(result.getFileStatistics().size(), equalTo(2));
+        assertThat(result.getFileStatistics().get(directory.resolve("pathways.txt")).getByteCount(),
+            equalTo((long) PATHWAYS.length()));
+
+        TransferStatistics totalStatistics = result.getTotalStatistics();
+        assertThat(totalStatistics.getFileCount(), equalTo(2L));
+        assertThat(totalStatistics.getByteCount(), equalTo((long) (PATHWAYS.length() + INTERACTORS.length())));
+        assertThat(temporaryFiles(directory), equalTo(0L));
+    }
+
+    @Test
+    public void decompressedFileHasDefaultPermissions() throws IOException {
+        Assume.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        Path directory = temporaryFolder.getRoot().toPath();
+        writeGzip(directory.resolve("pathways.txt.gz"), PATHWAYS);
+        // A file created in place gets the permissions the umask allows, which decompressed files must match
+        Path referenceFilePath = Files.createFile(directory.resolve("reference.txt"));
+
+        FileUtils.gunzipFile(directory.resolve("pathways.txt.gz"));
+
+        assertThat(read(directory.resolve("pathways.txt")), equalTo(PATHWAYS));
+        assertThat(Files.getPosixFilePermissions(directory.resolve("pathways.txt")),
+            equalTo(Files.getPosixFilePermissions(referenceFilePath)));
+    }
+
+    @Test
+    public void onlyFilesMatchingPatternsAreDecompressed() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        writeGzip(directory.resolve("pathways.txt.gz"), PATHWAYS);
+        writeGzip(directory.resolve("interactors/human.tsv.gz"), INTERACTORS);
+
+        GzipBatchDecompressor.Result result = new GzipBatchDecompressor(2, GzipBatchDecompressor.FsyncPolicy.NONE)
+            .decompressAll(directory, Collections.singletonList("interactors/*.gz"));
+
+        assertThat(result.getFileStatistics().keySet(),
+            equalTo(Collections.singleton(directory.resolve("interactors/human.tsv"))));
+        assertThat(Files.exists(directory.resolve("pathways.txt")), equalTo(false));
+    }
+
+    @Test
+    public void existingOutputIsReplacedAndTruncatedInputLeavesItUntouched() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        Path gzFilePath = writeGzip(directory.resolve("pathways.txt.gz"), PATHWAYS);
+        Files.write(directory.resolve("pathways.txt"), "stale".getBytes(StandardCharsets.UTF_8));
+
+        GzipBatchDecompressor decompressor = new GzipBatchDecompressor(1, GzipBatchDecompressor.FsyncPolicy.FILE);
+        decompressor.decompress(gzFilePath);
+        assertThat(read(directory.resolve("pathways.txt")), equalTo(PATHWAYS));
+
+        byte[] gzipBytes = Files.readAllBytes(gzFilePath);
+        Files.write(gzFilePath, Arrays.copyOf(gzipBytes, gzipBytes.length - 4));
+        try {
+            decompressor.decompress(gzFilePath);
+            throw new AssertionError("Truncated gzip file was decompressed");
+        } catch (IOException e) {
+            assertThat(read(directory.resolve("pathways.txt")), equalTo(PATHWAYS));
+            assertThat(temporaryFiles(directory), equalTo(0L));
+        }
+    }
+
+    @Test
+    public void outputFilePathDropsOnlyTheGzipExtension() {
+        Path gzFilePath = temporaryFolder.getRoot().toPath().resolve("release.gz.files/data.tsv.gz");
+
+        assertThat(GzipBatchDecompressor.getOutputFilePath(gzFilePath),
+            equalTo(temporaryFolder.getRoot().toPath().resolve("release.gz.files/data.tsv")));
+    }
+
+    private static Path writeGzip(Path filePath, String content) throws IOException {
+        Files.createDirectories(filePath.getParent());
+        try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(filePath))) {
+            outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return filePath;
+    }
+
+    private static String read(Path filePath) throws IOException {
+        return new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+    }
+
+    private static long temporaryFiles(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(".tmp")).count();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.ChecksumAlgorithm;
+import org.reactome.release.verifier.FileHasher;
+import org.reactome.release.verifier.GzipInspector;
+import org.reactome.release.verifier.LineCounter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class GzipInspectorTest {
+    private static final String CONTENT = "R-HSA-1\tApoptosis\nR-HSA-2\tSignaling\nR-HSA-3\tApoptosis";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void validFileIsInspectedInOnePass() throws IOException {
+        Path gzFilePath = writeGzip("pathways.txt.gz", CONTENT.getBytes(StandardCharsets.UTF_8));
+        Path plainFilePath = Files.write(temporaryFolder.getRoot().toPath().resolve("pathways.txt"),
+            CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        GzipInspector.Inspection inspection = GzipInspector.inspect(gzFilePath, ChecksumAlgorithm.SHA256);
+
+        assertThat(inspection.isValid(), equalTo(true));
+        assertThat(inspection.getUncompressedSize(), equalTo((long) CONTENT.length()));
+        assertThat(inspection.getLineCount(), equalTo(3L));
+        assertThat(inspection.getChecksum(), equalTo(FileHasher.hash(plainFilePath, ChecksumAlgorithm.SHA256)));
+    }
+
+    @Test
+    public void truncatedFileIsNotValid() throws IOException {
+        byte[] content = new byte[100000];
+        Arrays.fill(content, (byte) 'a');
+        Path gzFilePath = writeGzip("truncated.txt.gz", content);
+        byte[] gzipped = Files.readAllBytes(gzFilePath);
+        Files.write(gzFilePath, Arrays.copyOf(gzipped, gzipped.length - 6));
+
+        GzipInspector.Inspection inspection = GzipInspector.inspect(gzFilePath);
+
+        assertThat(inspection.isValid(), equalTo(false));
+        assertThat(inspection.getChecksum() == null, equalTo(true));
+    }
+
+    @Test
+    public void crcMismatchIsNotValid() throws IOException {
+        Path gzFilePath = writeGzip("corrupt.txt.gz", CONTENT.getBytes(StandardCharsets.UTF_8));
+        byte[] gzipped = Files.readAllBytes(gzFilePath);
+        // The CRC-32 is the first four bytes of the eight byte trailer
+        gzipped[gzipped.length - 8] ^= 0xFF;
+        Files.write(gzFilePath, gzipped);
+
+        assertThat(GzipInspector.inspect(gzFilePath).isValid(), equalTo(false));
+    }
+
+    @Test
+    public void gzippedFilesAreCountedByUncompressedLines() throws IOException {
+        Path gzFilePath = writeGzip("pathways.txt.gz", CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(LineCounter.count(gzFilePath, LineCounter.NO_KEY_COLUMN).getLineCount(), equalTo(3L));
+        assertThat(LineCounter.count(gzFilePath, 1).getDistinctKeyCount(), equalTo(2L));
+    }
+
+    @Test(expected = ZipException.class)
+    public void corruptGzippedFileCannotBeCounted() throws IOException {
+        Path gzFilePath = writeGzip("corrupt.txt.gz", CONTENT.getBytes(StandardCharsets.UTF_8));
+        byte[] gzipped = Files.readAllBytes(gzFilePath);
+        gzipped[gzipped.length - 8] ^= 0xFF;
+        Files.write(gzFilePath, gzipped);
+
+        LineCounter.count(gzFilePath, LineCounter.NO_KEY_COLUMN);
+    }
+
+    private Path writeGzip(String fileName, byte[] content) throws IOException {
+        Path gzFilePath = temporaryFolder.getRoot().toPath().resolve(fileName);
+        try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(gzFilePath))) {
+            outputStream.write(content);
+        }
+        return gzFilePath;
+    }
+}
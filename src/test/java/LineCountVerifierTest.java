@@ -0,0 +1,109 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.ErrorLimit;
+import org.reactome.release.verifier.LineCountVerifier;
+import org.reactome.release.verifier.Manifest;
+import org.reactome.release.verifier.Results;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class LineCountVerifierTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void lineCountDropsBeyondToleranceAreErrors() throws IOException {
+        Path outputDirectory = temporaryFolder.newFolder("output").toPath();
+        Files.createDirectories(outputDirectory.resolve("nested"));
+        writeLines(outputDirectory.resolve("kept.tsv"), 95);
+        writeLines(outputDirectory.resolve("nested/lost.tsv"), 80);
+        writeLines(outputDirectory.resolve("ignored.txt"), 1);
+        Manifest manifest = writeManifest("10\tkept.tsv\tlines:100", "10\tnested/lost.tsv\tlines:100",
+            "10\tignored.txt\tlines:100", "10\tnew.tsv");
+        writeLines(outputDirectory.resolve("new.tsv"), 3);
+
+        Results results = new LineCountVerifier(
+            outputDirectory, manifest, Collections.singletonList("*.tsv"), -1, 10, 2).verify();
+
+        assertThat(results.getErrorMessages(), equalTo(Collections.singletonList(
+            outputDirectory.resolve("nested/lost.tsv") + " has 80 lines (previous release had 100)")));
+        assertThat(results.getInfoMessages(), equalTo(Arrays.asList(
+            outputDirectory.resolve("kept.tsv") + " has 95 lines (previous release had 100)",
+            outputDirectory.resolve("new.tsv") + " has 3 lines (no line count in the previous files and sizes list)")));
+    }
+
+    @Test
+    public void distinctKeyCountDropsAreErrors() throws IOException {
+        Path outputDirectory = temporaryFolder.newFolder("output").toPath();
+        Files.write(outputDirectory.resolve("mapping.tsv"),
+            Arrays.asList("a\tk1", "b\tk1", "c\tk2"), StandardCharsets.UTF_8);
+        Manifest manifest = writeManifest("10\tmapping.tsv\tlines:3\tkeys:3");
+
+        Results results = new LineCountVerifier(
+            outputDirectory, manifest, Collections.singletonList("mapping.tsv"), 1, 10, 1).verify();
+
+        assertThat(results.getErrorMessages(), equalTo(Collections.singletonList(
+            outputDirectory.resolve("mapping.tsv") + " has 2 distinct keys (previous release had 3)")));
+    }
+
+    @Test
+    public void reachedErrorLimitSkipsCountingAndTruncatesResults() throws IOException {
+        Path outputDirectory = temporaryFolder.newFolder("output").toPath();
+        writeLines(outputDirectory.resolve("lost.tsv"), 80);
+        Manifest manifest = writeManifest("10\tlost.tsv\tlines:100");
+        ErrorLimit errorLimit = ErrorLimit.create(1);
+        errorLimit.recordErrors(1);
+
+        Results results = new LineCountVerifier(
+            outputDirectory, manifest, Collections.singletonList("*.tsv"), -1, 10, 1
+        ).withErrorLimit(errorLimit).verify();
+
+        assertThat(results.getErrorMessages(), equalTo(Collections.singletonList(
+            "Verification stopped after reaching 1 error(s): 1 of 1 file(s) were not line counted")));
+        assertThat(results.isTruncated(), equalTo(true));
+    }
+
+    @Test
+    public void countDropsAreRecordedAgainstErrorLimit() throws IOException {
+        Path outputDirectory = temporaryFolder.newFolder("output").toPath();
+        writeLines(outputDirectory.resolve("lost.tsv"), 80);
+        Manifest manifest = writeManifest("10\tlost.tsv\tlines:100");
+        ErrorLimit errorLimit = ErrorLimit.create(1);
+
+        Results results = new LineCountVerifier(
+            outputDirectory, manifest, Collections.singletonList("*.tsv"), -1, 10, 1
+        ).withErrorLimit(errorLimit).verify();
+
+        assertThat(results.getErrorCount(), equalTo(1));
+        assertThat(results.isTruncated(), equalTo(false));
+        assertThat(errorLimit.isReached(), equalTo(true));
+    }
+
+    private void writeLines(Path filePath, int lineCount) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < lineCount; i++) {
+            content.append("line ").append(i).append('\n');
+        }
+        Files.write(filePath, content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Manifest writeManifest(String... lines) throws IOException {
+        Path manifestFilePath = temporaryFolder.newFile("files_and_sizes.txt").toPath();
+        Files.write(manifestFilePath, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return Manifest.load(manifestFilePath);
+    }
+}
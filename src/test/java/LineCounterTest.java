@@ -0,0 +1,84 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.LineCounter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class LineCounterTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void emptyFileHasNoLines() throws IOException {
+        assertThat(LineCounter.countLines(writeFile("")), equalTo(0L));
+    }
+
+    @Test
+    public void finalLineWithoutNewlineIsCounted() throws IOException {
+        assertThat(LineCounter.countLines(writeFile("a\nb\nc")), equalTo(3L));
+        assertThat(LineCounter.countLines(writeFile("a\nb\nc\n")), equalTo(3L));
+    }
+
+    @Test
+    public void newlinesAtEveryOffsetWithinAWordAreCounted() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int lineLength = 0; lineLength < 20; lineLength++) {
+            for (int i = 0; i < lineLength; i++) {
+                content.append((char) ('a' + i));
+            }
+            content.append('\n');
+        }
+        assertThat(LineCounter.countLines(writeFile(content.toString())), equalTo(20L));
+    }
+
+    @Test
+    public void largeFileIsCountedThroughMappedRegions() throws IOException {
+        Path filePath = temporaryFolder.newFile().toPath();
+        long lineCount = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            while (Files.size(filePath) < 5L * 1024 * 1024 || lineCount % 1000 != 0) {
+                writer.write("R-HSA-" + lineCount + "\tsome pathway name\té\n");
+                lineCount++;
+                if (lineCount % 1000 == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        assertThat(LineCounter.countLines(filePath), equalTo(lineCount));
+    }
+
+    @Test
+    public void distinctKeysAreCountedInTheKeyColumn() throws IOException {
+        Path filePath = writeFile("a\tx\r\nb\tx\r\n\nc\ty\nno key column\nd\tz");
+
+        LineCounter.Counts counts = LineCounter.count(filePath, 1);
+
+        assertThat(counts.getLineCount(), equalTo(6L));
+        assertThat(counts.getDistinctKeyCount(), equalTo(3L));
+    }
+
+    @Test
+    public void keysAreNotCountedWithoutAKeyColumn() throws IOException {
+        LineCounter.Counts counts = LineCounter.count(writeFile("a\nb\n"), LineCounter.NO_KEY_COLUMN);
+
+        assertThat(counts.getLineCount(), equalTo(2L));
+        assertThat(counts.getDistinctKeyCount(), equalTo(-1L));
+    }
+
+    private Path writeFile(String content) throws IOException {
+        return Files.write(temporaryFolder.newFile().toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
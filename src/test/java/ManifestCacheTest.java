@@ -0,0 +1,113 @@
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.FileUtils;
+import org.reactome.release.verifier.Manifest;
+import org.reactome.release.verifier.ManifestCache;
+import org.reactome.release.verifier.S3TransferService;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class ManifestCacheTest {
+    private static final int RELEASE_NUMBER = 94;
+    private static final String STEP_NAME = "add_links";
+    private static final String BUCKET_NAME = "bucket";
+    private static final String E_TAG = "\"etag-1\"";
+    private static final byte[] MANIFEST = "10\tpathways.txt\n20\tinteractors.txt\n".getBytes(StandardCharsets.UTF_8);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private StubS3AsyncClient s3;
+    private S3TransferService transferService;
+    private Path cacheDirectory;
+
+    @Before
+    public void createTransferService() throws IOException {
+        this.s3 = new StubS3AsyncClient();
+        this.transferService = S3TransferService.create(this.s3, 1);
+        this.cacheDirectory = temporaryFolder.newFolder("cache").toPath();
+    }
+
+    @After
+    public void closeTransferService() {
+        this.transferService.close();
+    }
+
+    @Test
+    public void unchangedManifestIsRevalidatedWithItsETag() throws IOException {
+        this.s3.addObject(getKey(), MANIFEST, E_TAG);
+
+        ManifestCache firstRun = createCache();
+        assertLoaded(firstRun.load(RELEASE_NUMBER, STEP_NAME));
+        assertLoaded(firstRun.load(RELEASE_NUMBER, STEP_NAME));
+        // The second run's conditional request is answered "304 Not Modified" and the cached copy used
+        assertLoaded(createCache().load(RELEASE_NUMBER, STEP_NAME));
+
+        assertThat(getRequestedETags(), equalTo(Arrays.asList(null, E_TAG)));
+    }
+
+    @Test
+    public void manifestWithoutETagIsDownloadedAgainUnconditionally() throws IOException {
+        this.s3.addObject(getKey(), MANIFEST, null);
+        Path eTagFilePath = getCachedFilePath().resolveSibling(getCachedFilePath().getFileName() + ".etag");
+        Files.createDirectories(eTagFilePath.getParent());
+        Files.write(eTagFilePath, Arrays.asList("\"stale-etag\""), StandardCharsets.UTF_8);
+
+        assertLoaded(createCache().load(RELEASE_NUMBER, STEP_NAME));
+        assertThat(Files.exists(eTagFilePath), equalTo(false));
+        assertLoaded(createCache().load(RELEASE_NUMBER, STEP_NAME));
+
+        assertThat(getRequestedETags(), equalTo(Arrays.asList(null, null)));
+    }
+
+    @Test
+    public void corruptCachedManifestIsDownloadedAgain() throws IOException {
+        this.s3.addObject(getKey(), MANIFEST, E_TAG);
+        assertLoaded(createCache().load(RELEASE_NUMBER, STEP_NAME));
+        Files.write(getCachedFilePath(), Arrays.asList("10\tpathways.txt", "2"), StandardCharsets.UTF_8);
+
+        assertLoaded(createCache().load(RELEASE_NUMBER, STEP_NAME));
+
+        assertThat(getRequestedETags(), equalTo(Arrays.asList(null, E_TAG, null)));
+        assertThat(Files.readAllBytes(getCachedFilePath()), equalTo(MANIFEST));
+    }
+
+    private ManifestCache createCache() {
+        return ManifestCache.create(this.cacheDirectory, BUCKET_NAME, this.transferService);
+    }
+
+    private Path getCachedFilePath() {
+        return this.cacheDirectory.resolve(Integer.toString(RELEASE_NUMBER)).resolve(STEP_NAME)
+            .resolve(FileUtils.getFilesAndSizesListFileName());
+    }
+
+    private static String getKey() {
+        return ManifestCache.getFilesAndSizesListPathInS3(RELEASE_NUMBER, STEP_NAME);
+    }
+
+    private List<String> getRequestedETags() {
+        return this.s3.getObjectRequests().stream().map(GetObjectRequest::ifNoneMatch).collect(Collectors.toList());
+    }
+
+    private static void assertLoaded(Manifest manifest) {
+        assertThat(manifest.getFileNames(), equalTo(Arrays.asList("pathways.txt", "interactors.txt")));
+        assertThat(manifest.getExpectedFileSize("interactors.txt"), equalTo(20L));
+    }
+}
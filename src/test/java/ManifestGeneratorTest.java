@@ -0,0 +1,122 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.Checksum;
+import org.reactome.release.verifier.ChecksumAlgorithm;
+import org.reactome.release.verifier.DirectoryInventory;
+import org.reactome.release.verifier.FileHasher;
+import org.reactome.release.verifier.Manifest;
+import org.reactome.release.verifier.ManifestGenerator;
+import org.reactome.release.verifier.ResultRecord;
+import org.reactome.release.verifier.Results;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class ManifestGeneratorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void generatedManifestIsReadBackWithSizesAndChecksums() throws IOException {
+        Path outputDirectory = createOutputDirectory();
+        Path manifestFilePath = temporaryFolder.getRoot().toPath().resolve("files_and_sizes.txt");
+
+        ManifestGenerator.create(outputDirectory, 2).withChecksums(ChecksumAlgorithm.SHA256).generate(manifestFilePath);
+
+        Manifest manifest = Manifest.load(manifestFilePath);
+        assertThat(manifest.getFileNames(), equalTo(Arrays.asList("a.txt", "nested/b.txt")));
+        assertThat(manifest.getExpectedFileSize("nested/b.txt"), equalTo(5L));
+        assertThat(manifest.getExpectedChecksum("nested/b.txt"),
+            equalTo(FileHasher.hash(outputDirectory.resolve("nested/b.txt"), ChecksumAlgorithm.SHA256)));
+        assertThat(DirectoryInventory.walk(outputDirectory, 1).compareTo(manifest, 0, path -> false).hasErrors(),
+            equalTo(false));
+    }
+
+    @Test
+    public void manifestReportsAndTemporaryFilesInsideOutputDirectoryAreNotListed() throws IOException {
+        Path outputDirectory = createOutputDirectory();
+        Files.write(outputDirectory.resolve("verification_report.jsonl"), new byte[3]);
+        // Left behind by an interrupted extraction
+        Files.write(outputDirectory.resolve("nested/.b.txt.k3j9x.tmp"), new byte[3]);
+        Path manifestFilePath = outputDirectory.resolve("files_and_sizes.txt");
+
+        ManifestGenerator.create(outputDirectory, 1).generate(manifestFilePath);
+
+        assertThat(Files.readAllLines(manifestFilePath, StandardCharsets.UTF_8),
+            equalTo(Arrays.asList("11\ta.txt", "5\tnested/b.txt")));
+    }
+
+    @Test
+    public void lineCountsAreWrittenForMatchingFiles() throws IOException {
+        Path outputDirectory = createOutputDirectory();
+        Path manifestFilePath = temporaryFolder.getRoot().toPath().resolve("files_and_sizes.txt");
+
+        ManifestGenerator.create(outputDirectory, 1)
+            .withLineCounts(Collections.singletonList("b.txt"), 0)
+            .generate(manifestFilePath);
+
+        Manifest manifest = Manifest.load(manifestFilePath);
+        assertThat(manifest.getExpectedLineCount("nested/b.txt"), equalTo(1L));
+        assertThat(manifest.getExpectedDistinctKeyCount("nested/b.txt"), equalTo(1L));
+        assertThat(manifest.getExpectedLineCount("a.txt"), equalTo(-1L));
+    }
+
+    @Test
+    public void checksumsAndCountsFromVerificationAreNotComputedAgain() throws IOException {
+        Path outputDirectory = createOutputDirectory();
+        Path manifestFilePath = temporaryFolder.getRoot().toPath().resolve("files_and_sizes.txt");
+        Path filePath = outputDirectory.resolve("nested/b.txt");
+        // Values no file in the directory has, so they can only have come from the results
+        Checksum verifiedChecksum = Checksum.create(ChecksumAlgorithm.SHA256, repeat('a', 64));
+        Results verificationResults = new Results();
+        verificationResults.add(infoRecord("checksum", filePath, null, verifiedChecksum));
+        verificationResults.add(infoRecord("line-count", filePath, 7L, 8L));
+        verificationResults.add(infoRecord("key-count", filePath, 2L, 3L));
+
+        ManifestGenerator.create(outputDirectory, 1)
+            .withChecksums(ChecksumAlgorithm.SHA256)
+            .withLineCounts(Collections.singletonList("*.txt"), 0)
+            .withVerifiedResults(verificationResults)
+            .generate(manifestFilePath);
+
+        Manifest manifest = Manifest.load(manifestFilePath);
+        assertThat(manifest.getExpectedChecksum("nested/b.txt"), equalTo(verifiedChecksum));
+        assertThat(manifest.getExpectedLineCount("nested/b.txt"), equalTo(8L));
+        assertThat(manifest.getExpectedDistinctKeyCount("nested/b.txt"), equalTo(3L));
+        // Files without verified values are still hashed and counted
+        assertThat(manifest.getExpectedChecksum("a.txt"),
+            equalTo(FileHasher.hash(outputDirectory.resolve("a.txt"), ChecksumAlgorithm.SHA256)));
+        assertThat(manifest.getExpectedLineCount("a.txt"), equalTo(1L));
+    }
+
+    private static ResultRecord infoRecord(String checkId, Path filePath, Object expected, Object actual) {
+        return ResultRecord.create(checkId, ResultRecord.Severity.INFO, filePath, expected, actual, record -> "");
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    private Path createOutputDirectory() throws IOException {
+        Path outputDirectory = temporaryFolder.newFolder("output").toPath();
+        Files.createDirectories(outputDirectory.resolve("nested"));
+        Files.write(outputDirectory.resolve("a.txt"), "hello world".getBytes(StandardCharsets.UTF_8));
+        Files.write(outputDirectory.resolve("nested/b.txt"), "hello".getBytes(StandardCharsets.UTF_8));
+        return outputDirectory;
+    }
+}
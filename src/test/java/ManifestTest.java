@@ -0,0 +1,94 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.Checksum;
+import org.reactome.release.verifier.ChecksumAlgorithm;
+import org.reactome.release.verifier.Manifest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class ManifestTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void fileNamesAreInManifestOrder() throws IOException {
+        Manifest manifest = Manifest.load(writeManifest("30\tc.txt", "10\ta.txt", "20\tb.txt"));
+        assertThat(manifest.getFileNames(), equalTo(Arrays.asList("c.txt", "a.txt", "b.txt")));
+    }
+
+    @Test
+    public void expectedFileSizeIsLookedUpByName() throws IOException {
+        Manifest manifest = Manifest.load(writeManifest("30\tc.txt", "10\ta.txt"));
+        assertThat(manifest.getExpectedFileSize("a.txt"), equalTo(10L));
+    }
+
+    @Test
+    public void unlistedFileHasExpectedSizeOfZero() throws IOException {
+        Manifest manifest = Manifest.load(writeManifest("10\ta.txt"));
+        assertThat(manifest.getExpectedFileSize("missing.txt"), equalTo(0L));
+    }
+
+    @Test
+    public void blankLinesAreIgnored() throws IOException {
+        Manifest manifest = Manifest.load(writeManifest("10\ta.txt", "", "20\tb.txt"));
+        assertThat(manifest.size(), equalTo(2));
+    }
+
+    @Test
+    public void checksumColumnIsParsed() throws IOException {
+        Manifest manifest = Manifest.load(writeManifest("10\ta.txt\tsha256:ABCDEF", "20\tb.txt"));
+        assertThat(manifest.getExpectedChecksum("a.txt"),
+            equalTo(Checksum.create(ChecksumAlgorithm.SHA256, "abcdef")));
+    }
+
+    @Test
+    public void fileWithoutChecksumColumnHasNoExpectedChecksum() throws IOException {
+        Manifest manifest = Manifest.load(writeManifest("10\ta.txt\tsha256:abcdef", "20\tb.txt"));
+        assertThat(manifest.getExpectedChecksum("b.txt"), nullValue());
+    }
+
+    @Test(expected = IOException.class)
+    public void malformedLineThrowsIOException() throws IOException {
+        Manifest.load(writeManifest("10\ta.txt", "not-a-size\tb.txt"));
+    }
+
+    @Test
+    public void relativeFileNamesAreNormalized() throws IOException {
+        Manifest manifest = Manifest.load(writeManifest("10\t./nested/a.txt", "20\tnested\\b.txt"));
+        assertThat(manifest.getFileNames(), equalTo(Arrays.asList("nested/a.txt", "nested/b.txt")));
+    }
+
+    @Test(expected = IOException.class)
+    public void fileNameOutsideOutputDirectoryThrowsIOException() throws IOException {
+        Manifest.load(writeManifest("10\t../a.txt"));
+    }
+
+    @Test(expected = IOException.class)
+    public void fileListedTwiceThrowsIOException() throws IOException {
+        Manifest.load(writeManifest("10\ta.txt", "20\tb.txt", "30\ta.txt"));
+    }
+
+    @Test(expected = IOException.class)
+    public void fileListedTwiceUnderEquivalentNamesThrowsIOException() throws IOException {
+        Manifest.load(writeManifest("10\tnested/a.txt", "10\t./nested\\a.txt"));
+    }
+
+    private Path writeManifest(String... lines) throws IOException {
+        Path manifestFilePath = temporaryFolder.newFile("files_and_sizes.txt").toPath();
+        return Files.write(manifestFilePath, Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,81 @@
+import org.junit.Test;
+import org.reactome.release.verifier.Metrics;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.StringContains.containsString;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class MetricsTest {
+    private static final String PHASE_NAME = "verification_\"quoted\"\\step\n";
+
+    @Test
+    public void prometheusTextHasCountersPhasesAndHistograms() throws IOException {
+        Metrics metrics = createRecordedMetrics();
+
+        StringWriter writer = new StringWriter();
+        metrics.writePrometheusText(writer);
+        String text = writer.toString();
+
+        assertThat(text, containsString("# TYPE verifier_bytes_downloaded_total counter\n" +
+            "verifier_bytes_downloaded_total 1024\n"));
+        assertThat(text, containsString(
+            "verifier_phase_duration_seconds{phase=\"verification_\\\"quoted\\\"\\\\step\\n\"} "));
+        assertThat(text, containsString("# TYPE verifier_s3_request_seconds histogram\n"));
+        assertThat(text, containsString("verifier_s3_request_seconds_bucket{le=\"+Inf\"} 1\n"));
+        assertThat(text, containsString("verifier_s3_request_seconds_count 1\n"));
+    }
+
+    @Test
+    public void jsonHasCountersPhasesAndHistogramsWithEscapedNames() throws IOException {
+        Metrics metrics = createRecordedMetrics();
+
+        StringWriter writer = new StringWriter();
+        metrics.writeJson(writer);
+        String json = writer.toString();
+
+        assertThat(json, containsString("{\"counters\":{\"bytes_downloaded_total\":1024}"));
+        assertThat(json,
+            containsString("\"phaseDurationsInSeconds\":{\"verification_\\\"quoted\\\"\\\\step\\u000a\":"));
+        assertThat(json, containsString("\"histograms\":{\"s3_request_seconds\":{\"buckets\":[{\"le\":0.001,"));
+        assertThat(json, containsString("],\"count\":1,\"sumInSeconds\":"));
+    }
+
+    @Test
+    public void disabledMetricsRecordNothing() throws IOException {
+        Metrics metrics = Metrics.create();
+
+        long startTime = metrics.startTimer();
+        metrics.increment(Metrics.BYTES_DOWNLOADED, 1024);
+        metrics.recordPhaseDuration(PHASE_NAME, startTime);
+        metrics.recordDuration(Metrics.S3_REQUEST_SECONDS, startTime);
+
+        StringWriter writer = new StringWriter();
+        metrics.writeJson(writer);
+
+        assertThat(metrics.isEnabled(), equalTo(false));
+        assertThat(startTime, equalTo(0L));
+        assertThat(metrics.getCounter(Metrics.BYTES_DOWNLOADED), equalTo(0L));
+        assertThat(writer.toString(), equalTo("{\"counters\":{},\"phaseDurationsInSeconds\":{},\"histograms\":{}}\n"));
+    }
+
+    private static Metrics createRecordedMetrics() {
+        Metrics metrics = Metrics.create();
+        metrics.enable(null);
+
+        long startTime = metrics.startTimer();
+        metrics.increment(Metrics.BYTES_DOWNLOADED, 1000);
+        metrics.increment(Metrics.BYTES_DOWNLOADED, 24);
+        metrics.recordPhaseDuration(PHASE_NAME, startTime);
+        metrics.recordDuration(Metrics.S3_REQUEST_SECONDS, startTime);
+
+        assertThat(metrics.getCounter(Metrics.BYTES_DOWNLOADED), equalTo(1024L));
+        return metrics;
+    }
+}
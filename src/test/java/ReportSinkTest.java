@@ -0,0 +1,90 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.ReportSink;
+import org.reactome.release.verifier.ResultRecord;
+import org.reactome.release.verifier.Results;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class ReportSinkTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void recordsAreWrittenAsJsonLines() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        Results results = new Results();
+        results.add(ResultRecord.create("file-size", ResultRecord.Severity.ERROR, "a \"b\".txt", 100L, 50L,
+            resultRecord -> "too small"));
+        try (ReportSink reportSink = ReportSink.openInDirectory(directory, "jsonl.gz")) {
+            results.report(reportSink);
+        }
+
+        List<String> lines = readGzippedLines(directory.resolve("verification_report.jsonl.gz"));
+        assertThat(lines.size(), equalTo(2));
+        assertThat(lines.get(0), equalTo("{\"check\":\"file-size\",\"severity\":\"ERROR\"," +
+            "\"subject\":\"a \\\"b\\\".txt\",\"expected\":100,\"actual\":50,\"message\":\"too small\"}"));
+        assertThat(lines.get(1), startsWith("{\"summary\":{\"records\":1,\"errors\":1,\"infos\":0," +
+            "\"totalFileSizeInBytes\":50,"));
+    }
+
+    @Test
+    public void flushedBatchOfGzippedReportCanBeReadBeforeClose() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        try (ReportSink reportSink = ReportSink.openInDirectory(directory, "tsv.gz")) {
+            for (int i = 0; i < 1000; i++) {
+                reportSink.report(ResultRecord.create("file-size", ResultRecord.Severity.INFO, "file" + i + ".txt",
+                    10L, 10L, resultRecord -> "ok"));
+            }
+
+            // The gzip trailer is only written on close, so the report is read up to the end of what was flushed
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(reportSink.getReportFilePath()))) {
+                byte[] buffer = new byte[8192];
+                int bytesRead;
+                while ((bytesRead = inputStream.read(buffer)) != -1) {
+                    content.write(buffer, 0, bytesRead);
+                }
+            } catch (EOFException e) {
+                // Expected at the end of the flushed data
+            }
+            String[] lines = new String(content.toByteArray(), StandardCharsets.UTF_8).split("\n");
+            assertThat(lines.length, equalTo(1001));
+            assertThat(lines[1000], equalTo("file-size\tINFO\tfile999.txt\t10\t10\tok"));
+        }
+    }
+
+    @Test
+    public void noReportOptionOpensNoSink() throws IOException {
+        assertThat(ReportSink.openInDirectory(temporaryFolder.getRoot().toPath(), ReportSink.NO_REPORT) == null,
+            equalTo(true));
+    }
+
+    private static List<String> readGzippedLines(Path filePath) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            new GZIPInputStream(Files.newInputStream(filePath)), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.toList());
+        }
+    }
+}
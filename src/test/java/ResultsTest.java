@@ -0,0 +1,47 @@
+import org.junit.Test;
+import org.reactome.release.verifier.ResultRecord;
+import org.reactome.release.verifier.Results;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class ResultsTest {
+
+    @Test
+    public void mergedResultsKeepRecordOrder() {
+        Results results = new Results();
+        results.addInfoMessage("first");
+        Results additionalResults = new Results();
+        additionalResults.addErrorMessage("second");
+        additionalResults.addInfoMessage("third");
+
+        results.mergeResults(additionalResults);
+
+        assertThat(results.getInfoMessages(), equalTo(Arrays.asList("first", "third")));
+        assertThat(results.getErrorMessages(), equalTo(Collections.singletonList("second")));
+        assertThat(results.getErrorCount(), equalTo(1));
+    }
+
+    @Test
+    public void recordIsNotFormattedUntilRendered() {
+        AtomicInteger formatCount = new AtomicInteger();
+        Results results = new Results();
+        results.add(ResultRecord.create("file-size", ResultRecord.Severity.INFO, "a.txt", 10L, 10L,
+            resultRecord -> {
+                formatCount.incrementAndGet();
+                return resultRecord.getSubject() + " ok";
+            }));
+
+        assertThat(formatCount.get(), equalTo(0));
+        assertThat(results.getInfoMessages(), equalTo(Collections.singletonList("a.txt ok")));
+        assertThat(formatCount.get(), equalTo(1));
+    }
+}
@@ -0,0 +1,81 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.S3TransferService;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class S3TransferServiceTest {
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+    private static final String E_TAG = "\"etag-1\"";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void largeObjectIsDownloadedAsConditionalByteRanges() throws Exception {
+        StubS3AsyncClient s3 = createClient();
+        Path localFilePath = temporaryFolder.getRoot().toPath().resolve("data/object.txt");
+
+        try (S3TransferService transferService = S3TransferService.create(s3, 2)) {
+            transferService.downloadFileInParts("bucket", "object.txt", localFilePath, 4, 4);
+
+            assertThat(transferService.getTotalStatistics().getFileCount(), equalTo(1L));
+            assertThat(transferService.getTotalStatistics().getByteCount(), equalTo((long) CONTENT.length));
+        }
+
+        assertThat(Files.readAllBytes(localFilePath), equalTo(CONTENT));
+        assertThat(s3.getObjectRequests().stream().map(GetObjectRequest::range).collect(Collectors.toList()),
+            equalTo(Arrays.asList("bytes=0-3", "bytes=4-7", "bytes=8-9")));
+        assertThat(s3.getObjectRequests().stream().map(GetObjectRequest::ifMatch).collect(Collectors.toList()),
+            equalTo(Arrays.asList(E_TAG, E_TAG, E_TAG)));
+    }
+
+    @Test
+    public void failedPartDeletesTheLocalFile() throws Exception {
+        StubS3AsyncClient s3 = createClient();
+        s3.failRange("bytes=4-7");
+
+        assertDownloadFailsAndLeavesNoFile(s3);
+    }
+
+    @Test
+    public void shortPartDeletesTheLocalFile() throws Exception {
+        StubS3AsyncClient s3 = createClient();
+        s3.dropBytesPerRange(1);
+
+        assertDownloadFailsAndLeavesNoFile(s3);
+    }
+
+    private void assertDownloadFailsAndLeavesNoFile(StubS3AsyncClient s3) throws Exception {
+        Path localFilePath = temporaryFolder.getRoot().toPath().resolve("object.txt");
+
+        try (S3TransferService transferService = S3TransferService.create(s3, 1)) {
+            transferService.downloadFileInParts("bucket", "object.txt", localFilePath, 4, 4);
+            throw new AssertionError("Incomplete download succeeded");
+        } catch (S3Exception | IOException | CompletionException e) {
+            assertThat(Files.exists(localFilePath), equalTo(false));
+        }
+    }
+
+    private static StubS3AsyncClient createClient() {
+        StubS3AsyncClient s3 = new StubS3AsyncClient();
+        s3.addObject("object.txt", CONTENT, E_TAG);
+        return s3;
+    }
+}
@@ -0,0 +1,138 @@
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory S3 client serving the objects added to it, for testing transfers without network access.  Ranged and
+ * conditional (If-None-Match) GetObject requests are honoured, and a range can be made to fail or every range to
+ * come back short.
+ *
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+class StubS3AsyncClient implements S3AsyncClient {
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    private final Map<String, byte[]> keyToContent = new ConcurrentHashMap<>();
+    private final Map<String, String> keyToETag = new ConcurrentHashMap<>();
+    private final List<GetObjectRequest> getObjectRequests = new CopyOnWriteArrayList<>();
+    private volatile String failedRange;
+    private volatile int droppedBytesPerRange;
+
+    /**
+     * @param key Key of the object
+     * @param content Content of the object
+     * @param eTag ETag of the object or <code>null</code> to respond without one
+     */
+    void addObject(String key, byte[] content, String eTag) {
+        this.keyToContent.put(key, content);
+        if (eTag != null) {
+            this.keyToETag.put(key, eTag);
+        } else {
+            this.keyToETag.remove(key);
+        }
+    }
+
+    void failRange(String range) {
+        this.failedRange = range;
+    }
+
+    void dropBytesPerRange(int droppedBytesPerRange) {
+        this.droppedBytesPerRange = droppedBytesPerRange;
+    }
+
+    List<GetObjectRequest> getObjectRequests() {
+        return this.getObjectRequests;
+    }
+
+    @Override
+    public CompletableFuture<HeadObjectResponse> headObject(HeadObjectRequest request) {
+        byte[] content = this.keyToContent.get(request.key());
+        return CompletableFuture.completedFuture(HeadObjectResponse.builder()
+            .contentLength((long) content.length)
+            .eTag(this.keyToETag.get(request.key()))
+            .build());
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getObject(
+        GetObjectRequest request, AsyncResponseTransformer<GetObjectResponse, T> transformer) {
+
+        this.getObjectRequests.add(request);
+        byte[] content = this.keyToContent.get(request.key());
+        String eTag = this.keyToETag.get(request.key());
+        CompletableFuture<T> future = transformer.prepare();
+
+        if (request.ifNoneMatch() != null && request.ifNoneMatch().equals(eTag)) {
+            transformer.exceptionOccurred(S3Exception.builder().statusCode(HTTP_NOT_MODIFIED).build());
+            return future;
+        }
+        if (request.range() != null && request.range().equals(this.failedRange)) {
+            transformer.exceptionOccurred(S3Exception.builder().message("Stub failure").build());
+            return future;
+        }
+
+        int start = 0;
+        int end = content.length;
+        if (request.range() != null) {
+            String[] bounds = request.range().substring("bytes=".length()).split("-");
+            start = Integer.parseInt(bounds[0]);
+            end = Integer.parseInt(bounds[1]) + 1 - this.droppedBytesPerRange;
+        }
+        transformer.onResponse(GetObjectResponse.builder().contentLength((long) (end - start)).eTag(eTag).build());
+        transformer.onStream(singleBufferPublisher(ByteBuffer.wrap(Arrays.copyOfRange(content, start, end))));
+        return future;
+    }
+
+    @Override
+    public String serviceName() {
+        return "s3";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static SdkPublisher<ByteBuffer> singleBufferPublisher(ByteBuffer byteBuffer) {
+        return new SdkPublisher<ByteBuffer>() {
+            @Override
+            public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+                subscriber.onSubscribe(new Subscription() {
+                    private boolean sent;
+                    private boolean completed;
+
+                    @Override
+                    public void request(long n) {
+                        if (!this.sent) {
+                            this.sent = true;
+                            subscriber.onNext(byteBuffer);
+                        } else if (!this.completed) {
+                            this.completed = true;
+                            subscriber.onComplete();
+                        }
+                    }
+
+                    @Override
+                    public void cancel() {
+                        this.completed = true;
+                    }
+                });
+            }
+        };
+    }
+}
@@ -0,0 +1,175 @@
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.TarGzExtractor;
+import org.reactome.release.verifier.TransferStatistics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class TarGzExtractorTest {
+    private static final int WRITER_THREADS = 2;
+    // Larger than the extractor's 1 MB chunks, so the file is handed to its writer in several chunks
+    private static final int LARGE_FILE_SIZE = 2 * 1024 * 1024 + 123;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void multiMemberArchiveIsExtractedInFull() throws IOException {
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        files.put("release/large.bin", randomBytes(LARGE_FILE_SIZE));
+        // More files than there are buffers shared by the writers
+        for (int i = 0; i < WRITER_THREADS * 4 * 3; i++) {
+            files.put("release/small/file" + i + ".txt", ("R-HSA-" + i + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        files.put("release/empty.txt", new byte[0]);
+
+        byte[] tarBytes = tar(files);
+        int splitOffset = tarBytes.length / 3;
+        Path tgzFilePath = write("archive.tgz", concatenate(
+            gzip(Arrays.copyOfRange(tarBytes, 0, splitOffset)),
+            gzip(Arrays.copyOfRange(tarBytes, splitOffset, tarBytes.length))
+        ));
+        Path outputDir = temporaryFolder.newFolder("output").toPath();
+
+        TransferStatistics statistics = new TarGzExtractor(WRITER_THREADS).extract(tgzFilePath, outputDir);
+
+        for (Map.Entry<String, byte[]> file : files.entrySet()) {
+            assertThat(file.getKey(), Files.readAllBytes(outputDir.resolve(file.getKey())), equalTo(file.getValue()));
+        }
+        assertThat(statistics.getFileCount(), equalTo((long) files.size()));
+        assertThat(statistics.getByteCount(), equalTo(files.values().stream().mapToLong(bytes -> bytes.length).sum()));
+        assertThat(temporaryFiles(outputDir), equalTo(0L));
+    }
+
+    @Test
+    public void extractedFileHasDefaultPermissions() throws IOException {
+        Assume.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        files.put("release/pathways.txt", "R-HSA-1\n".getBytes(StandardCharsets.UTF_8));
+        Path tgzFilePath = write("archive.tgz", gzip(tar(files)));
+        Path outputDir = temporaryFolder.newFolder("output").toPath();
+        // A file created in place gets the permissions the umask allows, which extracted files must match
+        Path referenceFilePath = Files.createFile(temporaryFolder.getRoot().toPath().resolve("reference.txt"));
+
+        new TarGzExtractor(WRITER_THREADS).extract(tgzFilePath, outputDir);
+
+        assertThat(Files.getPosixFilePermissions(outputDir.resolve("release/pathways.txt")),
+            equalTo(Files.getPosixFilePermissions(referenceFilePath)));
+    }
+
+    @Test
+    public void entryOutsideOfOutputDirectoryIsRejected() throws IOException {
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        files.put("release/pathways.txt", "R-HSA-1\n".getBytes(StandardCharsets.UTF_8));
+        files.put("../escaped.txt", "outside\n".getBytes(StandardCharsets.UTF_8));
+        Path tgzFilePath = write("archive.tgz", gzip(tar(files)));
+        Path outputDir = temporaryFolder.newFolder("output").toPath();
+
+        assertExtractionFailsLeavingNoFiles(tgzFilePath, outputDir);
+        assertThat(Files.exists(temporaryFolder.getRoot().toPath().resolve("escaped.txt")), equalTo(false));
+    }
+
+    @Test
+    public void truncatedArchiveLeavesNoFiles() throws IOException {
+        byte[] tgzBytes = gzip(tar(largeArchive()));
+        Path tgzFilePath = write("archive.tgz", Arrays.copyOf(tgzBytes, tgzBytes.length / 2));
+
+        assertExtractionFailsLeavingNoFiles(tgzFilePath, temporaryFolder.newFolder("output").toPath());
+    }
+
+    @Test
+    public void corruptArchiveLeavesNoFiles() throws IOException {
+        byte[] tgzBytes = gzip(tar(largeArchive()));
+        // Damaging the last bytes of the member fails its CRC check after every entry has been read
+        tgzBytes[tgzBytes.length - 6] ^= 0xFF;
+        Path tgzFilePath = write("archive.tgz", tgzBytes);
+
+        assertExtractionFailsLeavingNoFiles(tgzFilePath, temporaryFolder.newFolder("output").toPath());
+    }
+
+    private static void assertExtractionFailsLeavingNoFiles(Path tgzFilePath, Path outputDir) throws IOException {
+        try {
+            new TarGzExtractor(WRITER_THREADS).extract(tgzFilePath, outputDir);
+            throw new AssertionError("Extraction of " + tgzFilePath + " succeeded");
+        } catch (IOException e) {
+            try (Stream<Path> paths = Files.walk(outputDir)) {
+                assertThat(paths.filter(Files::isRegularFile).collect(Collectors.toList()), equalTo(Arrays.asList()));
+            }
+        }
+    }
+
+    private static Map<String, byte[]> largeArchive() {
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        files.put("release/pathways.txt", "R-HSA-1\n".getBytes(StandardCharsets.UTF_8));
+        files.put("release/large.bin", randomBytes(LARGE_FILE_SIZE));
+        return files;
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] tar(Map<String, byte[]> files) throws IOException {
+        ByteArrayOutputStream tarBytes = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream tarOutputStream = new TarArchiveOutputStream(tarBytes)) {
+            for (Map.Entry<String, byte[]> file : files.entrySet()) {
+                TarArchiveEntry entry = new TarArchiveEntry(file.getKey());
+                entry.setSize(file.getValue().length);
+                tarOutputStream.putArchiveEntry(entry);
+                tarOutputStream.write(file.getValue());
+                tarOutputStream.closeArchiveEntry();
+            }
+        }
+        return tarBytes.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream gzipBytes = new ByteArrayOutputStream();
+        try (OutputStream outputStream = new GZIPOutputStream(gzipBytes)) {
+            outputStream.write(content);
+        }
+        return gzipBytes.toByteArray();
+    }
+
+    private static byte[] concatenate(byte[] first, byte[] second) {
+        byte[] bytes = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, bytes, first.length, second.length);
+        return bytes;
+    }
+
+    private Path write(String fileName, byte[] content) throws IOException {
+        return Files.write(temporaryFolder.getRoot().toPath().resolve(fileName), content);
+    }
+
+    private static long temporaryFiles(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(".tmp")).count();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.Checksum;
+import org.reactome.release.verifier.ChecksumAlgorithm;
+import org.reactome.release.verifier.FileHasher;
+import org.reactome.release.verifier.Manifest;
+import org.reactome.release.verifier.ResultRecord;
+import org.reactome.release.verifier.Results;
+import org.reactome.release.verifier.TarballInventory;
+import org.reactome.release.verifier.TarballVerifier;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class TarballVerifierTest {
+    private static final String CONTENT = "R-HSA-1\tApoptosis\n";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void entryIsMatchedByItsPathWithinTheArchive() throws IOException {
+        Path tgzFilePath = writeTarGz("release/pathways.txt", "release/other/pathways.txt");
+        Manifest manifest = writeManifest(CONTENT.length() + "\trelease/pathways.txt");
+
+        for (Results results : verifyBothWays(tgzFilePath, manifest)) {
+            assertThat(results.hasErrors(), equalTo(false));
+            assertThat(subjectsOf(results, "file-size"), equalTo(Collections.singletonList("release/pathways.txt")));
+        }
+    }
+
+    @Test
+    public void entryIsMatchedByItsFileNameWhenNoOtherEntryHasIt() throws IOException {
+        Path tgzFilePath = writeTarGz("release/pathways.txt", "release/readme.md");
+        Manifest manifest = writeManifest(CONTENT.length() + "\tpathways.txt");
+
+        for (Results results : verifyBothWays(tgzFilePath, manifest)) {
+            assertThat(results.hasErrors(), equalTo(false));
+            assertThat(subjectsOf(results, "file-size"), equalTo(Collections.singletonList("release/pathways.txt")));
+        }
+    }
+
+    @Test
+    public void exactPathTakesPrecedenceOverEntriesSharingTheFileName() throws IOException {
+        Path tgzFilePath = writeTarGz("old/pathways.txt", "pathways.txt", "new/pathways.txt");
+        Manifest manifest = writeManifest(CONTENT.length() + "\tpathways.txt");
+
+        for (Results results : verifyBothWays(tgzFilePath, manifest)) {
+            assertThat(results.hasErrors(), equalTo(false));
+            assertThat(subjectsOf(results, "file-size"), equalTo(Collections.singletonList("pathways.txt")));
+        }
+    }
+
+    @Test
+    public void fileNameSharedByEntriesInDifferentDirectoriesIsReportedAsAmbiguous() throws IOException {
+        Path tgzFilePath = writeTarGz("human/pathways.txt", "mouse/pathways.txt");
+        Manifest manifest = writeManifest(CONTENT.length() + "\tpathways.txt");
+
+        for (Results results : verifyBothWays(tgzFilePath, manifest)) {
+            assertThat(subjectsOf(results, "file-size"), equalTo(Collections.emptyList()));
+            assertThat(results.getErrorMessages(), equalTo(Collections.singletonList(
+                "File pathways.txt matches more than one archive entry by name " +
+                    "(human/pathways.txt, mouse/pathways.txt)")));
+        }
+    }
+
+    @Test
+    public void manifestFileMissingFromArchiveIsReported() throws IOException {
+        Path tgzFilePath = writeTarGz("pathways.txt");
+        Manifest manifest = writeManifest(CONTENT.length() + "\tpathways.txt", "10\tinteractors.txt");
+
+        for (Results results : verifyBothWays(tgzFilePath, manifest)) {
+            assertThat(results.getErrorMessages(), equalTo(Collections.singletonList(
+                "File interactors.txt does not exist in archive")));
+        }
+    }
+
+    @Test
+    public void digestIsComparedWithTheManifestChecksum() throws IOException {
+        Path tgzFilePath = writeTarGz("pathways.txt");
+        Path contentFilePath = temporaryFolder.newFile("pathways.txt").toPath();
+        Files.write(contentFilePath, CONTENT.getBytes(StandardCharsets.UTF_8));
+        Checksum checksum = FileHasher.hash(contentFilePath, ChecksumAlgorithm.SHA256);
+        Manifest manifest = writeManifest(CONTENT.length() + "\tpathways.txt\t" + checksum);
+
+        Results results = new TarballVerifier(manifest, 10, true).verify(tgzFilePath);
+
+        assertThat(results.hasErrors(), equalTo(false));
+        assertThat(subjectsOf(results, "checksum"), equalTo(Collections.singletonList("pathways.txt")));
+    }
+
+    private static List<Results> verifyBothWays(Path tgzFilePath, Manifest manifest) throws IOException {
+        return Arrays.asList(
+            TarballInventory.read(tgzFilePath).verifyAgainst(manifest, 10),
+            new TarballVerifier(manifest, 10, true).verify(tgzFilePath)
+        );
+    }
+
+    private static List<String> subjectsOf(Results results, String checkId) {
+        return results.getRecords().stream()
+            .filter(resultRecord -> resultRecord.getCheckId().equals(checkId))
+            .map(ResultRecord::getSubject)
+            .map(Object::toString)
+            .collect(Collectors.toList());
+    }
+
+    private Path writeTarGz(String... entryNames) throws IOException {
+        Path tgzFilePath = temporaryFolder.getRoot().toPath().resolve("archive.tgz");
+        byte[] content = CONTENT.getBytes(StandardCharsets.UTF_8);
+        try (TarArchiveOutputStream tarOutputStream = new TarArchiveOutputStream(
+            new GzipCompressorOutputStream(Files.newOutputStream(tgzFilePath)))) {
+
+            for (String entryName : entryNames) {
+                TarArchiveEntry entry = new TarArchiveEntry(entryName);
+                entry.setSize(content.length);
+                tarOutputStream.putArchiveEntry(entry);
+                tarOutputStream.write(content);
+                tarOutputStream.closeArchiveEntry();
+            }
+        }
+        return tgzFilePath;
+    }
+
+    private Manifest writeManifest(String... lines) throws IOException {
+        Path manifestFilePath = temporaryFolder.newFile("manifest.txt").toPath();
+        try (OutputStream outputStream = Files.newOutputStream(manifestFilePath)) {
+            outputStream.write(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        }
+        return Manifest.load(manifestFilePath);
+    }
+}
@@ -0,0 +1,31 @@
+import org.junit.Test;
+import org.reactome.release.verifier.TransferStatistics;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class TransferStatisticsTest {
+
+    @Test
+    public void addingStatisticsSumsCountsButNotOverlappingElapsedTimes() {
+        TransferStatistics total = new TransferStatistics();
+        for (int i = 0; i < 4; i++) {
+            TransferStatistics concurrentTransfer = new TransferStatistics();
+            concurrentTransfer.recordFile(1024);
+            concurrentTransfer.recordElapsedTime(TimeUnit.SECONDS.toNanos(1));
+            total.add(concurrentTransfer);
+        }
+        total.recordElapsedTime(TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(total.getFileCount(), equalTo(4L));
+        assertThat(total.getByteCount(), equalTo(4096L));
+        assertThat(total.getElapsedNanos(), equalTo(TimeUnit.SECONDS.toNanos(1)));
+        assertThat(total.getBytesPerSecond(), equalTo(4096.0d));
+    }
+}
@@ -0,0 +1,153 @@
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactome.release.verifier.Checksum;
+import org.reactome.release.verifier.ChecksumAlgorithm;
+import org.reactome.release.verifier.FileHasher;
+import org.reactome.release.verifier.VerificationCache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class VerificationCacheTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path outputDirectory;
+    private Path filePath;
+
+    @Before
+    public void createOutputFile() throws IOException {
+        this.outputDirectory = temporaryFolder.newFolder("output").toPath();
+        this.filePath = this.outputDirectory.resolve("pathways.txt");
+        Files.write(this.filePath, "R-HSA-1\tApoptosis\n".getBytes(StandardCharsets.UTF_8));
+        // Files modified just before they were hashed are never trusted, so age the file past that window
+        setModifiedHoursAgo(this.filePath, 1);
+    }
+
+    @Test
+    public void checksumOfUnchangedFileIsReusedByTheNextRun() throws IOException {
+        Checksum checksum = recordChecksum();
+
+        try (VerificationCache cache = VerificationCache.open(this.outputDirectory)) {
+            assertThat(cache.getChecksum(this.filePath, attributes(), ChecksumAlgorithm.SHA256), equalTo(checksum));
+            assertThat(cache.getChecksum(this.filePath, attributes(), ChecksumAlgorithm.CRC32), nullValue());
+        }
+    }
+
+    @Test
+    public void checksumOfChangedFileIsNotReused() throws IOException {
+        recordChecksum();
+        Files.write(this.filePath, "R-HSA-2\tSignaling\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        setModifiedHoursAgo(this.filePath, 1);
+
+        try (VerificationCache cache = VerificationCache.open(this.outputDirectory)) {
+            assertThat(cache.getChecksum(this.filePath, attributes(), ChecksumAlgorithm.SHA256), nullValue());
+        }
+    }
+
+    @Test
+    public void damagedLinesAreSkippedAndLaterEntriesStillRead() throws IOException {
+        recordChecksum();
+        Path cacheFilePath = VerificationCache.getCacheFilePath(this.outputDirectory);
+        String line = new String(Files.readAllBytes(cacheFilePath), StandardCharsets.UTF_8).split("\n")[1];
+
+        // A line whose checksum was cut short, followed by one cut off before its final newline by a crash
+        String header = "#verification-cache\tv1\n";
+        String shortChecksumLine = line.substring(0, line.length() - 10) + "\n";
+        String partialLine = line.substring(0, line.length() - 1);
+        Files.write(cacheFilePath, (header + shortChecksumLine + partialLine).getBytes(StandardCharsets.UTF_8));
+
+        Path otherFilePath = this.outputDirectory.resolve("interactors.txt");
+        Files.write(otherFilePath, "P12345\tQ67890\n".getBytes(StandardCharsets.UTF_8));
+        setModifiedHoursAgo(otherFilePath, 1);
+        Checksum otherChecksum = FileHasher.hash(otherFilePath, ChecksumAlgorithm.SHA256);
+
+        try (VerificationCache cache = VerificationCache.open(this.outputDirectory)) {
+            assertThat(cache.getChecksum(this.filePath, attributes(), ChecksumAlgorithm.SHA256), nullValue());
+            cache.recordChecksum(otherFilePath, attributes(otherFilePath), otherChecksum);
+        }
+
+        try (VerificationCache cache = VerificationCache.open(this.outputDirectory)) {
+            assertThat(cache.getChecksum(this.filePath, attributes(), ChecksumAlgorithm.SHA256), nullValue());
+            assertThat(cache.getChecksum(otherFilePath, attributes(otherFilePath), ChecksumAlgorithm.SHA256),
+                equalTo(otherChecksum));
+        }
+    }
+
+    @Test
+    public void failedAppendToUnwritableDirectoryDoesNotFail() throws IOException {
+        Path parentDirectory = temporaryFolder.newFolder("read-only").toPath();
+        Path outputDirectory = Files.createDirectory(parentDirectory.resolve("output"));
+        Path filePath = Files.copy(this.filePath, outputDirectory.resolve("pathways.txt"));
+        setModifiedHoursAgo(filePath, 1);
+        Checksum checksum = FileHasher.hash(filePath, ChecksumAlgorithm.SHA256);
+
+        Assume.assumeTrue(parentDirectory.toFile().setWritable(false));
+        try {
+            // Permissions are not enforced for every user (e.g. root), in which case the append would succeed
+            Assume.assumeFalse(Files.isWritable(parentDirectory));
+
+            try (VerificationCache cache = VerificationCache.open(outputDirectory)) {
+                cache.recordChecksum(filePath, attributes(filePath), checksum);
+                cache.recordChecksum(filePath, attributes(filePath), checksum);
+                assertThat(cache.getChecksum(filePath, attributes(filePath), ChecksumAlgorithm.SHA256),
+                    equalTo(checksum));
+            }
+            assertThat(Files.exists(VerificationCache.getCacheFilePath(outputDirectory)), equalTo(false));
+        } finally {
+            parentDirectory.toFile().setWritable(true);
+        }
+    }
+
+    @Test
+    public void failedAppendToUnwritableCacheFileDoesNotFail() throws IOException {
+        Checksum checksum = FileHasher.hash(this.filePath, ChecksumAlgorithm.SHA256);
+
+        try (VerificationCache cache = VerificationCache.open(this.outputDirectory)) {
+            // A directory in the cache file's place cannot be appended to, whatever the user's permissions
+            Files.createDirectory(VerificationCache.getCacheFilePath(this.outputDirectory));
+            cache.recordChecksum(this.filePath, attributes(), checksum);
+            cache.recordChecksum(this.filePath, attributes(), checksum);
+            assertThat(cache.getChecksum(this.filePath, attributes(), ChecksumAlgorithm.SHA256), equalTo(checksum));
+        }
+    }
+
+    private Checksum recordChecksum() throws IOException {
+        Checksum checksum = FileHasher.hash(this.filePath, ChecksumAlgorithm.SHA256);
+        try (VerificationCache cache = VerificationCache.open(this.outputDirectory)) {
+            assertThat(cache.getChecksum(this.filePath, attributes(), ChecksumAlgorithm.SHA256), nullValue());
+            cache.recordChecksum(this.filePath, attributes(), checksum);
+        }
+        return checksum;
+    }
+
+    private BasicFileAttributes attributes() throws IOException {
+        return attributes(this.filePath);
+    }
+
+    private static BasicFileAttributes attributes(Path filePath) throws IOException {
+        return Files.readAttributes(filePath, BasicFileAttributes.class);
+    }
+
+    private static void setModifiedHoursAgo(Path filePath, int hours) throws IOException {
+        Files.setLastModifiedTime(filePath,
+            FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(hours)));
+    }
+}
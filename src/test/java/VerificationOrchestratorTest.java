@@ -0,0 +1,93 @@
+import org.junit.Test;
+import org.reactome.release.verifier.CommandLineParameter;
+import org.reactome.release.verifier.ParsedArguments;
+import org.reactome.release.verifier.Results;
+import org.reactome.release.verifier.VerificationOrchestrator;
+import org.reactome.release.verifier.Verifier;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * @author agent (agent@local)
+ * Created 10/17/2026
+ */
+public class VerificationOrchestratorTest {
+
+    @Test
+    public void resultsAreKeptPerStepInOrder() throws IOException {
+        Map<String, Results> stepResults = new VerificationOrchestrator(2).verifyAll(Arrays.asList(
+            new StubVerifier("first", null), new StubVerifier("second", "missing file")));
+
+        assertThat(stepResults.keySet().toArray(), equalTo(new Object[] {"first", "second"}));
+        assertThat(stepResults.get("first").hasErrors(), equalTo(false));
+        assertThat(stepResults.get("second").getErrorMessages(), equalTo(Collections.singletonList("missing file")));
+    }
+
+    @Test
+    public void combinedMessagesNameTheirStep() throws IOException {
+        Map<String, Results> stepResults = new VerificationOrchestrator(1).verifyAll(
+            Collections.singletonList(new StubVerifier("step", "missing file")));
+
+        assertThat(VerificationOrchestrator.combine(stepResults).getErrorMessages(),
+            equalTo(Collections.singletonList("[step] missing file")));
+    }
+
+    @Test
+    public void failingStepIsReportedAsError() throws IOException {
+        Verifier failingVerifier = new StubVerifier("failing", null) {
+            @Override
+            public Results verifyStepRanCorrectly() throws IOException {
+                throw new IOException("unreachable");
+            }
+        };
+
+        Map<String, Results> stepResults = new VerificationOrchestrator(2).verifyAll(
+            Arrays.asList(failingVerifier, new StubVerifier("other", null)));
+
+        assertThat(stepResults.get("failing").hasErrors(), equalTo(true));
+        assertThat(stepResults.get("other").hasErrors(), equalTo(false));
+    }
+
+    private static class StubVerifier implements Verifier {
+        private final String stepName;
+        private final String errorMessage;
+
+        private StubVerifier(String stepName, String errorMessage) {
+            this.stepName = stepName;
+            this.errorMessage = errorMessage;
+        }
+
+        @Override
+        public ParsedArguments parseCommandLineArgs(String[] args) {
+            return null;
+        }
+
+        @Override
+        public List<CommandLineParameter> getCommandLineParameters() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Results verifyStepRanCorrectly() throws IOException {
+            Results results = new Results();
+            if (this.errorMessage != null) {
+                results.addErrorMessage(this.errorMessage);
+            } else {
+                results.addInfoMessage("ok");
+            }
+            return results;
+        }
+
+        @Override
+        public String getStepName() {
+            return this.stepName;
+        }
+    }
+}